@@ -1,10 +1,21 @@
 package seedu.finbro;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import seedu.finbro.batch.BatchRunner;
 import seedu.finbro.logic.command.Command;
 import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
+import seedu.finbro.server.FinBroServer;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
@@ -13,24 +24,56 @@ import seedu.finbro.ui.Ui;
  */
 public class FinBro {
     private static final Logger logger = Logger.getLogger(FinBro.class.getName());
+    private static final String COMPRESS_FLAG = "--compress";
+    private static final String PARTITION_FLAG = "--partitioned";
+    private static final String SERVER_FLAG = "--server";
+    private static final String PORT_OPTION = "--port=";
+    private static final String BATCH_FLAG = "--batch";
+    private static final String QUIET_FLAG = "--quiet";
+    private static final int LOADER_THREADS = 3;
 
     private final Ui ui;
     private final Storage storage;
     private final Parser parser;
     private TransactionManager transactionManager;
 
+    // Completes with the loaded ledger; null once it has been swapped in
+    private CompletableFuture<TransactionManager> transactionsReady;
+    // Completes once budgets and savings goals are loaded into the current manager
+    private CompletableFuture<Void> settingsReady;
+    // The last day whose due recurring transactions were added
+    private LocalDate recurringCaughtUpTo;
+
     /**
      * Constructs a new FinBro application with default components.
      */
     public FinBro() {
+        this(new Storage());
+    }
+
+    /**
+     * Constructs a new FinBro application that persists data through the given storage.
+     *
+     * @param storage The storage to load and save data with
+     */
+    public FinBro(Storage storage) {
         logger.info("Initializing FinBro application");
         ui = new Ui();
-        storage = new Storage();
+        this.storage = storage;
         parser = new Parser();
         transactionManager = new TransactionManager();
         logger.fine("FinBro components initialized");
     }
 
+    /**
+     * Sets whether the output leaves out the separator lines, for output read by other programs.
+     *
+     * @param isQuiet true to leave out the separator lines
+     */
+    public void setQuiet(boolean isQuiet) {
+        ui.setQuiet(isQuiet);
+    }
+
     /**
      * Runs the application.
      */
@@ -44,22 +87,119 @@ public class FinBro {
 
     /**
      * Starts the application.
+     * The ledger, budgets and savings goals are loaded concurrently in the background, so the first
+     * prompt appears immediately. Budgets and savings goals are loaded into an interim manager, which
+     * commands that do not need transactions use until the ledger is ready. Recurring rules are loaded
+     * with the ledger, since their occurrences are added to it.
      */
     private void start() {
         logger.fine("Displaying welcome message");
         ui.showWelcome();
+
+        logger.fine("Loading transaction data in the background");
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "finbro-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The two settings loads only touch the budget and the savings goal maps respectively
+        TransactionManager settingsManager = new TransactionManager();
+        transactionManager = settingsManager;
+        transactionsReady = CompletableFuture.supplyAsync(() -> {
+            TransactionManager ledger = storage.loadTransactions();
+            storage.loadRecurringRules(ledger);
+            return ledger;
+        }, loader);
+        settingsReady = CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> storage.loadBudgets(settingsManager), loader),
+                CompletableFuture.runAsync(() -> storage.loadSavingsGoals(settingsManager), loader));
+        loader.shutdown();
+    }
+
+    /**
+     * Returns a future that completes with the loaded ledger.
+     * Budgets and savings goals are merged into it on the command thread when a command first needs it.
+     *
+     * @return The future of the loaded ledger, or a completed future once it has been swapped in
+     */
+    public CompletableFuture<TransactionManager> getTransactionsReady() {
+        return transactionsReady != null ? transactionsReady : CompletableFuture.completedFuture(transactionManager);
+    }
+
+    /**
+     * Waits until budgets and savings goals are loaded.
+     *
+     * @return The transaction manager holding the budgets and savings goals
+     */
+    private TransactionManager awaitSettings() {
+        if (settingsReady != null) {
+            try {
+                settingsReady.join();
+            } catch (CompletionException e) {
+                showLoadingError(e);
+            } finally {
+                settingsReady = null;
+            }
+        }
+        return transactionManager;
+    }
+
+    /**
+     * Waits until the ledger is loaded and swaps it in, keeping the budgets and savings goals
+     * loaded or changed in the meantime. Adds the recurring transactions that fell due since the last
+     * command, when the application starts or runs past midnight.
+     *
+     * @return The transaction manager holding the ledger
+     */
+    private TransactionManager awaitTransactions() {
+        TransactionManager ledger = swapInTransactions();
+        LocalDate today = LocalDate.now();
+        if (!today.equals(recurringCaughtUpTo)) {
+            recurringCaughtUpTo = today;
+            List<Transaction> added = storage.addDueRecurringTransactions(ledger, today);
+            if (!added.isEmpty()) {
+                ui.showMessage("Added " + added.size() + " recurring transaction" + (added.size() == 1 ? "" : "s")
+                        + " due by today.");
+            }
+        }
+        return ledger;
+    }
+
+    /**
+     * Waits until the ledger is loaded and swaps it in, keeping the budgets and savings goals
+     * loaded or changed in the meantime.
+     *
+     * @return The transaction manager holding the ledger
+     */
+    private TransactionManager swapInTransactions() {
+        TransactionManager settingsManager = awaitSettings();
+        if (transactionsReady == null) {
+            return transactionManager;
+        }
+
         try {
-            logger.fine("Loading transaction data");
-            transactionManager = storage.loadTransactions();
-            storage.loadBudgets(transactionManager);
-            storage.loadSavingsGoals(transactionManager);
+            TransactionManager ledger = transactionsReady.join();
+            ledger.copyBudgetsAndSavingsGoalsFrom(settingsManager);
+            transactionManager = ledger;
             logger.info("Transaction data loaded successfully");
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error loading transaction data", e);
-            ui.showError("Problem loading data: " + e.getMessage());
-            logger.info("Initializing with empty transaction manager");
-            transactionManager = new TransactionManager(); // Start with empty data if loading fails
+        } catch (CompletionException e) {
+            showLoadingError(e);
+            logger.info("Continuing with an empty ledger");
+        } finally {
+            transactionsReady = null;
         }
+        return transactionManager;
+    }
+
+    /**
+     * Reports a failure of a background load.
+     *
+     * @param e The exception thrown by the load
+     */
+    private void showLoadingError(CompletionException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        logger.log(Level.SEVERE, "Error loading transaction data", cause);
+        ui.showError("Problem loading data: " + cause.getMessage());
     }
 
     /**
@@ -77,8 +217,9 @@ public class FinBro {
                 Command command = parser.parseCommandWord(userInput, ui);
                 logger.fine("Command parsed: " + command.getClass().getSimpleName());
 
-                String result = command.execute(transactionManager, ui, storage);
-                logger.fine("Command execution result: " + result);
+                TransactionManager manager = command.requiresTransactions() ? awaitTransactions() : awaitSettings();
+                String result = command.execute(manager, ui, storage);
+                logger.fine("Command execution result has " + result.length() + " characters");
 
                 ui.showMessage(result);
                 isExit = command.isExit();
@@ -98,17 +239,56 @@ public class FinBro {
      */
     private void exit() {
         logger.fine("Showing goodbye message");
+        ui.flush();
     }
 
     /**
      * Main entry point of the application.
      *
      * @param args Command line arguments
+     * @throws IOException if server mode cannot bind its port or the batch file cannot be read
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         LoggingConfig.init();
         logger.info("FinBro main method invoked");
-        new FinBro().run();
+
+        Storage storage = new Storage();
+        boolean isServerMode = false;
+        int port = FinBroServer.DEFAULT_PORT;
+        Path batchFile = null;
+        boolean isQuiet = false;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (BATCH_FLAG.equals(arg) && i + 1 < args.length) {
+                batchFile = Path.of(args[++i]);
+            } else if (QUIET_FLAG.equals(arg)) {
+                isQuiet = true;
+            } else if (COMPRESS_FLAG.equals(arg)) {
+                storage.setCompressionEnabled(true);
+            } else if (PARTITION_FLAG.equals(arg)) {
+                storage.setPartitioningEnabled(true);
+            } else if (SERVER_FLAG.equals(arg)) {
+                isServerMode = true;
+            } else if (arg.startsWith(PORT_OPTION)) {
+                try {
+                    port = Integer.parseInt(arg.substring(PORT_OPTION.length()));
+                } catch (NumberFormatException e) {
+                    logger.warning("Ignoring invalid port: " + arg);
+                }
+            } else {
+                logger.warning("Ignoring unknown argument: " + arg);
+            }
+        }
+
+        if (batchFile != null) {
+            BatchRunner.launch(storage, batchFile, isQuiet);
+        } else if (isServerMode) {
+            FinBroServer.launch(storage, port);
+        } else {
+            FinBro finBro = new FinBro(storage);
+            finBro.setQuiet(isQuiet);
+            finBro.run();
+        }
     }
 }
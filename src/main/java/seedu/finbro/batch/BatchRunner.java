@@ -0,0 +1,191 @@
+package seedu.finbro.batch;
+
+import seedu.finbro.logic.command.Command;
+import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a file of commands without a console and saves the changes once at the end.
+ * Every line holds a command, usually in its one-line form such as
+ * {@code expense 12.50 d/lunch c/food t/work date/2026-01-02}; commands in their interactive form are
+ * followed by the answers to their prompts. Blank lines and lines starting with {@value #COMMENT_PREFIX}
+ * are skipped, duplicate transactions are accepted without confirmation, and an exit command ends the batch.
+ */
+public class BatchRunner {
+    private static final Logger logger = Logger.getLogger(BatchRunner.class.getName());
+    private static final String COMMENT_PREFIX = "#";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final TransactionManager transactionManager;
+    private final Storage storage;
+    private final PrintStream output;
+    private final Charset charset;
+    private boolean isQuiet = false;
+
+    /**
+     * Constructs a batch runner for the given ledger that prints to a stream encoding text with the
+     * default charset, such as System.out.
+     *
+     * @param transactionManager The ledger to run the commands against
+     * @param storage The storage to save the changes with
+     * @param output The stream the commands print to
+     */
+    public BatchRunner(TransactionManager transactionManager, Storage storage, PrintStream output) {
+        this(transactionManager, storage, output, Charset.defaultCharset());
+    }
+
+    /**
+     * Constructs a batch runner for the given ledger.
+     *
+     * @param transactionManager The ledger to run the commands against
+     * @param storage The storage to save the changes with
+     * @param output The stream the commands print to
+     * @param charset The charset the output stream encodes text with
+     */
+    public BatchRunner(TransactionManager transactionManager, Storage storage, PrintStream output,
+            Charset charset) {
+        assert transactionManager != null : "TransactionManager cannot be null";
+        assert storage != null : "Storage cannot be null";
+        this.transactionManager = transactionManager;
+        this.storage = storage;
+        this.output = output;
+        this.charset = charset;
+    }
+
+    /**
+     * Sets whether the output leaves out the separator lines, for output read by other programs.
+     *
+     * @param isQuiet true to leave out the separator lines
+     */
+    public void setQuiet(boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Runs the commands read from the scanner, followed by a single save of everything they changed.
+     *
+     * @param scanner The scanner to read the commands from
+     * @return The number of commands run and the time taken, including the save
+     */
+    public Result run(Scanner scanner) {
+        Ui ui = new Ui(scanner, output, charset);
+        ui.setAcceptingDuplicates(true);
+        ui.setQuiet(isQuiet);
+        Parser parser = new Parser();
+        int commands = 0;
+        int failures = 0;
+
+        long begin = System.nanoTime();
+        storage.beginBatch();
+        try {
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine().trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                commands++;
+                try {
+                    Command command = parser.parseCommandWord(line, ui);
+                    ui.showMessage(command.execute(transactionManager, ui, storage));
+                    if (command.isExit()) {
+                        logger.info("Exit command ends the batch");
+                        break;
+                    }
+                } catch (NoSuchElementException e) {
+                    failures++;
+                    ui.showError("The file ended before all prompts of '" + line + "' were answered.");
+                } catch (Exception e) {
+                    failures++;
+                    logger.log(Level.SEVERE, "Error executing command: " + line, e);
+                    ui.showError("An error occurred: " + e.getMessage());
+                }
+            }
+        } finally {
+            ui.flush();
+            storage.endBatch();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        Result result = new Result(commands, failures, elapsed);
+        logger.info("Batch finished: " + result);
+        return result;
+    }
+
+    /**
+     * Loads the data of the given storage, runs a batch file against it and prints the throughput.
+     *
+     * @param storage The storage to load and save data with
+     * @param file The file of commands to run
+     * @param isQuiet true to leave out the separator lines
+     * @throws IOException if the file cannot be read
+     */
+    public static void launch(Storage storage, Path file, boolean isQuiet) throws IOException {
+        TransactionManager transactionManager = storage.loadTransactions();
+        storage.loadBudgets(transactionManager);
+        storage.loadSavingsGoals(transactionManager);
+        storage.loadRecurringRules(transactionManager);
+        storage.addDueRecurringTransactions(transactionManager, LocalDate.now());
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                Scanner scanner = new Scanner(reader)) {
+            BatchRunner runner = new BatchRunner(transactionManager, storage, System.out);
+            runner.setQuiet(isQuiet);
+            Result result = runner.run(scanner);
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * The outcome of a batch run.
+     */
+    public static class Result {
+        private final int commands;
+        private final int failures;
+        private final long elapsedNanos;
+
+        Result(int commands, int failures, long elapsedNanos) {
+            this.commands = commands;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommands() {
+            return commands;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Returns the number of commands run per second, including the final save.
+         *
+         * @return The throughput
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commands * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %d commands (%d failed) in %.1f ms, %.1f commands/s",
+                    commands, failures, elapsedNanos / NANOS_PER_MILLI, getCommandsPerSecond());
+        }
+    }
+}
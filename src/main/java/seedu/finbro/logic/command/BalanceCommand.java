@@ -4,17 +4,39 @@ import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
-import java.text.DecimalFormat;
+import java.time.LocalDate;
 import java.util.logging.Logger;
 
 /**
  * Represents a command to view the current balance.
  * This command calculates and displays the current balance,
- * which is the sum of all income transactions minus the sum of all expense transactions.
+ * which is the sum of all income transactions minus the sum of all expense transactions,
+ * either over all time or over a range of dates.
  */
 public class BalanceCommand implements Command {
     private static final Logger logger = Logger.getLogger(BalanceCommand.class.getName());
-    private static final DecimalFormat CURRENCY_FORMAT = new DecimalFormat("$#,##0.00");
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Constructs a BalanceCommand for all transactions.
+     */
+    public BalanceCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Constructs a BalanceCommand for the transactions from one date to another, both inclusive.
+     *
+     * @param startDate The first date, or null for all transactions
+     * @param endDate The last date, or null for all transactions
+     */
+    public BalanceCommand(LocalDate startDate, LocalDate endDate) {
+        assert (startDate == null) == (endDate == null) : "Give both dates or neither";
+        assert startDate == null || !startDate.isAfter(endDate) : "Start date cannot be after end date";
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
 
     /**
      * Executes the command to view the current balance.
@@ -33,6 +55,15 @@ public class BalanceCommand implements Command {
 
         logger.info("Executing balance command");
 
+        if (startDate != null) {
+            double income = transactionManager.getTotalIncome(startDate, endDate);
+            double expenses = transactionManager.getTotalExpenses(startDate, endDate);
+            return "Balance from " + startDate + " to " + endDate + ": "
+                    + seedu.finbro.util.CurrencyFormatter.format(income - expenses) + "\n"
+                    + "Total Income: " + seedu.finbro.util.CurrencyFormatter.format(income) + "\n"
+                    + "Total Expenses: " + seedu.finbro.util.CurrencyFormatter.format(expenses);
+        }
+
         double balance = transactionManager.getBalance();
         double totalIncome = transactionManager.getTotalIncome();
         double totalExpenses = transactionManager.getTotalExpenses();
@@ -59,4 +90,14 @@ public class BalanceCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only shows the balance.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
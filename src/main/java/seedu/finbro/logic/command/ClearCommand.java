@@ -36,9 +36,11 @@ public class ClearCommand implements Command {
 
         transactionManager.clearTransactions();
         transactionManager.clearBudgetsAndSavingsGoals(); // Add this line
+        transactionManager.clearRecurringRules();
         storage.saveTransactions(transactionManager);
         storage.saveBudgets(transactionManager); // Save the cleared budgets
         storage.saveSavingsGoals(transactionManager); // Save the cleared savings goals
+        storage.saveRecurringRules(transactionManager);
         return "All data has been cleared.";
     }
 
@@ -24,4 +24,24 @@ public interface Command {
      * @return true if the command is an exit command
      */
     boolean isExit();
+
+    /**
+     * Returns true if the command reads or changes transactions, so it has to wait until the ledger is loaded.
+     * Commands that only touch budgets and savings goals can run while the ledger is still loading.
+     *
+     * @return true if the command needs the loaded transactions
+     */
+    default boolean requiresTransactions() {
+        return true;
+    }
+
+    /**
+     * Returns true if the command never changes transactions, budgets, savings goals or files,
+     * so it may run at the same time as other read-only commands.
+     *
+     * @return true if the command only reads data
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
 }
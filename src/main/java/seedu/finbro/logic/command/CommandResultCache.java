@@ -0,0 +1,123 @@
+package seedu.finbro.logic.command;
+
+import seedu.finbro.util.DateUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A small least-recently-used cache of the output of the summary, trackbudget and tracksavings commands,
+ * keyed by command and month. Every result is stored with the version of its month
+ * (see {@link seedu.finbro.model.TransactionManager#getMonthVersion(int, int)}), so a change to a month
+ * only invalidates the results of that month. Thread-safe; results are computed outside the lock.
+ */
+public final class CommandResultCache {
+    static final int DEFAULT_CAPACITY = 32;
+    private static final Logger logger = Logger.getLogger(CommandResultCache.class.getName());
+    private static final CommandResultCache shared = new CommandResultCache(DEFAULT_CAPACITY);
+
+    private final Map<String, Entry> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param capacity The maximum number of results kept
+     */
+    CommandResultCache(int capacity) {
+        assert capacity > 0 : "Capacity must be positive";
+        this.entries = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by all commands.
+     *
+     * @return The shared cache
+     */
+    public static CommandResultCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Returns the cached result of a command for a month, or computes and caches it if there is no result
+     * for the current version of the month.
+     *
+     * @param command The command and any options that change its output
+     * @param month The month (1-12)
+     * @param year The year
+     * @param version The version of the month, read before computing the result
+     * @param computation Computes the result
+     * @return The result
+     */
+    String getOrCompute(String command, int month, int year, long version, Supplier<String> computation) {
+        String key = command + " " + DateUtil.yearMonthKey(year, month);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits++;
+                logger.fine("Reusing result of " + key);
+                return entry.result;
+            }
+            misses++;
+        }
+        String result = computation.get();
+        synchronized (this) {
+            entries.put(key, new Entry(version, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of results that were reused.
+     *
+     * @return The number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of results that had to be computed.
+     *
+     * @return The number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of results kept.
+     *
+     * @return The number of cached results
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all results and resets the counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final String result;
+
+        private Entry(long version, String result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
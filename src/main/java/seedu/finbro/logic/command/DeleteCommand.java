@@ -1,5 +1,6 @@
 package seedu.finbro.logic.command;
 
+import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
@@ -41,16 +42,14 @@ public class DeleteCommand implements Command {
                 return "Invalid index range. There are only " + total + " transactions.";
             }
 
+            // Delete the transactions shown under these numbers, whatever their position in the ledger
+            List<Transaction> listed = transactionManager.listTransactions(endIndex);
+            List<Transaction> toDelete = listed.subList(startIndex - INDEX_OFFSET, endIndex);
             List<String> deletedTransactions = new ArrayList<>();
-            for (int i = startIndex; i <= endIndex; i++) {
-                String transactionStr = transactionManager.listTransactions().get(i - INDEX_OFFSET).toString();
-                deletedTransactions.add(transactionStr);
-            }
-
-            //Delete in reverse to avoid index shifting issues
-            for (int i = endIndex; i >= startIndex; i--) {
-                transactionManager.deleteTransaction(i);
+            for (Transaction transaction : toDelete) {
+                deletedTransactions.add(transaction.toString());
             }
+            transactionManager.deleteTransactions(toDelete);
 
             StringBuilder result = new StringBuilder("Deleted transactions:\n");
             for (String transaction : deletedTransactions) {
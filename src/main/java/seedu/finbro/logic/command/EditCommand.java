@@ -1,14 +1,15 @@
 package seedu.finbro.logic.command;
 
+import seedu.finbro.model.BudgetAlert;
 import seedu.finbro.model.Expense;
 import seedu.finbro.model.Income;
 import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
+import seedu.finbro.util.DateUtil;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,15 +52,20 @@ public class EditCommand implements Command {
     public String execute(TransactionManager transactionManager, Ui ui, Storage storage) {
         logger.info("Executing EditCommand with index: " + index);
 
-        List<Transaction> transactions = transactionManager.listTransactions();
+        int total = transactionManager.getTransactionCount();
 
         // Check if index is valid
-        if (index <= 0 || index > transactions.size()) {
+        if (index <= 0 || index > total) {
             logger.warning("Invalid index: " + index);
-            return "Invalid index. Please provide an index between 1 and " + (transactions.size() + ".");
+            return "Invalid index. Please provide an index between 1 and " + (total + ".");
         }
 
-        // Get the transaction at the specified index
+        // Get the transaction at the specified index, loading only the latest years up to it
+        List<Transaction> transactions = transactionManager.listTransactions(index);
+        if (index > transactions.size()) {
+            logger.warning("Invalid index: " + index);
+            return "Invalid index. Please provide an index between 1 and " + (transactions.size() + ".");
+        }
         Transaction originalTransaction = transactions.get(index - INDEX_OFFSET);
         Transaction updatedTransaction = createUpdatedTransaction(originalTransaction);
 
@@ -68,7 +74,11 @@ public class EditCommand implements Command {
             if (success) {
                 logger.info("Transaction updated successfully");
                 storage.saveTransactions(transactionManager);
-                return "Transaction updated successfully:\n" + updatedTransaction;
+                String result = "Transaction updated successfully:\n" + updatedTransaction;
+                for (BudgetAlert alert : transactionManager.takeBudgetAlerts()) {
+                    result += "\n" + alert.getMessage();
+                }
+                return result;
             } else {
                 logger.warning("Failed to update transaction");
             }
@@ -100,7 +110,7 @@ public class EditCommand implements Command {
             }
 
             if (parameters.containsKey("date")) {
-                date = LocalDate.parse(parameters.get("date"), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+                date = DateUtil.parseIsoDate(parameters.get("date"));
             }
 
             if (parameters.containsKey("t")) {
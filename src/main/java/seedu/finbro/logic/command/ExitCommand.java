@@ -31,4 +31,14 @@ public class ExitCommand implements Command {
     public boolean isExit() {
         return true;
     }
+
+    /**
+     * Returns false since it only exits the application.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresTransactions() {
+        return false;
+    }
 }
@@ -1,10 +1,12 @@
 package seedu.finbro.logic.command;
 
+import seedu.finbro.model.BudgetAlert;
 import seedu.finbro.model.Expense;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -15,6 +17,7 @@ public class ExpenseCommand implements Command {
     private final String description;
     private final Expense.Category category;
     private final List<String> tags;
+    private final LocalDate date;
 
     /**
      * Constructs an ExpenseCommand with the specified amount, description, category, and tags.
@@ -25,6 +28,20 @@ public class ExpenseCommand implements Command {
      * @param tags        The tags for the expense
      */
     public ExpenseCommand(double amount, String description, Expense.Category category, List<String> tags) {
+        this(amount, description, category, tags, null);
+    }
+
+    /**
+     * Constructs an ExpenseCommand for an expense on the given date.
+     *
+     * @param amount      The expense amount
+     * @param description The expense description
+     * @param category    The expense category
+     * @param tags        The tags for the expense
+     * @param date        The date of the expense, or null for today
+     */
+    public ExpenseCommand(double amount, String description, Expense.Category category, List<String> tags,
+            LocalDate date) {
         assert amount > 0 : "Expense amount must be greater than zero";
         assert description != null : "Description cannot be null";
         assert !description.trim().isEmpty() : "Description cannot be empty";
@@ -32,6 +49,7 @@ public class ExpenseCommand implements Command {
         this.description = description;
         this.category = category;
         this.tags = tags;
+        this.date = date;
     }
 
     /**
@@ -48,7 +66,9 @@ public class ExpenseCommand implements Command {
         assert ui != null : "UI cannot be null";
         assert storage != null : "Storage cannot be null";
         
-        Expense expense = new Expense(amount, description, category, tags);
+        Expense expense = date == null
+                ? new Expense(amount, description, category, tags)
+                : new Expense(amount, description, date, category, tags);
         //if the list of this transaction's duplicates is NOT empty, warn the user
         if (!transactionManager.getTransactionDuplicates(amount, description).isEmpty()) {
             //if the user wishes to cancel the transaction, they will enter "no" which will return false
@@ -60,18 +80,10 @@ public class ExpenseCommand implements Command {
         storage.saveTransactions(transactionManager);
         String result = "New expense added: " + expense;
 
-        //Uncomment to test budget tracking
-        /*
-        double budget = transactionManager.getBudget(expense.getDate().getMonthValue(), expense.getDate().getYear());
-        if (budget != -1.0) {
-            double totalExpense = transactionManager.getMonthlyTotalExpense(expense.getDate().getMonthValue(),
-                    expense.getDate().getYear());
-            if (totalExpense > budget) {
-                result +=  String.format("\nWarning: You have exceeded your budget of $%.2f for this month", budget);
-            }
+        // Warn right away when this expense pushed the month over a line of its budget
+        for (BudgetAlert alert : transactionManager.takeBudgetAlerts()) {
+            result += "\n" + alert.getMessage();
         }
-        */
-
         return result;
     }
 
@@ -54,13 +54,8 @@ public class FilterCommand implements Command {
         }
 
         logger.info("Generating filtered transactions display");
-        StringBuilder response = new StringBuilder("Showing transactions from " +
-                startDate + " to " + endDate + ":\n");
-        for (int i = 0; i < filteredTransactions.size(); i++) {
-            response.append(i + 1).append(". ").append(filteredTransactions.get(i)).append("\n");
-        }
-
-        return response.toString().trim();
+        return TransactionListRenderer.render(ui, "Showing transactions from " + startDate + " to " + endDate + ":",
+                filteredTransactions, 1, false);
     }
 
     /**
@@ -72,4 +67,14 @@ public class FilterCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only filters transactions.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -27,13 +27,18 @@ public class HelpCommand implements Command {
                 "edit     => Edit a transaction (prompts for index and fields to update)\n" +
                 "filter   => Filter transactions by date (prompts for start/end dates)\n" +
                 "search   => Search transactions (prompts for keyword)\n" +
-                "balance/view  => View current balance\n" +
-                "summary  => View financial summary (prompts for month/year)\n" +
+                "balance/view  => View current balance (or balance from/DATE [to/DATE], balance last/90d)\n" +
+                "summary  => View financial summary (prompts for month/year, or summary from/DATE / last/90d)\n" +
+                "report   => View a monthly report of the last 12 months " +
+                "(or report [csv] [from/YYYY-MM] [to/YYYY-MM] [n/MONTHS])\n" +
                 "setbudget => Set a monthly budget (prompts for month/year and amount)\n" +
                 "trackbudget => Track your budget progress (prompts for month/year)\n" +
                 "setsavings => Set a savings goal (prompts for month/year and amount)\n" +
                 "tracksavings => Track your savings progress (prompts for month/year)\n" +
+                "recurring => List recurring transactions (or recurring income|expense AMOUNT d/DESC every/1m " +
+                "[from/DATE], recurring delete ID)\n" +
                 "export   => Export data (prompts for format: csv or txt)\n" +
+                "import   => Import transactions from a CSV file (prompts for the file path)\n" +
                 "clear    => Clear all data (with confirmation)\n" +
                 "exit     => Exit the program\n" +
                 "help     => Show this help message";
@@ -48,4 +53,24 @@ public class HelpCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns false since it only shows the help text.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresTransactions() {
+        return false;
+    }
+
+    /**
+     * Returns true since it only shows the help text.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
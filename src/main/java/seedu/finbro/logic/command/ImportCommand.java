@@ -0,0 +1,88 @@
+package seedu.finbro.logic.command;
+
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.CsvImporter;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to import transactions from a CSV file.
+ */
+public class ImportCommand implements Command {
+    private static final Logger logger = Logger.getLogger(ImportCommand.class.getName());
+    private static final int MAX_REJECTS_SHOWN = 10;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final String filePath;
+
+    /**
+     * Constructs an ImportCommand for the given file.
+     *
+     * @param filePath The path of the CSV file to import
+     */
+    public ImportCommand(String filePath) {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be empty";
+        this.filePath = filePath.trim();
+    }
+
+    /**
+     * Executes the command to import the transactions of the file.
+     *
+     * @param transactionManager The transaction manager to add the transactions to
+     * @param ui                 The UI to interact with the user
+     * @param storage            The storage to read the file and save data with
+     * @return The number of imported rows, the import rate and the rejected rows
+     */
+    @Override
+    public String execute(TransactionManager transactionManager, Ui ui, Storage storage) {
+        assert transactionManager != null : "TransactionManager cannot be null";
+        assert storage != null : "Storage cannot be null";
+
+        long begin = System.nanoTime();
+        CsvImporter.Result result;
+        try {
+            result = storage.importFromCsv(filePath, transactionManager);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error importing " + filePath, e);
+            return "Error importing data: " + e.getMessage();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        double rowsPerSecond = elapsed == 0 ? 0 : result.getRows() * NANOS_PER_SECOND / elapsed;
+        StringBuilder message = new StringBuilder(String.format(
+                "Imported %d of %d rows from %s in %.1f ms (%.1f rows/s).",
+                result.getTransactions().size(), result.getRows(), filePath, elapsed / NANOS_PER_MILLI,
+                rowsPerSecond));
+        if (result.getDuplicates() > 0) {
+            message.append("\nSkipped ").append(result.getDuplicates()).append(" duplicate rows.");
+        }
+
+        List<String> rejects = result.getRejects();
+        if (!rejects.isEmpty()) {
+            message.append("\nRejected ").append(rejects.size()).append(" rows:");
+            for (String reject : rejects.subList(0, Math.min(rejects.size(), MAX_REJECTS_SHOWN))) {
+                message.append("\n  ").append(reject);
+            }
+            if (rejects.size() > MAX_REJECTS_SHOWN) {
+                message.append("\n  ... and ").append(rejects.size() - MAX_REJECTS_SHOWN).append(" more");
+            }
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns false since this is not an exit command.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
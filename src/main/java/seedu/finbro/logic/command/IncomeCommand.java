@@ -5,6 +5,7 @@ import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -14,6 +15,7 @@ public class IncomeCommand implements Command {
     private final double amount;
     private final String description;
     private final List<String> tags;
+    private final LocalDate date;
 
     /**
      * Constructs an IncomeCommand with the specified amount, description, and tags.
@@ -23,9 +25,22 @@ public class IncomeCommand implements Command {
      * @param tags        The tags for the income
      */
     public IncomeCommand(double amount, String description, List<String> tags) {
+        this(amount, description, tags, null);
+    }
+
+    /**
+     * Constructs an IncomeCommand for an income on the given date.
+     *
+     * @param amount      The income amount
+     * @param description The income description
+     * @param tags        The tags for the income
+     * @param date        The date of the income, or null for today
+     */
+    public IncomeCommand(double amount, String description, List<String> tags, LocalDate date) {
         this.amount = amount;
         this.description = description;
         this.tags = tags;
+        this.date = date;
     }
 
     /**
@@ -38,7 +53,9 @@ public class IncomeCommand implements Command {
      */
     @Override
     public String execute(TransactionManager transactionManager, Ui ui, Storage storage) {
-        Income income = new Income(amount, description, tags);
+        Income income = date == null
+                ? new Income(amount, description, tags)
+                : new Income(amount, description, date, tags);
         //if the list of this transaction's duplicates is NOT empty, warn the user
         if (!transactionManager.getTransactionDuplicates(amount, description).isEmpty()) {
             //if the user wishes to cancel the transaction, they will enter "no" which will return false
@@ -17,6 +17,8 @@ public class ListCommand implements Command {
     private static final int INDEX_OFFSET = 1;
     private final Integer limit;
     private final LocalDate date;
+    private final Integer page;
+    private final Integer pageSize;
 
     /**
      * Constructs a ListCommand with optional limit and date.
@@ -25,9 +27,25 @@ public class ListCommand implements Command {
      * @param date  The date to filter transactions by, or null for all dates
      */
     public ListCommand(Integer limit, LocalDate date) {
+        this(limit, date, null, null);
+    }
+
+    /**
+     * Constructs a ListCommand with optional limit, date and page.
+     *
+     * @param limit    The maximum number of transactions to list, or null for all
+     * @param date     The date to filter transactions by, or null for all dates
+     * @param page     The page to show, starting from 1, or null to show all pages
+     * @param pageSize The number of transactions on a page, required if a page is given
+     */
+    public ListCommand(Integer limit, LocalDate date, Integer page, Integer pageSize) {
+        assert page == null || (page > 0 && pageSize != null && pageSize > 0) : "Invalid page";
         this.limit = limit;
         this.date = date;
-        logger.fine("Constructed ListCommand with limit=" + limit + ", date=" + date);
+        this.page = page;
+        this.pageSize = pageSize;
+        logger.fine("Constructed ListCommand with limit=" + limit + ", date=" + date + ", page=" + page
+                + ", pageSize=" + pageSize);
     }
 
     /**
@@ -35,8 +53,7 @@ public class ListCommand implements Command {
      * This maintains backward compatibility with existing code.
      */
     public ListCommand() {
-        this.limit = null;
-        this.date = null;
+        this(null, null);
         logger.fine("Constructed ListCommand with default constructor");
     }
 
@@ -53,9 +70,10 @@ public class ListCommand implements Command {
         logger.info("Executing ListCommand");
 
         List<Transaction> transactionsToList;
-        int totalTransactionCount = transactionManager.getTransactionCount();
-        StringBuilder response = new StringBuilder();
+        StringBuilder header = new StringBuilder();
         boolean limitExceeded = false;
+        int firstIndex = 0;
+        int pageCount = 0;
 
         if (date != null) {
             logger.fine("Filtering transactions from date: " + date);
@@ -67,38 +85,79 @@ public class ListCommand implements Command {
                 logger.fine("Limiting to " + limit + " transactions after filtering by date");
                 transactionsToList = transactionsToList.subList(0, Math.min(limit, transactionsToList.size()));
             }
-        } else if (limit != null) {
-            logger.fine("Limiting to " + limit + " most recent transactions");
-            if (limit > totalTransactionCount) {
-                limitExceeded = true;
+            if (transactionsToList.isEmpty()) {
+                logger.info("No transactions found");
+                return "No transactions found.";
+            }
+            if (page != null) {
+                pageCount = (transactionsToList.size() + pageSize - 1) / pageSize;
+                if (page > pageCount) {
+                    return formatPageOutOfRange(pageCount);
+                }
+                firstIndex = (page - 1) * pageSize;
+                transactionsToList = transactionsToList.subList(firstIndex,
+                        Math.min(firstIndex + pageSize, transactionsToList.size()));
             }
-            transactionsToList = transactionManager.listTransactions(limit);
         } else {
-            logger.fine("Listing all transactions");
-            transactionsToList = transactionManager.listTransactions();
-        }
-
-        if (transactionsToList.isEmpty()) {
-            logger.info("No transactions found");
-            return "No transactions found.";
+            // Only the transactions up to the requested page are read, so that only the partitions
+            // of the latest years are loaded; the count comes from the monthly summaries
+            int available = transactionManager.getTransactionCount();
+            if (limit != null) {
+                logger.fine("Limiting to " + limit + " most recent transactions");
+                limitExceeded = limit > available;
+                available = Math.min(limit, available);
+            } else {
+                logger.fine("Listing all transactions");
+            }
+            if (available == 0) {
+                logger.info("No transactions found");
+                return "No transactions found.";
+            }
+            int needed = available;
+            if (page != null) {
+                pageCount = (available + pageSize - 1) / pageSize;
+                if (page > pageCount) {
+                    return formatPageOutOfRange(pageCount);
+                }
+                firstIndex = (page - 1) * pageSize;
+                needed = (int) Math.min(available, (long) page * pageSize);
+            }
+            transactionsToList = transactionManager.listTransactions(needed);
+            transactionsToList = transactionsToList.subList(Math.min(firstIndex, transactionsToList.size()),
+                    transactionsToList.size());
+            if (transactionsToList.isEmpty()) {
+                logger.info("No transactions found");
+                return "No transactions found.";
+            }
         }
 
         if (limitExceeded) {
-            response.append(
+            header.append(
                     "Note: Requested limit exceeds available transactions. Showing all available transactions.\n\n"
             );
         }
-
-        response.append("Here are your transactions:\n");
-        for (int i = 0; i < transactionsToList.size(); i++) {
-            Transaction t = transactionsToList.get(i);
-            logger.finer("Listing transaction: " + t);
-            response.append(i + INDEX_OFFSET).append(". ").append(t);
-            response.append(" (Date created: ").append(t.getDate()).append(")\n");
+        header.append("Here are your transactions");
+        if (page != null) {
+            header.append(" (page ").append(page).append(" of ").append(pageCount).append(")");
         }
+        header.append(":");
 
+        String response = TransactionListRenderer.render(ui, header.toString(), transactionsToList,
+                firstIndex + INDEX_OFFSET, true);
         logger.info("Successfully listed " + transactionsToList.size() + " transactions");
-        return response.toString().trim();
+        return response;
+    }
+
+    /**
+     * Formats the message shown when the requested page is past the last page.
+     *
+     * @param pageCount The number of pages
+     * @return The message
+     */
+    private String formatPageOutOfRange(int pageCount) {
+        logger.info("Page " + page + " is past the last page " + pageCount);
+        return "Page " + page + " is out of range. There are " + pageCount + " pages of " + pageSize
+                + " transactions.";
     }
 
     /**
@@ -110,4 +169,14 @@ public class ListCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only lists transactions.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
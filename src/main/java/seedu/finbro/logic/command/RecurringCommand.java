@@ -0,0 +1,129 @@
+package seedu.finbro.logic.command;
+
+import seedu.finbro.model.RecurringRule;
+import seedu.finbro.model.Transaction;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to add, list or delete recurring transactions such as rent, salaries and subscriptions.
+ * Adding a rule also adds its occurrences that are already due, so a rule that started in the past catches up.
+ */
+public class RecurringCommand implements Command {
+    private static final Logger logger = Logger.getLogger(RecurringCommand.class.getName());
+    private final Transaction template;
+    private final String interval;
+    private final Integer deletedId;
+
+    /**
+     * Constructs a RecurringCommand that lists the recurring rules.
+     */
+    public RecurringCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs a RecurringCommand that adds a recurring rule.
+     *
+     * @param template The first occurrence, whose date is the start of the rule
+     * @param interval The interval, a number followed by d, w, m or y, e.g. {@code 1m}
+     */
+    public RecurringCommand(Transaction template, String interval) {
+        this(template, interval, null);
+        assert template != null : "Template cannot be null";
+        assert RecurringRule.parseInterval(interval) != null : "Interval must be valid";
+    }
+
+    /**
+     * Constructs a RecurringCommand that deletes a recurring rule.
+     *
+     * @param deletedId The id of the rule to delete
+     */
+    public RecurringCommand(int deletedId) {
+        this(null, null, deletedId);
+    }
+
+    private RecurringCommand(Transaction template, String interval, Integer deletedId) {
+        this.template = template;
+        this.interval = interval;
+        this.deletedId = deletedId;
+    }
+
+    /**
+     * Executes the command to add, list or delete recurring rules.
+     *
+     * @param transactionManager The transaction manager holding the rules
+     * @param ui                 The UI to interact with the user
+     * @param storage            The storage to save the rules and the added occurrences
+     * @return The added rule, the list of rules or the result of the deletion
+     */
+    @Override
+    public String execute(TransactionManager transactionManager, Ui ui, Storage storage) {
+        assert transactionManager != null : "TransactionManager cannot be null";
+        assert ui != null : "UI cannot be null";
+        assert storage != null : "Storage cannot be null";
+
+        if (deletedId != null) {
+            logger.info("Deleting recurring rule " + deletedId);
+            if (!transactionManager.removeRecurringRule(deletedId)) {
+                return "No recurring rule with id " + deletedId + ".";
+            }
+            storage.saveRecurringRules(transactionManager);
+            return "Recurring rule " + deletedId + " deleted. Transactions already added are kept.";
+        }
+
+        if (template == null) {
+            return listRules(transactionManager.getRecurringRules());
+        }
+
+        RecurringRule rule = transactionManager.addRecurringRule(template, interval);
+        List<Transaction> added = storage.addDueRecurringTransactions(transactionManager, LocalDate.now());
+        if (added.isEmpty()) {
+            storage.saveRecurringRules(transactionManager);
+        }
+        StringBuilder response = new StringBuilder("New recurring rule added: ").append(rule.getId()).append(". ")
+                .append(template).append(", every ").append(rule.getInterval()).append(" from ")
+                .append(template.getDate());
+        if (!added.isEmpty()) {
+            response.append("\nAdded ").append(added.size()).append(" recurring transaction")
+                    .append(added.size() == 1 ? "" : "s").append(" due by today.");
+        }
+        return response.toString();
+    }
+
+    private static String listRules(List<RecurringRule> rules) {
+        if (rules.isEmpty()) {
+            return "No recurring rules.";
+        }
+        StringBuilder response = new StringBuilder("Recurring rules:");
+        for (RecurringRule rule : rules) {
+            response.append('\n').append(rule.getId()).append(". ").append(rule);
+        }
+        return response.toString();
+    }
+
+    /**
+     * Returns false since this is not an exit command.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true if the command only lists the rules.
+     *
+     * @return true if the command changes no rules
+     */
+    @Override
+    public boolean isReadOnly() {
+        return template == null && deletedId == null;
+    }
+}
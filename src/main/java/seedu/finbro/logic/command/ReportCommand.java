@@ -0,0 +1,130 @@
+package seedu.finbro.logic.command;
+
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.MonthlyReport;
+import seedu.finbro.model.MonthlySummary;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+import seedu.finbro.util.CurrencyFormatter;
+import seedu.finbro.util.DateUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to show the income, expenses, net and budget of every month in a range,
+ * optionally exporting the full report with its category and tag series to a CSV file.
+ */
+public class ReportCommand implements Command {
+    private static final Logger logger = Logger.getLogger(ReportCommand.class.getName());
+    private static final String ROW_FORMAT = "%-8s %14s %14s %14s %14s  %s";
+    private final int fromKey;
+    private final int toKey;
+    private final boolean isExporting;
+
+    /**
+     * Constructs a ReportCommand for the months from fromKey to toKey, both inclusive.
+     *
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @param isExporting true to also export the report to a CSV file
+     */
+    public ReportCommand(int fromKey, int toKey, boolean isExporting) {
+        assert fromKey <= toKey : "Report range cannot be empty";
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.isExporting = isExporting;
+    }
+
+    /**
+     * Executes the command to show the monthly report.
+     *
+     * @param transactionManager The transaction manager to read the monthly totals from
+     * @param ui                 The UI to interact with the user
+     * @param storage            The storage to export the report with
+     * @return The report table, followed by the path of the exported file if exporting
+     */
+    @Override
+    public String execute(TransactionManager transactionManager, Ui ui, Storage storage) {
+        assert transactionManager != null : "TransactionManager cannot be null";
+        assert ui != null : "UI cannot be null";
+        assert storage != null : "Storage cannot be null";
+
+        logger.info("Executing report command from " + DateUtil.formatYearMonthKey(fromKey) + " to "
+                + DateUtil.formatYearMonthKey(toKey));
+        MonthlyReport report = transactionManager.getMonthlyReport(fromKey, toKey);
+
+        StringBuilder response = new StringBuilder();
+        response.append("Monthly report from ").append(DateUtil.formatYearMonthKey(fromKey)).append(" to ")
+                .append(DateUtil.formatYearMonthKey(toKey)).append(" (").append(report.getRows().size())
+                .append(" months):\n");
+        response.append(String.format(ROW_FORMAT, "Month", "Income", "Expenses", "Net", "Budget", "Status"))
+                .append('\n');
+        for (MonthlyReport.Row row : report.getRows()) {
+            response.append(String.format(ROW_FORMAT,
+                    DateUtil.formatYearMonthKey(row.getKey()),
+                    formatCents(row.getIncomeCents()),
+                    formatCents(row.getExpenseCents()),
+                    formatCents(row.getNetCents()),
+                    row.hasBudget() ? formatCents(row.getBudgetCents()) : "-",
+                    !row.hasBudget() ? "" : row.isWithinBudget() ? "within budget" : "over budget").stripTrailing())
+                    .append('\n');
+        }
+        response.append(String.format(ROW_FORMAT, "Total",
+                formatCents(report.getTotalIncomeCents()),
+                formatCents(report.getTotalExpenseCents()),
+                formatCents(report.getTotalIncomeCents() - report.getTotalExpenseCents()), "", "").stripTrailing())
+                .append('\n');
+
+        List<String> categories = new ArrayList<>();
+        report.getCategoryExpenseCents().entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.<Expense.Category, Long>comparingByValue().reversed())
+                .forEach(entry -> categories.add(entry.getKey() + " " + formatCents(entry.getValue())));
+        response.append("\nExpenses by category: ")
+                .append(categories.isEmpty() ? "none" : String.join(", ", categories));
+        if (report.getBudgetedMonths() > 0) {
+            response.append("\nWithin budget in ").append(report.getMonthsWithinBudget()).append(" of ")
+                    .append(report.getBudgetedMonths()).append(" months with a budget.");
+        }
+
+        if (isExporting) {
+            try {
+                response.append("\nReport exported to: ").append(storage.exportReportToCsv(report));
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Error exporting report", e);
+                response.append("\nError exporting report: ").append(e.getMessage());
+            }
+        }
+        return response.toString();
+    }
+
+    private static String formatCents(long cents) {
+        return CurrencyFormatter.format(MonthlySummary.fromCents(cents));
+    }
+
+    /**
+     * Returns false since this is not an exit command.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true unless the report is exported, since it then only reads the monthly totals.
+     *
+     * @return true if the command does not write a file
+     */
+    @Override
+    public boolean isReadOnly() {
+        return !isExporting;
+    }
+}
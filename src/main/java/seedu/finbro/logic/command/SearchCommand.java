@@ -41,23 +41,15 @@ public class SearchCommand implements Command {
         List<Transaction> matchingTransactionsList;
         matchingTransactionsList = transactionManager.getTransactionsContainingKeyword(keyword);
 
-        StringBuilder response = new StringBuilder("Here are the transactions containing the keyword:"
-                + keyword + "\n");
-
-        for (int i = 0; i < matchingTransactionsList.size(); i++) {
-            Transaction t = matchingTransactionsList.get(i);
-            logger.finer("Listing transaction: " + t);
-            response.append(i + INDEX_OFFSET).append(". ").append(t);
-            response.append(" (Date created: ").append(t.getDate()).append(")\n");
-        }
-
         if (matchingTransactionsList.isEmpty()) {
             logger.info("No matching transactions for " + keyword);
             return "No transactions found to contain the keyword: " + "\"" + keyword + "\"";
         }
 
+        String response = TransactionListRenderer.render(ui, "Here are the transactions containing the keyword:"
+                + keyword, matchingTransactionsList, INDEX_OFFSET, true);
         logger.info("Successfully listed " + matchingTransactionsList.size() + " transactions");
-        return response.toString().trim();
+        return response;
     }
 
     /**
@@ -69,4 +61,14 @@ public class SearchCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only searches transactions.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
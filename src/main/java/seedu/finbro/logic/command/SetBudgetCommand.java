@@ -42,4 +42,14 @@ public class SetBudgetCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns false since it only changes budgets.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresTransactions() {
+        return false;
+    }
 }
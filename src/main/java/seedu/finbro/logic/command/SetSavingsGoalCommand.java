@@ -56,4 +56,14 @@ public class SetSavingsGoalCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns false since it only changes savings goals.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresTransactions() {
+        return false;
+    }
 }
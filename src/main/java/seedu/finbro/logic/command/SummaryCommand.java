@@ -1,30 +1,35 @@
 package seedu.finbro.logic.command;
 
-import seedu.finbro.model.Income;
 import seedu.finbro.model.Expense;
-import seedu.finbro.model.TransactionManager;
 import seedu.finbro.model.Transaction;
+import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
+import seedu.finbro.util.TopK;
 
 import java.util.logging.Logger;
 import java.text.DateFormatSymbols;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Represents a command to view a financial summary.
  */
 public class SummaryCommand implements Command {
     private static final int MAXIMUM_CATEGORIES_TO_DISPLAY = 3;
+    private static final int DEFAULT_TAGS = 10;
     private static final double DEFAULT_BUDGET = -1.0;
     private static final int MONTH_OFFSET = 1;
     private static final Logger logger = Logger.getLogger(SummaryCommand.class.getName());
     private final int month;
     private final int year;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer topCount;
 
     /**
      * Constructs a SummaryCommand with the specified month and end year.
@@ -33,8 +38,54 @@ public class SummaryCommand implements Command {
      * @param year the year in which transactions will be used for the summary
      */
     public SummaryCommand(int month, int year) {
+        this(month, year, null);
+    }
+
+    /**
+     * Constructs a SummaryCommand with the specified month and year that shows the given number of
+     * categories, tags and expenses in each list.
+     *
+     * @param month the month in which transactions will be used for the summary
+     * @param year the year in which transactions will be used for the summary
+     * @param topCount the number of entries to show in each list, or null for the defaults
+     */
+    public SummaryCommand(int month, int year, Integer topCount) {
+        assert topCount == null || topCount > 0 : "Number of entries must be positive";
         this.month = month;
         this.year = year;
+        this.startDate = null;
+        this.endDate = null;
+        this.topCount = topCount;
+    }
+
+    /**
+     * Constructs a SummaryCommand for the transactions from one date to another, both inclusive.
+     * The summary shows the totals and top expense categories of the range.
+     *
+     * @param startDate the first date of the summary
+     * @param endDate the last date of the summary
+     */
+    public SummaryCommand(LocalDate startDate, LocalDate endDate) {
+        this(startDate, endDate, null);
+    }
+
+    /**
+     * Constructs a SummaryCommand for the transactions from one date to another, both inclusive,
+     * that shows the given number of categories and expenses in each list.
+     *
+     * @param startDate the first date of the summary
+     * @param endDate the last date of the summary
+     * @param topCount the number of entries to show in each list, or null for the defaults
+     */
+    public SummaryCommand(LocalDate startDate, LocalDate endDate, Integer topCount) {
+        assert startDate != null && endDate != null : "Dates cannot be null";
+        assert topCount == null || topCount > 0 : "Number of entries must be positive";
+        assert !startDate.isAfter(endDate) : "Start date cannot be after end date";
+        this.month = endDate.getMonthValue();
+        this.year = endDate.getYear();
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.topCount = topCount;
     }
 
     /**
@@ -53,7 +104,22 @@ public class SummaryCommand implements Command {
         assert storage != null : "Storage cannot be null";
 
         logger.info("Executing summary command");
+        if (startDate != null) {
+            return summariseRange(transactionManager);
+        }
 
+        // The summary of a month only changes with its transactions and budget, so an unchanged month reuses it
+        long version = transactionManager.getMonthVersion(month, year);
+        String command = topCount == null ? "summary" : "summary top/" + topCount;
+        return CommandResultCache.getShared().getOrCompute(command, month, year, version,
+                () -> summariseMonth(transactionManager));
+    }
+
+    /**
+     * Summarises the totals, budget, top expense categories and tags of the month, and its largest expenses
+     * if a count was given.
+     */
+    private String summariseMonth(TransactionManager transactionManager) {
         String monthString = new DateFormatSymbols().getMonths()[month-MONTH_OFFSET];
         double totalIncome = transactionManager.getMonthlyTotalIncome(month, year);
         double totalExpense = transactionManager.getMonthlyTotalExpense(month, year);
@@ -67,12 +133,12 @@ public class SummaryCommand implements Command {
                 "Total Expenses: %s\n", seedu.finbro.util.CurrencyFormatter.format(totalExpense)
         );
 
-        if (transactionManager.getBudget(month, year) == DEFAULT_BUDGET) {
-            logger.info(("No budget found in hashmap"));
+        double budget = transactionManager.getBudget(month, year);
+        if (budget == DEFAULT_BUDGET) {
+            logger.info(("No budget found"));
             summaryDisplay += String.format("\nNo budget set for %s %d\n", monthString, year);
         } else {
-            double budget = transactionManager.getBudget(month, year);
-            logger.info(String.format("Budget found in hashmap: %.2f", budget));
+            logger.info(String.format("Budget found: %.2f", budget));
             summaryDisplay += String.format("\nBudget for %s %d: %s\n",
                     monthString,
                     year,
@@ -89,82 +155,22 @@ public class SummaryCommand implements Command {
 
         logger.info(String.format("Calculating total expenses for top categories for %s %d",
                 monthString, year));
-        Map<Expense.Category, Double> sortedCategorisedExpenses =
-                transactionManager.getMonthlyCategorisedExpenses(month, year)
-                        .entrySet()
-                        .stream()
-                        .sorted(Map.Entry.<Expense.Category, Double> comparingByValue().reversed())
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                Map.Entry::getValue,
-                                (oldValue, newValue) -> oldValue, LinkedHashMap::new));
-
-        if (!sortedCategorisedExpenses.isEmpty()) {
-            summaryDisplay += "\nTop Expense Categories:\n";
-            int categoryCount = 0;
-            for (Map.Entry<Expense.Category, Double> expenseInCategory :
-                    sortedCategorisedExpenses.entrySet()) {
-                categoryCount++;
-                assert expenseInCategory.getKey() != null: "Category cannot be null";
-                assert expenseInCategory.getValue() <=
-                        transactionManager.getMonthlyTotalExpense(month, year):
-                        "Total expenses in one category cannot be greater " +
-                                "than total expenses for the month";
-                if (expenseInCategory.getValue() == 0) {
-                    break;
-                }
-                summaryDisplay += String.format("%d. %s: %s\n", categoryCount,
-                        expenseInCategory.getKey().toString(),
-                        seedu.finbro.util.CurrencyFormatter.format(expenseInCategory.getValue()));
-                if (categoryCount >= MAXIMUM_CATEGORIES_TO_DISPLAY) {
-                    break;
-                }
-            }
-        }
-
-        // Get tagged transactions with detailed breakdown
-        List<Transaction> monthlyTransactions = transactionManager.getMonthlyTransactions(month, year);
-
-        // Separate maps for income and expense per tag
-        Map<String, Double> taggedIncome = new HashMap<>();
-        Map<String, Double> taggedExpenses = new HashMap<>();
-        Map<String, Double> taggedNet = new HashMap<>();
-
-        // Process each transaction
-        for (Transaction transaction : monthlyTransactions) {
-            List<String> tags = transaction.getTags();
-            double amount = transaction.getAmount();
-
-            for (String tag : tags) {
-                // Process income transactions
-                if (transaction instanceof Income) {
-                    taggedIncome.put(tag, taggedIncome.getOrDefault(tag, 0.0) + amount);
-                } else if (transaction instanceof Expense) {
-                    taggedExpenses.put(tag, taggedExpenses.getOrDefault(tag, 0.0) + amount);
-                }
+        summaryDisplay += formatTopCategories(transactionManager.getMonthlyCategorisedExpenses(month, year));
 
-                // Update the net amount (income - expenses) for each tag
-                if (transaction instanceof Income) {
-                    taggedNet.put(tag, taggedNet.getOrDefault(tag, 0.0) + amount);
-                } else if (transaction instanceof Expense) {
-                    taggedNet.put(tag, taggedNet.getOrDefault(tag, 0.0) - amount);
-                }
-            }
-        }
+        // Get tagged income and expenses from the monthly totals
+        Map<String, Double> taggedIncome = transactionManager.getMonthlyTaggedIncome(month, year);
+        Map<String, Double> taggedExpenses = transactionManager.getMonthlyTaggedExpenses(month, year);
 
-        // Sort tags by the absolute value of combined income/expense amounts
-        Map<String, Double> sortedTaggedNet = taggedNet.entrySet()
-                .stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue, LinkedHashMap::new));
+        // Net amount (income - expenses) for each tag
+        Map<String, Double> taggedNet = new HashMap<>(taggedIncome);
+        taggedExpenses.forEach((tag, amount) -> taggedNet.merge(tag, -amount, Double::sum));
 
-        if (!sortedTaggedNet.isEmpty()) {
+        if (!taggedNet.isEmpty()) {
             summaryDisplay += "\nTags Summary:\n";
             int tagCount = 0;
-            for (Map.Entry<String, Double> tagEntry : sortedTaggedNet.entrySet()) {
+            // Rank tags by the absolute value of their net amounts, so large expense tags are not cut off
+            for (Map.Entry<String, Double> tagEntry
+                    : TopK.selectByAbsoluteValue(taggedNet, getLimit(DEFAULT_TAGS))) {
                 tagCount++;
                 String tag = tagEntry.getKey();
                 double netAmount = tagEntry.getValue();
@@ -190,11 +196,109 @@ public class SummaryCommand implements Command {
 
                 summaryDisplay += ")\n";
             }
+            if (taggedNet.size() > tagCount) {
+                int hiddenTags = taggedNet.size() - tagCount;
+                summaryDisplay += String.format("...and %d more %s\n", hiddenTags, hiddenTags == 1 ? "tag" : "tags");
+            }
+        }
+
+        // Only the lists of expenses read the transactions of the month, so they are shown when asked for
+        if (topCount != null) {
+            summaryDisplay += formatTopExpenses(transactionManager.getMonthlyTransactions(month, year));
         }
 
         return summaryDisplay;
     }
 
+    /**
+     * Summarises the totals and top expense categories from the start date to the end date,
+     * read from the daily totals of the transaction manager.
+     */
+    private String summariseRange(TransactionManager transactionManager) {
+        double totalIncome = transactionManager.getTotalIncome(startDate, endDate);
+        double totalExpense = transactionManager.getTotalExpenses(startDate, endDate);
+        StringBuilder summaryDisplay = new StringBuilder();
+        summaryDisplay.append(String.format("Financial Summary from %s to %s:\n\n", startDate, endDate));
+        summaryDisplay.append(String.format("Total Income: %s\n",
+                seedu.finbro.util.CurrencyFormatter.format(totalIncome)));
+        summaryDisplay.append(String.format("Total Expenses: %s\n",
+                seedu.finbro.util.CurrencyFormatter.format(totalExpense)));
+
+        summaryDisplay.append(formatTopCategories(transactionManager.getCategorisedExpenses(startDate, endDate)));
+        if (topCount != null) {
+            summaryDisplay.append(formatTopExpenses(transactionManager.getFilteredTransactions(startDate, endDate)));
+        }
+        return summaryDisplay.toString();
+    }
+
+    /**
+     * Formats the categories with the largest expenses, largest first.
+     */
+    private String formatTopCategories(Map<Expense.Category, Double> categorisedExpenses) {
+        StringBuilder display = new StringBuilder();
+        int categoryCount = 0;
+        for (Map.Entry<Expense.Category, Double> expenseInCategory
+                : TopK.selectByValue(categorisedExpenses, getLimit(MAXIMUM_CATEGORIES_TO_DISPLAY))) {
+            assert expenseInCategory.getKey() != null : "Category cannot be null";
+            if (expenseInCategory.getValue() == 0) {
+                break;
+            }
+            if (categoryCount == 0) {
+                display.append("\nTop Expense Categories:\n");
+            }
+            categoryCount++;
+            display.append(String.format("%d. %s: %s\n", categoryCount, expenseInCategory.getKey(),
+                    seedu.finbro.util.CurrencyFormatter.format(expenseInCategory.getValue())));
+        }
+        return display.toString();
+    }
+
+    /**
+     * Formats the largest expenses and the descriptions with the most spending among the given transactions.
+     * Unlike the other lists, these are not kept in the monthly totals, so the transactions are scanned.
+     */
+    private String formatTopExpenses(List<Transaction> transactions) {
+        assert topCount != null : "The largest expenses are only listed when a count is given";
+        List<Expense> expenses = new ArrayList<>();
+        Map<String, Double> spendingByDescription = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            if (transaction instanceof Expense) {
+                expenses.add((Expense) transaction);
+                spendingByDescription.merge(transaction.getDescription(), transaction.getAmount(), Double::sum);
+            }
+        }
+        if (expenses.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder display = new StringBuilder("\nLargest Expenses:\n");
+        Comparator<Expense> byAmount = Comparator.comparingDouble(Expense::getAmount);
+        int count = 0;
+        for (Expense expense : TopK.select(expenses, topCount,
+                byAmount.thenComparing(Expense::getDescription, Comparator.reverseOrder()))) {
+            count++;
+            display.append(String.format("%d. %s: %s (%s)\n", count, expense.getDescription(),
+                    seedu.finbro.util.CurrencyFormatter.format(expense.getAmount()), expense.getDate()));
+        }
+
+        display.append("\nTop Spending by Description:\n");
+        count = 0;
+        for (Map.Entry<String, Double> entry
+                : TopK.selectByValue(spendingByDescription, topCount)) {
+            count++;
+            display.append(String.format("%d. %s: %s\n", count, entry.getKey(),
+                    seedu.finbro.util.CurrencyFormatter.format(entry.getValue())));
+        }
+        return display.toString();
+    }
+
+    /**
+     * Returns the number of entries to show in a list, which is the count given by the user if any.
+     */
+    private int getLimit(int defaultLimit) {
+        return topCount != null ? topCount : defaultLimit;
+    }
+
     /**
      * Returns false since this is not an exit command.
      *
@@ -204,4 +308,14 @@ public class SummaryCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only summarises transactions.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -41,8 +41,17 @@ public class TrackBudgetCommand implements Command {
         assert month > 0 && month <= 12 : "Month must be between 1 and 12";
         assert year > 0 : "Year must be a positive integer";
 
-        double budget = transactionManager.getBudget(month, year);
         logger.info("Executing track budget command");
+        long version = transactionManager.getMonthVersion(month, year);
+        return CommandResultCache.getShared().getOrCompute("trackbudget", month, year, version,
+                () -> trackBudget(transactionManager));
+    }
+
+    /**
+     * Compares the expenses of the month with its budget.
+     */
+    private String trackBudget(TransactionManager transactionManager) {
+        double budget = transactionManager.getBudget(month, year);
         if (budget == DEFAULT_BUDGET) {
             logger.info(String.format("No budget set for %d/%d", month, year));
             return String.format("No budget set for %d/%d. Please set a budget first.", month, year);
@@ -72,4 +81,14 @@ public class TrackBudgetCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only reports budget progress.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,14 +1,18 @@
 package seedu.finbro.logic.command;
 
+import seedu.finbro.model.MonthlySummary;
+import seedu.finbro.model.SavingsProjection;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
+import seedu.finbro.util.DateUtil;
 
 import java.util.Optional;
 import java.util.logging.Logger;
 
 public class TrackSavingsGoalCommand implements Command {
     private static final Logger logger = Logger.getLogger(TrackSavingsGoalCommand.class.getName());
+    private static final int PROJECTION_MONTHS = 6;
     private final int month;
     private final int year;
 
@@ -39,7 +43,17 @@ public class TrackSavingsGoalCommand implements Command {
         assert year > 0 : "Year should be positive";
 
         logger.info("Executing track savings goal command");
+        // The projection reads the months before this one too, so a change to any of them invalidates the result
+        int toKey = DateUtil.yearMonthKey(year, month);
+        long version = transactionManager.getMonthRangeVersion(toKey - PROJECTION_MONTHS + 1, toKey);
+        return CommandResultCache.getShared().getOrCompute("tracksavings", month, year, version,
+                () -> trackSavingsGoal(transactionManager));
+    }
 
+    /**
+     * Compares the savings of the month with its savings goal.
+     */
+    private String trackSavingsGoal(TransactionManager transactionManager) {
         // Get savings goal as an Optional to better represent possibly missing value
         Optional<Double> savingsGoal = transactionManager.getSavingsGoalOptional(month, year);
         StringBuilder result = new StringBuilder();
@@ -71,9 +85,34 @@ public class TrackSavingsGoalCommand implements Command {
                     (savingsGoal.get() - savings)));
         }
 
+        appendProjection(result, transactionManager, savingsGoal.get());
         return result.toString();
     }
 
+    /**
+     * Appends the average monthly savings of the last few months up to this one, how often their goals were met,
+     * and how many months saving the goal takes at that rate.
+     */
+    private void appendProjection(StringBuilder result, TransactionManager transactionManager, double goal) {
+        int toKey = DateUtil.yearMonthKey(year, month);
+        int fromKey = toKey - PROJECTION_MONTHS + 1;
+        SavingsProjection projection = transactionManager.getSavingsProjection(fromKey, toKey);
+
+        result.append(String.format("\n\nOver the last %d months (%s to %s):\n", projection.getMonthCount(),
+                DateUtil.formatYearMonthKey(fromKey), DateUtil.formatYearMonthKey(toKey)));
+        result.append(String.format("Average Monthly Savings: $%.2f\n",
+                MonthlySummary.fromCents(projection.getRunRateCents())));
+        result.append(String.format("Savings goal met in %d of %d months with a goal\n",
+                projection.getMonthsGoalMet(), projection.getMonthsWithGoal()));
+        long months = projection.monthsToSave(MonthlySummary.toCents(goal));
+        if (months == SavingsProjection.NEVER) {
+            result.append(String.format("At this rate you are not saving towards a goal of $%.2f", goal));
+        } else {
+            result.append(String.format("At this rate, saving $%.2f takes %d month%s", goal, months,
+                    months == 1 ? "" : "s"));
+        }
+    }
+
     /**
      * Returns false since this is not an exit command.
      *
@@ -83,4 +122,14 @@ public class TrackSavingsGoalCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true since it only reports savings progress.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
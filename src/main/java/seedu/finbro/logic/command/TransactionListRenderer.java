@@ -0,0 +1,76 @@
+package seedu.finbro.logic.command;
+
+import seedu.finbro.model.Transaction;
+import seedu.finbro.ui.Ui;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Renders the numbered transaction lists of the list, filter and search commands.
+ * Short lists are returned as one string. Longer lists are written to the output of the Ui in
+ * chunks of about {@value #CHUNK_CAPACITY} characters, so that no string of the whole list is built.
+ */
+final class TransactionListRenderer {
+    static final int MAX_RETURNED_ROWS = 200;
+    private static final Logger logger = Logger.getLogger(TransactionListRenderer.class.getName());
+    private static final int CHUNK_CAPACITY = 16 * 1024;
+    private static final int ESTIMATED_ROW_LENGTH = 96;
+
+    private TransactionListRenderer() {
+    }
+
+    /**
+     * Renders a header followed by one numbered row per transaction.
+     *
+     * @param ui The UI to stream long lists to
+     * @param header The lines shown above the rows, without a trailing newline
+     * @param transactions The transactions to show
+     * @param firstNumber The number of the first row
+     * @param isShowingDate true to add the date created to every row
+     * @return The header and the rows, or a line counting the rows if they were streamed to the Ui
+     */
+    static String render(Ui ui, String header, List<? extends Transaction> transactions, int firstNumber,
+            boolean isShowingDate) {
+        assert ui != null : "UI cannot be null";
+        assert transactions != null : "Transactions cannot be null";
+
+        if (transactions.size() <= MAX_RETURNED_ROWS) {
+            StringBuilder response = new StringBuilder(header.length()
+                    + (transactions.size() + 1) * ESTIMATED_ROW_LENGTH);
+            response.append(header);
+            int number = firstNumber;
+            for (Transaction transaction : transactions) {
+                response.append('\n');
+                appendRow(response, number++, transaction, isShowingDate);
+            }
+            return response.toString();
+        }
+
+        logger.info("Streaming " + transactions.size() + " transactions");
+        ui.showLine();
+        PrintStream out = ui.out();
+        out.println(header);
+        StringBuilder chunk = new StringBuilder(CHUNK_CAPACITY);
+        int number = firstNumber;
+        for (Transaction transaction : transactions) {
+            appendRow(chunk, number++, transaction, isShowingDate);
+            chunk.append(System.lineSeparator());
+            if (chunk.length() > CHUNK_CAPACITY - ESTIMATED_ROW_LENGTH) {
+                out.print(chunk);
+                chunk.setLength(0);
+            }
+        }
+        out.print(chunk);
+        return "Showed " + transactions.size() + " transactions (" + firstNumber + " to " + (number - 1) + ").";
+    }
+
+    private static void appendRow(StringBuilder builder, int number, Transaction transaction,
+            boolean isShowingDate) {
+        builder.append(number).append(". ").append(transaction);
+        if (isShowingDate) {
+            builder.append(" (Date created: ").append(transaction.getDate()).append(')');
+        }
+    }
+}
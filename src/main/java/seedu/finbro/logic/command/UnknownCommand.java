@@ -41,4 +41,24 @@ public class UnknownCommand implements Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns false since it only reports the unknown command.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresTransactions() {
+        return false;
+    }
+
+    /**
+     * Returns true since it only shows an error message.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class DecimalPointException extends RuntimeException {
 
     public DecimalPointException() {
@@ -7,7 +9,11 @@ public class DecimalPointException extends RuntimeException {
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Exceed 2 Decimal Points\n"
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Exceed 2 Decimal Points\n"
               + "Please keep your input to 2 decimal places or less.");
     }
 }
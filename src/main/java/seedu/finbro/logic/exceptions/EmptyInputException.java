@@ -1,12 +1,18 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class EmptyInputException extends Exception {
     public EmptyInputException() {
         super();
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Empty Input\n" +
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Empty Input\n" +
                 "This field cannot be empty.\n");
     }
 }
@@ -1,5 +1,7 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class ExceedCharCountException extends Exception {
 
     public ExceedCharCountException() {
@@ -7,7 +9,11 @@ public class ExceedCharCountException extends Exception {
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Input exceeds char count of 120\n"
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Input exceeds char count of 120\n"
                 + "Please input a shorter string.");
     }
 }
@@ -1,12 +1,18 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class IndexExceedLimitException extends Exception {
     public IndexExceedLimitException() {
         super();
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: index exceeds limit\n" +
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: index exceeds limit\n" +
                 "Please input an index within the appropriate range.\n");
     }
 }
@@ -1,5 +1,7 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 
 public class InvalidDecimalFormatException extends Exception {
 
@@ -8,7 +10,11 @@ public class InvalidDecimalFormatException extends Exception {
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Decimal input uses comma.\n" +
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Decimal input uses comma.\n" +
                 "Please use Decimal Points \".\" instead.\n");
     }
 }
@@ -1,5 +1,7 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class MissingDecimalsException extends Exception {
 
     public MissingDecimalsException() {
@@ -7,7 +9,11 @@ public class MissingDecimalsException extends Exception {
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Decimal point detected but no digits proceeding decimal point.\n"
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Decimal point detected but no digits proceeding decimal point.\n"
                 + "If you entered a Decimal Point \".\" please enter up to 2 decimal places\n");
     }
 }
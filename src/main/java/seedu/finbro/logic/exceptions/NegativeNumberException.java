@@ -1,5 +1,7 @@
 package seedu.finbro.logic.exceptions;
 
+import java.io.PrintStream;
+
 public class NegativeNumberException extends Exception {
 
     public NegativeNumberException() {
@@ -7,7 +9,11 @@ public class NegativeNumberException extends Exception {
     }
 
     public static void handle() {
-        System.out.println("INVALID INPUT: Negative Number Input\n"
+        handle(System.out);
+    }
+
+    public static void handle(PrintStream out) {
+        out.println("INVALID INPUT: Negative Number Input\n"
                 + "Please input a non-negative number.");
     }
 }
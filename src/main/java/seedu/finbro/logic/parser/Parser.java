@@ -1,17 +1,15 @@
 package seedu.finbro.logic.parser;
 
-import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import seedu.finbro.logic.command.BalanceCommand;
@@ -22,8 +20,11 @@ import seedu.finbro.logic.command.ExportCommand;
 import seedu.finbro.logic.command.ExpenseCommand;
 import seedu.finbro.logic.command.FilterCommand;
 import seedu.finbro.logic.command.HelpCommand;
+import seedu.finbro.logic.command.ImportCommand;
 import seedu.finbro.logic.command.InvalidCommand;
 import seedu.finbro.logic.command.ListCommand;
+import seedu.finbro.logic.command.RecurringCommand;
+import seedu.finbro.logic.command.ReportCommand;
 import seedu.finbro.logic.command.SummaryCommand;
 import seedu.finbro.logic.command.UnknownCommand;
 import seedu.finbro.logic.command.ExitCommand;
@@ -37,19 +38,29 @@ import seedu.finbro.logic.exceptions.EmptyInputException;
 import seedu.finbro.logic.exceptions.IndexExceedLimitException;
 import seedu.finbro.model.Income;
 import seedu.finbro.model.Expense;
+import seedu.finbro.model.RecurringRule;
 import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
+import seedu.finbro.util.DateUtil;
 
 /**
  * Parses user input and creates the corresponding command.
  */
 public class Parser {
     private static final Logger logger = Logger.getLogger(Parser.class.getName());
-    private static final Pattern AMOUNT_PATTERN = Pattern.compile("^\\d+(\\.\\d{1,2})?$");
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final int INDEX_OFFSET = 1;
+    private static final int MAX_TAGS = 3;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_REPORT_MONTHS = 12;
+    private static final int MAX_REPORT_MONTHS = 1200;
+    private static final int MAX_PERIOD = 100_000;
+    private static final int MAX_TOP_COUNT = 1000;
+    // Commands that also accept their fields on the command line, e.g. "expense 12.50 d/lunch c/food"
+    private static final Set<String> ONE_LINE_COMMANDS =
+            Set.of("income", "expense", "search", "filter", "list", "setbudget", "setsavings", "import", "report",
+                    "balance", "view", "summary", "recurring");
 
     // Track if a clear confirmation is pending
     private boolean clearCommandPending = false;
@@ -96,6 +107,12 @@ public class Parser {
             clearCommandPending = false;
         }
 
+        String[] wordAndArguments = Tokenizer.splitFirstWord(commandWord);
+        if (wordAndArguments.length > 1 && ONE_LINE_COMMANDS.contains(wordAndArguments[0].toLowerCase())) {
+            return parseOneLineCommand(wordAndArguments[0].toLowerCase(), wordAndArguments[1]);
+        }
+        commandWord = commandWord.toLowerCase();
+
         Command parsedCommand;
         switch (commandWord) {
         case "search":
@@ -123,9 +140,20 @@ public class Parser {
         case "summary":
             parsedCommand = parseSummaryCommand(ui);
             break;
+        case "report":
+            // Without parameters the report covers the last twelve months
+            parsedCommand = parseOneLineCommand(commandWord, "");
+            break;
+        case "recurring":
+            // Without parameters the recurring rules are listed
+            parsedCommand = parseOneLineCommand(commandWord, "");
+            break;
         case "export":
             parsedCommand = parseExportCommand(ui);
             break;
+        case "import":
+            parsedCommand = parseImportCommand(ui);
+            break;
         case "clear":
             parsedCommand = parseClearCommand(ui);
             break;
@@ -332,7 +360,7 @@ public class Parser {
             }
 
             if (parameters.containsKey("date")) {
-                date = LocalDate.parse(parameters.get("date"), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+                date = DateUtil.parseIsoDate(parameters.get("date"));
             }
 
             if (parameters.containsKey("t")) {
@@ -392,7 +420,7 @@ public class Parser {
 
             LocalDate date = null;
             if (startDateInput != null && !startDateInput.isEmpty()) {
-                date = seedu.finbro.util.DateUtil.parseDate(startDateInput);
+                date = DateUtil.parseDate(startDateInput);
                 if (date == null) {
                     // This should not happen since we're using the validated method
                     return new InvalidCommand("Invalid date format. Please use YYYY-MM-DD.");
@@ -445,49 +473,18 @@ public class Parser {
      * @return True if the date is valid, false otherwise
      */
     private boolean isValidDate(String dateStr) {
-        try {
-            // First, check basic format compliance
-            if (!dateStr.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                logger.warning("Date format does not match yyyy-MM-dd pattern: " + dateStr);
-                return false;
-            }
-
-            // Parse the date parts
-            String[] parts = dateStr.split("-");
-            int year = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int day = Integer.parseInt(parts[2]);
-
-            // Perform range checks
-            if (year < 1 || year > 9999) {
-                logger.warning("Invalid year in date: " + year);
-                return false;
-            }
-
-            if (month < 1 || month > 12) {
-                logger.warning("Invalid month in date: " + month);
-                return false;
-            }
-
-            // Let LocalDate validate the day based on month/year
-            // This handles leap years and different days in each month
-            LocalDate.of(year, month, day);
-
-            // Simple sanity check for future dates
-            if (LocalDate.of(year, month, day).isAfter(LocalDate.now().plusYears(100))) {
-                logger.warning("Date is more than 100 years in the future: " + dateStr);
-                return false;
-            }
-
-            return true;
-        } catch (DateTimeException e) {
-            // This catches issues like February 30th
-            logger.warning("Invalid date components: " + dateStr + " - " + e.getMessage());
+        LocalDate date = Tokenizer.parseDate(dateStr);
+        if (date == null) {
+            logger.warning("Date is not a valid date in the yyyy-MM-dd format: " + dateStr);
             return false;
-        } catch (Exception e) {
-            logger.warning("Error validating date: " + dateStr + " - " + e.getMessage());
+        }
+
+        // Simple sanity check for future dates
+        if (date.isAfter(LocalDate.now().plusYears(100))) {
+            logger.warning("Date is more than 100 years in the future: " + dateStr);
             return false;
         }
+        return true;
     }
 
     /**
@@ -504,14 +501,14 @@ public class Parser {
             logger.fine("Filter dates: " + filterDates[0] + " to " + filterDates[1]);
 
             // Parse the dates (they should be valid at this point)
-            LocalDate startDate = seedu.finbro.util.DateUtil.parseDate(filterDates[0]);
+            LocalDate startDate = DateUtil.parseDate(filterDates[0]);
 
             LocalDate endDate;
             if (filterDates[1] == null || filterDates[1].isEmpty()) {
                 logger.fine("No end date specified, using current date");
                 endDate = LocalDate.now();
             } else {
-                endDate = seedu.finbro.util.DateUtil.parseDate(filterDates[1]);
+                endDate = DateUtil.parseDate(filterDates[1]);
             }
 
             logger.fine("Creating FilterCommand with startDate=" + startDate +
@@ -583,6 +580,23 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses user input into an ImportCommand using interactive UI.
+     *
+     * @param ui The UI to interact with the user
+     * @return The ImportCommand
+     */
+    private Command parseImportCommand(Ui ui) {
+        logger.fine("Parsing import command interactively");
+        try {
+            String filePath = ui.readString("Enter the path of the CSV file to import:\n> ");
+            return new ImportCommand(filePath);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error parsing import command", e);
+            return new InvalidCommand("Invalid import command: " + e.getMessage());
+        }
+    }
+
     /**
      * Parses user input into a ClearCommand using interactive UI.
      *
@@ -610,54 +624,392 @@ public class Parser {
      */
     private Map<String, String> parseParameters(String paramString) {
         assert paramString != null : "Parameter string cannot be null";
+        return Tokenizer.parseParameters(paramString);
+    }
 
-        Map<String, String> parameters = new HashMap<>();
-        String[] tokens = paramString.trim().split("\\s+");
+    /**
+     * Parses a command whose fields are all given on one line, so that it needs no prompts.
+     * The fields follow the command word as a main value and prefixed parameters, e.g.
+     * {@code expense 12.50 d/lunch c/food t/work date/2026-01-02}.
+     *
+     * @param commandWord The lower-case command word
+     * @param arguments The rest of the line
+     * @return The parsed command, or an InvalidCommand if a field is missing or invalid
+     */
+    private Command parseOneLineCommand(String commandWord, String arguments) {
+        logger.fine("Parsing one-line " + commandWord + " command: " + arguments);
+        if (commandWord.equals("search")) {
+            // The whole line is the keyword, even if it contains a slash
+            return new SearchCommand(arguments.trim());
+        }
+        if (commandWord.equals("import")) {
+            // File paths contain slashes, so the whole line is the path
+            return new ImportCommand(arguments);
+        }
 
-        // Handle the first parameter (usually amount)
-        if (tokens.length > 0 && !tokens[0].contains("/")) {
-            parameters.put("", tokens[0]);
+        Map<String, String> parameters = parseParameters(arguments);
+        try {
+            switch (commandWord) {
+            case "income":
+                return new IncomeCommand(parseAmount(requireParameter(parameters, "", "amount")),
+                        requireParameter(parameters, "d", "description"), splitTags(parameters.get("t")),
+                        parseOptionalDate(parameters.get("date")));
+            case "expense":
+                return new ExpenseCommand(parseAmount(requireParameter(parameters, "", "amount")),
+                        requireParameter(parameters, "d", "description"), parseCategoryName(parameters.get("c")),
+                        splitTags(parameters.get("t")), parseOptionalDate(parameters.get("date")));
+            case "filter":
+                return parseOneLineFilter(parameters);
+            case "list":
+                return parseOneLineList(parameters);
+            case "report":
+                return parseOneLineReport(parameters);
+            case "balance":
+            case "view":
+                LocalDate[] balanceRange = parseDateRange(parameters);
+                return new BalanceCommand(balanceRange[0], balanceRange[1]);
+            case "summary":
+                return parseOneLineSummary(parameters);
+            case "recurring":
+                return parseOneLineRecurring(arguments);
+            case "setbudget":
+                return new SetBudgetCommand(parseAmount(requireParameter(parameters, "", "budget")),
+                        parseMonth(parameters.get("m")), parseYear(parameters.get("y")));
+            case "setsavings":
+                return new SetSavingsGoalCommand(parseAmount(requireParameter(parameters, "", "savings goal")),
+                        parseMonth(parameters.get("m")), parseYear(parameters.get("y")));
+            default:
+                throw new IllegalArgumentException("This command cannot be given on one line.");
+            }
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Error parsing one-line " + commandWord + " command", e);
+            return new InvalidCommand("Invalid " + commandWord + " command: " + e.getMessage());
         }
+    }
 
-        // Process the rest of the parameters
-        String currentPrefix = null;
-        StringBuilder currentValue = new StringBuilder();
+    /**
+     * Parses the parameters of a one-line filter command, {@code filter from/START [to/END]}.
+     *
+     * @param parameters The parsed parameters
+     * @return The FilterCommand
+     */
+    private Command parseOneLineFilter(Map<String, String> parameters) {
+        LocalDate startDate = parseOptionalDate(requireParameter(parameters, "from", "start date"));
+        LocalDate endDate = parseOptionalDate(parameters.get("to"));
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        return new FilterCommand(startDate, endDate);
+    }
 
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            assert token != null : "Token cannot be null";
+    /**
+     * Parses the parameters of a one-line list command,
+     * {@code list [n/COUNT] [from/DATE] [page/PAGE] [size/PAGE_SIZE]}.
+     * A page size without a page shows the first page, and a page without a size has
+     * {@value #DEFAULT_PAGE_SIZE} transactions.
+     *
+     * @param parameters The parsed parameters
+     * @return The ListCommand
+     */
+    private Command parseOneLineList(Map<String, String> parameters) {
+        Integer limit = parsePositiveInteger(parameters.get("n"), "Number of transactions");
+        Integer page = parsePositiveInteger(parameters.get("page"), "Page");
+        Integer pageSize = parsePositiveInteger(parameters.get("size"), "Page size");
+        if (page != null || pageSize != null) {
+            page = page != null ? page : 1;
+            pageSize = pageSize != null ? pageSize : DEFAULT_PAGE_SIZE;
+        }
+        return new ListCommand(limit, parseOptionalDate(parameters.get("from")), page, pageSize);
+    }
+
+    /**
+     * Parses the parameters of a one-line summary command, either
+     * {@code summary [m/MONTH] [y/YEAR] [top/COUNT]} for a month or a range of dates as in
+     * {@link #parseDateRange}, with {@code top/} setting the number of entries in each list.
+     *
+     * @param parameters The parsed parameters
+     * @return The SummaryCommand
+     */
+    private Command parseOneLineSummary(Map<String, String> parameters) {
+        Integer topCount = parsePositiveInteger(parameters.get("top"), "Number of entries");
+        if (topCount != null && topCount > MAX_TOP_COUNT) {
+            throw new IllegalArgumentException("Number of entries must be at most " + MAX_TOP_COUNT + ".");
+        }
+        if (parameters.containsKey("from") || parameters.containsKey("last")) {
+            LocalDate[] range = parseDateRange(parameters);
+            return new SummaryCommand(range[0], range[1], topCount);
+        }
+        return new SummaryCommand(parseMonth(parameters.get("m")), parseYear(parameters.get("y")), topCount);
+    }
 
-            // Skip the first token if it was already processed as the main parameter
-            if (i == 0 && parameters.containsKey("")) {
-                continue;
+    /**
+     * Parses a one-line recurring command: {@code recurring [list]},
+     * {@code recurring income AMOUNT d/DESCRIPTION every/INTERVAL [from/DATE] [t/TAGS]},
+     * {@code recurring expense AMOUNT d/DESCRIPTION every/INTERVAL [c/CATEGORY] [from/DATE] [t/TAGS]}
+     * or {@code recurring delete ID}. The interval is a number of days, weeks, months or years, e.g.
+     * {@code 1m}, and the first occurrence falls on the start date, today by default.
+     *
+     * @param arguments The rest of the line after the command word
+     * @return The RecurringCommand
+     */
+    private Command parseOneLineRecurring(String arguments) {
+        String[] actionAndRest = Tokenizer.splitFirstWord(arguments.trim());
+        String action = actionAndRest[0].toLowerCase();
+        Map<String, String> parameters = parseParameters(actionAndRest.length > 1 ? actionAndRest[1] : "");
+        switch (action) {
+        case "":
+        case "list":
+            return new RecurringCommand();
+        case "delete":
+            return new RecurringCommand(parsePositiveInteger(requireParameter(parameters, "", "rule id"), "Rule id"));
+        case "income":
+        case "expense":
+            double amount = parseAmount(requireParameter(parameters, "", "amount"));
+            String description = requireParameter(parameters, "d", "description");
+            String interval = requireParameter(parameters, "every", "interval");
+            if (RecurringRule.parseInterval(interval) == null) {
+                throw new IllegalArgumentException("Interval should be a number from 1 to "
+                        + RecurringRule.MAX_INTERVAL + " followed by d, w, m or y, e.g. every/1m.");
+            }
+            LocalDate startDate = parseOptionalDate(parameters.get("from"));
+            if (startDate == null) {
+                startDate = LocalDate.now();
             }
+            List<String> tags = splitTags(parameters.get("t"));
+            Transaction template = action.equals("income")
+                    ? new Income(amount, description, startDate, tags)
+                    : new Expense(amount, description, startDate, parseCategoryName(parameters.get("c")), tags);
+            return new RecurringCommand(template, interval);
+        default:
+            throw new IllegalArgumentException("Give income, expense, list or delete after recurring.");
+        }
+    }
 
-            // Check if this token starts a new parameter
-            if (token.matches("[a-zA-Z]+/.*")) {
-                // Save the previous parameter if it exists
-                if (currentPrefix != null) {
-                    parameters.put(currentPrefix, currentValue.toString().trim());
-                    currentValue = new StringBuilder();
-                }
+    /**
+     * Parses a range of dates given as {@code from/START [to/END]} or {@code last/PERIOD [to/END]},
+     * where the end defaults to today and the period is a number of days, weeks, months or years,
+     * e.g. {@code 90d}, {@code 12w}, {@code 6m} or {@code 1y}. A period of N days ends with the end date
+     * and includes it.
+     *
+     * @param parameters The parsed parameters
+     * @return The first and last date of the range
+     */
+    private LocalDate[] parseDateRange(Map<String, String> parameters) {
+        LocalDate endDate = parseOptionalDate(parameters.get("to"));
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        String period = parameters.get("last");
+        LocalDate startDate;
+        if (period != null) {
+            if (parameters.containsKey("from")) {
+                throw new IllegalArgumentException("Give either from/ or last/, not both.");
+            }
+            startDate = subtractPeriod(endDate, period).plusDays(1);
+        } else if (parameters.containsKey("from")) {
+            startDate = parseOptionalDate(parameters.get("from"));
+        } else {
+            throw new IllegalArgumentException("Missing start date (from/ or last/).");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        return new LocalDate[] {startDate, endDate};
+    }
 
-                // Extract the new prefix and start building its value
-                int slashIndex = token.indexOf('/');
-                assert slashIndex >= 0 : "Expected slash in parameter token";
-                currentPrefix = token.substring(0, slashIndex);
-                currentValue.append(token.substring(slashIndex + 1));
-            } else if (currentPrefix != null) {
-                // Continue building the current parameter value
-                currentValue.append(" ").append(token);
+    private LocalDate subtractPeriod(LocalDate date, String period) {
+        String lowerPeriod = period.toLowerCase();
+        char unit = lowerPeriod.isEmpty() ? 'd' : lowerPeriod.charAt(lowerPeriod.length() - 1);
+        String count = Character.isDigit(unit) ? lowerPeriod : lowerPeriod.substring(0, lowerPeriod.length() - 1);
+        int amount = parsePositiveInteger(count, "Period");
+        if (amount > MAX_PERIOD) {
+            throw new IllegalArgumentException("Period must be a positive number of at most " + MAX_PERIOD + ".");
+        }
+        switch (unit) {
+        case 'w':
+            return date.minusWeeks(amount);
+        case 'm':
+            return date.minusMonths(amount);
+        case 'y':
+            return date.minusYears(amount);
+        default:
+            if (unit != 'd' && !Character.isDigit(unit)) {
+                throw new IllegalArgumentException("Period should end with d, w, m or y, e.g. last/90d.");
             }
+            return date.minusDays(amount);
         }
+    }
 
-        // Save the last parameter if it exists
-        if (currentPrefix != null) {
-            parameters.put(currentPrefix, currentValue.toString().trim());
+    /**
+     * Parses the parameters of a one-line report command, {@code report [csv] [from/YYYY-MM] [to/YYYY-MM] [n/MONTHS]}.
+     * The report ends with the current month unless {@code to/} is given, and covers {@code n/} months,
+     * {@value #DEFAULT_REPORT_MONTHS} by default, unless {@code from/} is given.
+     *
+     * @param parameters The parsed parameters
+     * @return The ReportCommand
+     */
+    private Command parseOneLineReport(Map<String, String> parameters) {
+        String format = parameters.get("");
+        if (format != null && !format.equalsIgnoreCase("csv")) {
+            throw new IllegalArgumentException("Report can only be exported as csv.");
+        }
+        int toKey = parameters.containsKey("to")
+                ? parseReportMonth(parameters.get("to"))
+                : DateUtil.yearMonthKey(LocalDate.now());
+        Integer months = parsePositiveInteger(parameters.get("n"), "Number of months");
+        if (parameters.containsKey("from") && months != null) {
+            throw new IllegalArgumentException("Give either from/ or n/, not both.");
+        }
+        int fromKey = parameters.containsKey("from")
+                ? parseReportMonth(parameters.get("from"))
+                : toKey - (months != null ? months : DEFAULT_REPORT_MONTHS) + 1;
+        if (fromKey > toKey) {
+            throw new IllegalArgumentException("End month cannot be before start month.");
         }
+        if (toKey - fromKey + 1 > MAX_REPORT_MONTHS) {
+            throw new IllegalArgumentException("A report can cover at most " + MAX_REPORT_MONTHS + " months.");
+        }
+        return new ReportCommand(fromKey, toKey, format != null);
+    }
 
-        assert parameters != null : "Parsed parameters map cannot be null";
-        return parameters;
+    private int parseReportMonth(String value) {
+        int key = DateUtil.parseYearMonthKey(value);
+        if (key == DateUtil.INVALID_YEAR_MONTH_KEY) {
+            throw new IllegalArgumentException("Month should be in the format YYYY-MM.");
+        }
+        return key;
+    }
+
+    /**
+     * Parses an optional positive integer.
+     *
+     * @param value The integer, or null if none was given
+     * @param name The name of the value shown in the error message
+     * @return The integer, or null if none was given
+     * @throws IllegalArgumentException if the value is not a positive integer
+     */
+    private Integer parsePositiveInteger(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            number = 0;
+        }
+        if (number <= 0) {
+            throw new IllegalArgumentException(name + " must be a positive integer.");
+        }
+        return number;
+    }
+
+    /**
+     * Returns a parameter that must be given.
+     *
+     * @param parameters The parsed parameters
+     * @param prefix The prefix of the parameter, or an empty string for the main value
+     * @param name The name of the parameter shown in the error message
+     * @return The value of the parameter
+     * @throws IllegalArgumentException if the parameter is missing or empty
+     */
+    private String requireParameter(Map<String, String> parameters, String prefix, String name) {
+        String value = parameters.get(prefix);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing " + name
+                    + (prefix.isEmpty() ? "." : " (" + prefix + "/)."));
+        }
+        return value;
+    }
+
+    /**
+     * Parses an optional date in the format YYYY-MM-DD.
+     *
+     * @param value The date, or null if none was given
+     * @return The date, or null if none was given
+     * @throws IllegalArgumentException if the date is not valid
+     */
+    private LocalDate parseOptionalDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        LocalDate date = DateUtil.parseDate(value);
+        if (date == null) {
+            throw new IllegalArgumentException(DateUtil.getValidationErrorMessage(value));
+        }
+        return date;
+    }
+
+    /**
+     * Parses a category given by name or by its index in the category menu.
+     *
+     * @param value The category, or null if none was given
+     * @return The category, OTHERS if none was given
+     * @throws IllegalArgumentException if no category has the given name or index
+     */
+    private Expense.Category parseCategoryName(String value) {
+        if (value == null || value.isEmpty()) {
+            return Expense.Category.OTHERS;
+        }
+        if (Tokenizer.isDigits(value, 1)) {
+            // The menu lists OTHERS as 0, although its own index is the last one
+            int index = Integer.parseInt(value);
+            if (index == 0) {
+                return Expense.Category.OTHERS;
+            }
+            if (index < Expense.Category.OTHERS.getIndex()) {
+                return Expense.Category.fromIndex(index);
+            }
+        }
+        for (Expense.Category category : Expense.Category.values()) {
+            if (category.toString().equalsIgnoreCase(value)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Unknown category: " + value);
+    }
+
+    /**
+     * Parses an optional month.
+     *
+     * @param value The month (1-12), or null for the current month
+     * @return The month
+     * @throws IllegalArgumentException if the month is not between 1 and 12
+     */
+    private int parseMonth(String value) {
+        if (value == null) {
+            return LocalDate.now().getMonthValue();
+        }
+        int month;
+        try {
+            month = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Month must be between 1 and 12.");
+        }
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12.");
+        }
+        return month;
+    }
+
+    /**
+     * Parses an optional year.
+     *
+     * @param value The year, or null for the current year
+     * @return The year
+     * @throws IllegalArgumentException if the year is not a four-digit number
+     */
+    private int parseYear(String value) {
+        if (value == null) {
+            return LocalDate.now().getYear();
+        }
+        if (!Tokenizer.isDigits(value, 4)) {
+            throw new IllegalArgumentException("Year must be a four-digit number.");
+        }
+        return Integer.parseInt(value);
     }
 
     /**
@@ -671,11 +1023,14 @@ public class Parser {
         assert amountStr != null : "Amount string cannot be null";
         assert !amountStr.trim().isEmpty() : "Amount string cannot be empty";
 
-        if (!AMOUNT_PATTERN.matcher(amountStr).matches()) {
+        if (!Tokenizer.isAmount(amountStr)) {
             throw new NumberFormatException("Invalid amount format.");
         }
 
         double amount = Double.parseDouble(amountStr);
+        if (amount <= 0) {
+            throw new NumberFormatException("Amount must be greater than zero.");
+        }
         assert amount > 0 : "Amount must be greater than zero";
         return amount;
     }
@@ -688,25 +1043,18 @@ public class Parser {
      * @return A list of up to 3 trimmed tags.
      */
     private List<String> parseTags(Ui ui) {
-        List<String> tags = new ArrayList<>();
         String input = ui.readTags("Enter up to 3 tags (separated by space or comma), or press Enter to skip:\n> ");
+        return splitTags(input);
+    }
 
-        if (input.isEmpty()) {
-            return tags;
-        }
-
-        String[] rawTags = input.split("[,\\s]+");
-
-        for (String tag : rawTags) {
-            String trimmed = tag.trim();
-            if (!trimmed.isEmpty()) {
-                tags.add(trimmed);
-            }
-            if (tags.size() == 3) {
-                break;
-            }
-        }
-        return tags;
+    /**
+     * Splits a string into up to 3 tags, separated by commas or spaces.
+     *
+     * @param input The tags as typed, or null if none were given
+     * @return A list of up to 3 trimmed tags
+     */
+    private List<String> splitTags(String input) {
+        return Tokenizer.splitTags(input, MAX_TAGS);
     }
 
     /**
@@ -809,13 +1157,13 @@ public class Parser {
             case 5: return Expense.Category.ENTERTAINMENT;
             default: {
                 assert catIndex >5 || catIndex < 0;
-                System.out.println("INVALID INDEX. PICK AN INDEX FROM 0-5");
+                ui.out().println("INVALID INDEX. PICK AN INDEX FROM 0-5");
                 return parseCategory(ui);
             }
             }
         } catch (IndexExceedLimitException e) {
             logger.log(Level.WARNING, "Category input exceeds 5. Invalid selection.", e);
-            IndexExceedLimitException.handle();
+            IndexExceedLimitException.handle(ui.out());
         }
         return parseCategory(ui);
     }
@@ -0,0 +1,213 @@
+package seedu.finbro.logic.parser;
+
+import seedu.finbro.util.DateUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits and validates the parts of a command line in a single pass over its characters.
+ * The methods accept the same input as the regular expressions they replace, such as
+ * {@code [a-zA-Z]+/.*} for a prefixed parameter and {@code \d+(\.\d{1,2})?} for an amount,
+ * but compile no patterns and create no intermediate arrays, so parsing large batch files
+ * is not bound by regular expressions.
+ */
+public final class Tokenizer {
+    private static final char PREFIX_SEPARATOR = '/';
+    private static final char TAG_SEPARATOR = ',';
+    private static final int MAX_DECIMALS = 2;
+
+    private Tokenizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Splits a line into its first word and the rest, like {@code line.split("\\s+", 2)}.
+     *
+     * @param line The line to split
+     * @return The first word, followed by the rest of the line if the word is followed by whitespace
+     */
+    public static String[] splitFirstWord(String line) {
+        int end = 0;
+        while (end < line.length() && !isWhitespace(line.charAt(end))) {
+            end++;
+        }
+        if (end == line.length()) {
+            return new String[] {line};
+        }
+        int rest = end;
+        while (rest < line.length() && isWhitespace(line.charAt(rest))) {
+            rest++;
+        }
+        return new String[] {line.substring(0, end), line.substring(rest)};
+    }
+
+    /**
+     * Parses whitespace-separated parameters. A first word without a slash is the main value, stored under
+     * the empty prefix. Every word that starts with letters and a slash, e.g. {@code d/lunch}, starts a new
+     * parameter, whose value runs until the next prefix with its words joined by single spaces. Other words
+     * before the first prefix are ignored, and a repeated prefix keeps its last value.
+     *
+     * @param input The parameters, e.g. {@code 12.50 d/chicken rice c/food}
+     * @return A map of parameter prefixes to values
+     */
+    public static Map<String, String> parseParameters(String input) {
+        assert input != null : "Parameter string cannot be null";
+
+        Map<String, String> parameters = new HashMap<>();
+        StringBuilder value = new StringBuilder();
+        String prefix = null;
+        boolean isFirstWord = true;
+        int length = input.length();
+        int i = 0;
+        while (true) {
+            while (i < length && isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            int slash = -1;
+            while (i < length && !isWhitespace(input.charAt(i))) {
+                if (slash < 0 && input.charAt(i) == PREFIX_SEPARATOR) {
+                    slash = i;
+                }
+                i++;
+            }
+
+            if (isFirstWord && slash < 0) {
+                parameters.put("", input.substring(start, i));
+            } else if (slash > start && isLetters(input, start, slash)) {
+                if (prefix != null) {
+                    parameters.put(prefix, value.toString());
+                }
+                prefix = input.substring(start, slash);
+                value.setLength(0);
+                value.append(input, slash + 1, i);
+            } else if (prefix != null) {
+                if (value.length() > 0) {
+                    value.append(' ');
+                }
+                value.append(input, start, i);
+            }
+            isFirstWord = false;
+        }
+        if (prefix != null) {
+            parameters.put(prefix, value.toString());
+        }
+        return parameters;
+    }
+
+    /**
+     * Splits tags separated by commas or whitespace, skipping empty ones.
+     *
+     * @param input The tags as typed, or null if none were given
+     * @param maxTags The maximum number of tags to return
+     * @return The first tags, at most maxTags of them
+     */
+    public static List<String> splitTags(String input, int maxTags) {
+        List<String> tags = new ArrayList<>();
+        if (input == null) {
+            return tags;
+        }
+        int length = input.length();
+        int i = 0;
+        while (tags.size() < maxTags) {
+            while (i < length && isTagSeparator(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !isTagSeparator(input.charAt(i))) {
+                i++;
+            }
+            tags.add(input.substring(start, i));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns true if the text is an amount of whole digits with up to two decimal places, e.g. {@code 12.5}.
+     *
+     * @param text The text to check
+     * @return true if the text is a well-formed amount
+     */
+    public static boolean isAmount(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && isDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i == 0) {
+            return false;
+        }
+        if (i == length) {
+            return true;
+        }
+        if (text.charAt(i) != '.') {
+            return false;
+        }
+        int decimals = length - i - 1;
+        return decimals >= 1 && decimals <= MAX_DECIMALS && isDigits(text, i + 1, length);
+    }
+
+    /**
+     * Returns true if the text consists of exactly the given number of digits.
+     *
+     * @param text The text to check
+     * @param count The number of digits
+     * @return true if the text has count digits and nothing else
+     */
+    public static boolean isDigits(CharSequence text, int count) {
+        return text.length() == count && isDigits(text, 0, count);
+    }
+
+    /**
+     * Parses a date in the format YYYY-MM-DD.
+     *
+     * @param text The text to parse
+     * @return The date, or null if the text is not in that format or is not a real date, e.g. 2026-02-30
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        long epochDay = DateUtil.parseEpochDay(text);
+        return epochDay == DateUtil.INVALID_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static boolean isWhitespace(char c) {
+        // The characters of \s in a regular expression
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isTagSeparator(char c) {
+        return c == TAG_SEPARATOR || isWhitespace(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetters(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.finbro.model;
+
+import seedu.finbro.util.CurrencyFormatter;
+
+/**
+ * A notice that a change pushed the expenses of a month over a line of its budget:
+ * 50%, 80% or 100% of the budget, or over the budget.
+ */
+public final class BudgetAlert {
+    private final int month;
+    private final int year;
+    private final int percent;
+    private final boolean isExceeded;
+    private final long spentCents;
+    private final long budgetCents;
+
+    /**
+     * Constructs a BudgetAlert.
+     *
+     * @param month The month (1-12)
+     * @param year The year
+     * @param percent The share of the budget that was reached, in percent
+     * @param isExceeded true if the expenses are over the budget
+     * @param spentCents The expenses of the month in cents
+     * @param budgetCents The budget of the month in cents
+     */
+    BudgetAlert(int month, int year, int percent, boolean isExceeded, long spentCents, long budgetCents) {
+        this.month = month;
+        this.year = year;
+        this.percent = percent;
+        this.isExceeded = isExceeded;
+        this.spentCents = spentCents;
+        this.budgetCents = budgetCents;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getPercent() {
+        return percent;
+    }
+
+    public boolean isExceeded() {
+        return isExceeded;
+    }
+
+    public long getSpentCents() {
+        return spentCents;
+    }
+
+    public long getBudgetCents() {
+        return budgetCents;
+    }
+
+    /**
+     * Returns the notice shown to the user.
+     *
+     * @return The message of the alert
+     */
+    public String getMessage() {
+        String budget = CurrencyFormatter.format(MonthlySummary.fromCents(budgetCents));
+        if (isExceeded) {
+            return String.format("Budget alert: you have exceeded your budget of %s for %02d/%d by %s!",
+                    budget, month, year, CurrencyFormatter.format(MonthlySummary.fromCents(spentCents - budgetCents)));
+        }
+        return String.format("Budget alert: you have used %d%% of your budget of %s for %02d/%d (%s spent).",
+                percent, budget, month, year, CurrencyFormatter.format(MonthlySummary.fromCents(spentCents)));
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
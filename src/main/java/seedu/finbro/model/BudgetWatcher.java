@@ -0,0 +1,76 @@
+package seedu.finbro.model;
+
+import seedu.finbro.util.DateUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Raises a {@link BudgetAlert} when a change pushes the expenses of a month over 50%, 80% or 100% of its
+ * budget, or over the budget. TransactionManager passes the expenses of the changed month from before and
+ * after the change, read from its monthly summaries, so checking a change costs O(1) whatever the size of
+ * the ledger. Alerts are kept until they are taken; only the latest {@value #MAX_PENDING_ALERTS} are kept.
+ */
+final class BudgetWatcher {
+    private static final Logger logger = Logger.getLogger(BudgetWatcher.class.getName());
+    private static final int[] PERCENT_THRESHOLDS = {50, 80, 100};
+    private static final int EXCEEDED_LEVEL = PERCENT_THRESHOLDS.length + 1;
+    private static final int MAX_PENDING_ALERTS = 12;
+
+    private final List<BudgetAlert> pendingAlerts = new ArrayList<>();
+
+    /**
+     * Raises an alert if the expenses of a month crossed a line of its budget upwards.
+     * Only the highest line crossed by the change is reported.
+     *
+     * @param key The key of the month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param spentBefore The expenses of the month before the change, in cents
+     * @param spentAfter The expenses of the month after the change, in cents
+     * @param budgetCents The budget of the month in cents
+     */
+    synchronized void check(int key, long spentBefore, long spentAfter, long budgetCents) {
+        assert budgetCents >= 0 : "Budget must be non-negative";
+        int levelAfter = level(spentAfter, budgetCents);
+        if (levelAfter <= level(spentBefore, budgetCents)) {
+            return;
+        }
+        boolean isExceeded = levelAfter == EXCEEDED_LEVEL;
+        int percent = PERCENT_THRESHOLDS[Math.min(levelAfter, PERCENT_THRESHOLDS.length) - 1];
+        BudgetAlert alert = new BudgetAlert(DateUtil.getMonth(key), DateUtil.getYear(key), percent, isExceeded,
+                spentAfter, budgetCents);
+        if (pendingAlerts.size() == MAX_PENDING_ALERTS) {
+            pendingAlerts.remove(0);
+        }
+        pendingAlerts.add(alert);
+        logger.info(alert.getMessage());
+    }
+
+    /**
+     * Returns the alerts raised since the last call and forgets them.
+     *
+     * @return The pending alerts, oldest first
+     */
+    synchronized List<BudgetAlert> takeAlerts() {
+        List<BudgetAlert> alerts = new ArrayList<>(pendingAlerts);
+        pendingAlerts.clear();
+        return alerts;
+    }
+
+    /**
+     * Returns the number of lines of the budget that the expenses reached, or one more if they exceed it.
+     */
+    private static int level(long spentCents, long budgetCents) {
+        if (spentCents > budgetCents) {
+            return EXCEEDED_LEVEL;
+        }
+        int level = 0;
+        for (int percent : PERCENT_THRESHOLDS) {
+            // Spending nothing of a zero budget reaches no line
+            if (spentCents > 0 && spentCents * 100 >= budgetCents * percent) {
+                level++;
+            }
+        }
+        return level;
+    }
+}
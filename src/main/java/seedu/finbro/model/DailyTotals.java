@@ -0,0 +1,169 @@
+package seedu.finbro.model;
+
+import java.time.LocalDate;
+
+/**
+ * Income, expenses and the expenses of every category per day, held in Fenwick trees (binary indexed trees)
+ * so that the total of any range of days is two prefix sums of O(log D) each, where D is the number of days
+ * covered. Amounts are in cents. The covered days grow in both directions as transactions with earlier or
+ * later dates are added. Not thread-safe; TransactionManager updates it under its write lock.
+ */
+final class DailyTotals {
+    static final int INCOME = 0;
+    static final int EXPENSE = 1;
+    private static final int FIRST_CATEGORY = 2;
+    private static final int MEASURES = FIRST_CATEGORY + Expense.Category.values().length;
+    private static final int MIN_CAPACITY = 1024;
+
+    // The epoch day stored at index 1 of every tree
+    private long firstDay;
+    private int capacity;
+    private long[][] trees;
+
+    /**
+     * Returns the measure holding the expenses of a category.
+     *
+     * @param category The category
+     * @return The measure to pass to {@link #sum}
+     */
+    static int categoryMeasure(Expense.Category category) {
+        return FIRST_CATEGORY + category.ordinal();
+    }
+
+    /**
+     * Adds a transaction to the totals of its day, or removes it again.
+     *
+     * @param transaction The transaction
+     * @param sign 1 to add the transaction, -1 to remove it
+     */
+    void add(Transaction transaction, int sign) {
+        long day = transaction.getDate().toEpochDay();
+        long cents = sign * MonthlySummary.toCents(transaction.getAmount());
+        ensureCovers(day);
+        int index = (int) (day - firstDay) + 1;
+        if (transaction instanceof Income) {
+            update(trees[INCOME], index, cents);
+        } else if (transaction instanceof Expense) {
+            update(trees[EXPENSE], index, cents);
+            update(trees[categoryMeasure(((Expense) transaction).getCategory())], index, cents);
+        }
+    }
+
+    /**
+     * Returns the total of a measure from one day to another, both inclusive.
+     *
+     * @param measure {@link #INCOME}, {@link #EXPENSE} or a {@link #categoryMeasure}
+     * @param from The first day
+     * @param to The last day
+     * @return The total in cents
+     */
+    long sum(int measure, LocalDate from, LocalDate to) {
+        if (trees == null) {
+            return 0;
+        }
+        long fromIndex = Math.max(from.toEpochDay() - firstDay + 1, 1);
+        long toIndex = Math.min(to.toEpochDay() - firstDay + 1, capacity);
+        if (fromIndex > toIndex) {
+            return 0;
+        }
+        return prefixSum(trees[measure], (int) toIndex) - prefixSum(trees[measure], (int) fromIndex - 1);
+    }
+
+    /**
+     * Removes the totals of every day of a year, before the transactions of that year are added again.
+     *
+     * @param year The year
+     */
+    void clearYear(int year) {
+        if (trees == null) {
+            return;
+        }
+        long fromIndex = Math.max(LocalDate.of(year, 1, 1).toEpochDay() - firstDay + 1, 1);
+        long toIndex = Math.min(LocalDate.of(year, 12, 31).toEpochDay() - firstDay + 1, capacity);
+        for (long[] tree : trees) {
+            for (int index = (int) fromIndex; index <= toIndex; index++) {
+                long value = prefixSum(tree, index) - prefixSum(tree, index - 1);
+                if (value != 0) {
+                    update(tree, index, -value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all totals.
+     */
+    void clear() {
+        trees = null;
+        capacity = 0;
+    }
+
+    private void ensureCovers(long day) {
+        if (trees != null && day >= firstDay && day < firstDay + capacity) {
+            return;
+        }
+        long from = trees == null ? day : Math.min(firstDay, day);
+        long to = trees == null ? day + 1 : Math.max(firstDay + capacity, day + 1);
+        int newCapacity = Math.toIntExact(Math.max(Math.max(MIN_CAPACITY, 2L * capacity), to - from));
+        long newFirstDay;
+        if (trees == null) {
+            newFirstDay = day - newCapacity / 2;
+        } else if (day < firstDay) {
+            // Leave the room for further growth on the side that grew
+            newFirstDay = to - newCapacity;
+        } else {
+            newFirstDay = from;
+        }
+
+        long[][] newTrees = new long[MEASURES][newCapacity + 1];
+        if (trees != null) {
+            int offset = (int) (firstDay - newFirstDay);
+            for (int measure = 0; measure < MEASURES; measure++) {
+                toValues(trees[measure]);
+                System.arraycopy(trees[measure], 1, newTrees[measure], offset + 1, capacity);
+                build(newTrees[measure]);
+            }
+        }
+        trees = newTrees;
+        firstDay = newFirstDay;
+        capacity = newCapacity;
+    }
+
+    private static void update(long[] tree, int index, long delta) {
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private static long prefixSum(long[] tree, int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Turns an array of daily values into a Fenwick tree in place, in linear time.
+     */
+    private static void build(long[] tree) {
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Turns a Fenwick tree back into its daily values in place, undoing {@link #build}.
+     */
+    private static void toValues(long[] tree) {
+        for (int i = tree.length - 1; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] -= tree[i];
+            }
+        }
+    }
+}
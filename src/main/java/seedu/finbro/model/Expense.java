@@ -124,9 +124,8 @@ public class Expense extends Transaction {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("[Expense][").append(category).append("] ")
-                .append(seedu.finbro.util.CurrencyFormatter.format(amount))
-                .append(" - ").append(description);
+        sb.append("[Expense][").append(category).append("] ");
+        seedu.finbro.util.CurrencyFormatter.appendTo(sb, amount).append(" - ").append(description);
 
         if (!tags.isEmpty()) {
             sb.append(" [");
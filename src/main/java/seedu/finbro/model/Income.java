@@ -44,8 +44,8 @@ public class Income extends Transaction {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("[Income] ").append(seedu.finbro.util.CurrencyFormatter.format(amount))
-                .append(" - ").append(description);
+        sb.append("[Income] ");
+        seedu.finbro.util.CurrencyFormatter.appendTo(sb, amount).append(" - ").append(description);
 
         if (!tags.isEmpty()) {
             sb.append(" [");
@@ -0,0 +1,121 @@
+package seedu.finbro.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A consistent, read-only version of the transactions held by a TransactionManager.
+ * The manager publishes a new snapshot after every change; snapshots share the unchanged parts of
+ * the transaction list and the monthly summaries, so they are cheap to publish and can be read by
+ * savers, exporters and reports on any thread without blocking commands.
+ * The transactions themselves are immutable; their index numbers are derived from positions when shown.
+ */
+public class LedgerSnapshot {
+    private final long version;
+    private final PersistentList<Transaction> transactions;
+    private final Set<Integer> unloadedPartitions;
+    private final Map<Integer, MonthlySummary> monthlySummaries;
+    private final long totalIncomeCents;
+    private final long totalExpenseCents;
+    private final int transactionCount;
+    private final List<RecurringRule> recurringRules;
+
+    /**
+     * Constructs a snapshot of the manager's state.
+     *
+     * @param version The modification count of the manager when the snapshot was taken
+     * @param transactions The loaded transactions in insertion order
+     * @param unloadedPartitions The years of the archived partitions that are not loaded
+     * @param monthlySummaries The monthly summaries by month, which are never modified afterwards
+     * @param totalIncomeCents The total income in cents
+     * @param totalExpenseCents The total expenses in cents
+     * @param transactionCount The number of transactions, including those of unloaded partitions
+     * @param recurringRules The recurring rules with the progress matching these transactions
+     */
+    LedgerSnapshot(long version, PersistentList<Transaction> transactions, Set<Integer> unloadedPartitions,
+            Map<Integer, MonthlySummary> monthlySummaries, long totalIncomeCents, long totalExpenseCents,
+            int transactionCount, List<RecurringRule> recurringRules) {
+        this.version = version;
+        this.transactions = transactions;
+        this.unloadedPartitions = Collections.unmodifiableSet(unloadedPartitions);
+        this.monthlySummaries = Collections.unmodifiableMap(monthlySummaries);
+        this.totalIncomeCents = totalIncomeCents;
+        this.totalExpenseCents = totalExpenseCents;
+        this.transactionCount = transactionCount;
+        this.recurringRules = recurringRules;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Returns the transactions in reverse chronological order, as listed to the user.
+     *
+     * @return A sorted copy of the transactions
+     */
+    public List<Transaction> getTransactionsByDate() {
+        List<Transaction> sortedTransactions = new ArrayList<>(transactions);
+        sortedTransactions.sort((t1, t2) -> t2.getDate().compareTo(t1.getDate()));
+        return sortedTransactions;
+    }
+
+    public Set<Integer> getUnloadedPartitions() {
+        return unloadedPartitions;
+    }
+
+    /**
+     * Returns the monthly summaries of every month with transactions.
+     * The summaries are shared between snapshots and must not be modified.
+     *
+     * @return The monthly summaries
+     */
+    public Collection<MonthlySummary> getMonthlySummaries() {
+        return monthlySummaries.values();
+    }
+
+    /**
+     * Returns the summary of a month. The summary is shared between snapshots and must not be modified.
+     *
+     * @param month The month (1-12)
+     * @param year The year
+     * @return The summary, or null if the month has no transactions
+     */
+    public MonthlySummary getMonthlySummary(int month, int year) {
+        return monthlySummaries.get(TransactionManager.getSummaryKey(month, year));
+    }
+
+    public long getTotalIncomeCents() {
+        return totalIncomeCents;
+    }
+
+    public long getTotalExpenseCents() {
+        return totalExpenseCents;
+    }
+
+    /**
+     * Returns the number of transactions, including those of unloaded partitions.
+     *
+     * @return The number of transactions
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Returns the recurring rules, advanced past every occurrence among the transactions of this snapshot.
+     *
+     * @return An immutable list of the rules in the order of their ids
+     */
+    public List<RecurringRule> getRecurringRules() {
+        return recurringRules;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.finbro.model;
+
+import seedu.finbro.util.DateUtil;
+
+import java.util.Arrays;
+
+/**
+ * A table of amounts in cents per month, used for budgets and savings goals.
+ * Months are identified by {@link DateUtil#yearMonthKey(int, int)} and kept sorted in a primitive array,
+ * so a lookup is a binary search without boxing and the months of a year form one contiguous range.
+ * All methods are thread-safe.
+ */
+public class MonthlyAmountTable {
+    /** The result of {@link #get} for a month without an amount. */
+    public static final long NO_AMOUNT = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private long[] cents;
+    private int size;
+
+    /**
+     * Constructs an empty table.
+     */
+    public MonthlyAmountTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private MonthlyAmountTable(int capacity) {
+        keys = new int[Math.max(capacity, 1)];
+        cents = new long[keys.length];
+    }
+
+    /**
+     * Sets the amount of a month, replacing any previous amount.
+     *
+     * @param key The key of the month
+     * @param amountCents The amount in cents
+     */
+    public synchronized void put(int key, long amountCents) {
+        assert amountCents != NO_AMOUNT : "Amount cannot be the marker for a missing amount";
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            cents[index] = amountCents;
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            cents = Arrays.copyOf(cents, size * 2);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(cents, insertAt, cents, insertAt + 1, size - insertAt);
+        keys[insertAt] = key;
+        cents[insertAt] = amountCents;
+        size++;
+    }
+
+    /**
+     * Returns the amount of a month.
+     *
+     * @param key The key of the month
+     * @return The amount in cents, or {@link #NO_AMOUNT} if none is set
+     */
+    public synchronized long get(int key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        return index >= 0 ? cents[index] : NO_AMOUNT;
+    }
+
+    /**
+     * Returns the months from fromKey to toKey, both inclusive, that have an amount.
+     *
+     * @param fromKey The key of the first month
+     * @param toKey The key of the last month
+     * @return A new table with the amounts of those months
+     */
+    public synchronized MonthlyAmountTable range(int fromKey, int toKey) {
+        int from = lowerBound(fromKey);
+        int to = toKey < Integer.MAX_VALUE ? lowerBound(toKey + 1) : size;
+        int count = Math.max(to - from, 0);
+        MonthlyAmountTable range = new MonthlyAmountTable(count);
+        if (count > 0) {
+            System.arraycopy(keys, from, range.keys, 0, count);
+            System.arraycopy(cents, from, range.cents, 0, count);
+            range.size = count;
+        }
+        return range;
+    }
+
+    /**
+     * Returns the months of a year that have an amount.
+     *
+     * @param year The year
+     * @return A new table with the amounts of that year
+     */
+    public MonthlyAmountTable forYear(int year) {
+        return range(DateUtil.yearMonthKey(year, 1), DateUtil.yearMonthKey(year, 12));
+    }
+
+    /**
+     * Returns a copy of this table.
+     *
+     * @return A new table with the same amounts
+     */
+    public MonthlyAmountTable copy() {
+        return range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Copies all amounts of another table into this one, replacing amounts of the same months.
+     *
+     * @param other The table to copy from
+     */
+    public void putAll(MonthlyAmountTable other) {
+        MonthlyAmountTable source = other.copy();
+        for (int i = 0; i < source.size; i++) {
+            put(source.keys[i], source.cents[i]);
+        }
+    }
+
+    /**
+     * Removes all amounts.
+     */
+    public synchronized void clear() {
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the key of the month at a position, in chronological order.
+     *
+     * @param index The position, from 0 to {@code size() - 1}
+     * @return The key of the month
+     */
+    public synchronized int keyAt(int index) {
+        assert index >= 0 && index < size : "Index out of range";
+        return keys[index];
+    }
+
+    /**
+     * Returns the amount of the month at a position, in chronological order.
+     *
+     * @param index The position, from 0 to {@code size() - 1}
+     * @return The amount in cents
+     */
+    public synchronized long amountAt(int index) {
+        assert index >= 0 && index < size : "Index out of range";
+        return cents[index];
+    }
+
+    /**
+     * Returns the sum of all amounts.
+     *
+     * @return The total in cents
+     */
+    public synchronized long totalCents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += cents[i];
+        }
+        return total;
+    }
+
+    private int lowerBound(int key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        return index >= 0 ? index : -index - 1;
+    }
+}
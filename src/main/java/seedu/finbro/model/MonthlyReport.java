@@ -0,0 +1,224 @@
+package seedu.finbro.model;
+
+import seedu.finbro.util.DateUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The income, expenses, category and tag totals and budget of every month in a range.
+ * A report is built in one pass over the months of the range from the maintained monthly summaries
+ * and the budget table, so its cost depends on the number of months and not on the number of transactions.
+ */
+public class MonthlyReport {
+    private final int fromKey;
+    private final int toKey;
+    private final List<Row> rows;
+    private final long totalIncomeCents;
+    private final long totalExpenseCents;
+    private final Map<Expense.Category, Long> categoryExpenseCents;
+    private final Set<String> tags;
+    private final int budgetedMonths;
+    private final int monthsWithinBudget;
+
+    private MonthlyReport(int fromKey, int toKey, List<Row> rows, Map<Expense.Category, Long> categoryExpenseCents,
+            Set<String> tags) {
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.rows = Collections.unmodifiableList(rows);
+        this.categoryExpenseCents = Collections.unmodifiableMap(categoryExpenseCents);
+        this.tags = Collections.unmodifiableSet(tags);
+
+        long income = 0;
+        long expense = 0;
+        int budgeted = 0;
+        int withinBudget = 0;
+        for (Row row : rows) {
+            income += row.getIncomeCents();
+            expense += row.getExpenseCents();
+            if (row.hasBudget()) {
+                budgeted++;
+                withinBudget += row.isWithinBudget() ? 1 : 0;
+            }
+        }
+        this.totalIncomeCents = income;
+        this.totalExpenseCents = expense;
+        this.budgetedMonths = budgeted;
+        this.monthsWithinBudget = withinBudget;
+    }
+
+    /**
+     * Builds the report of the months from fromKey to toKey, both inclusive.
+     *
+     * @param snapshot The snapshot whose monthly summaries to read
+     * @param budgets The budgets, of which only those in the range are read
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @return The report
+     */
+    static MonthlyReport of(LedgerSnapshot snapshot, MonthlyAmountTable budgets, int fromKey, int toKey) {
+        assert fromKey <= toKey : "Report range cannot be empty";
+
+        List<Row> rows = new ArrayList<>(toKey - fromKey + 1);
+        Map<Expense.Category, Long> categoryExpenseCents = new EnumMap<>(Expense.Category.class);
+        Set<String> tags = new TreeSet<>();
+        for (int key = fromKey; key <= toKey; key++) {
+            MonthlySummary summary = snapshot.getMonthlySummary(DateUtil.getMonth(key), DateUtil.getYear(key));
+            Row row = new Row(key, summary, budgets.get(key));
+            rows.add(row);
+            row.getCategoryExpenseCents().forEach((category, cents) -> categoryExpenseCents.merge(category, cents,
+                    Long::sum));
+            tags.addAll(row.getTagIncomeCents().keySet());
+            tags.addAll(row.getTagExpenseCents().keySet());
+        }
+        return new MonthlyReport(fromKey, toKey, rows, categoryExpenseCents, tags);
+    }
+
+    public int getFromKey() {
+        return fromKey;
+    }
+
+    public int getToKey() {
+        return toKey;
+    }
+
+    /**
+     * Returns one row per month of the range, in chronological order, including months without transactions.
+     *
+     * @return The rows
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public long getTotalIncomeCents() {
+        return totalIncomeCents;
+    }
+
+    public long getTotalExpenseCents() {
+        return totalExpenseCents;
+    }
+
+    /**
+     * Returns the expenses of every category over the whole range. Categories without expenses are left out.
+     *
+     * @return The expenses in cents by category
+     */
+    public Map<Expense.Category, Long> getCategoryExpenseCents() {
+        return categoryExpenseCents;
+    }
+
+    /**
+     * Returns every tag used in the range, in alphabetical order.
+     *
+     * @return The tags
+     */
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public int getBudgetedMonths() {
+        return budgetedMonths;
+    }
+
+    public int getMonthsWithinBudget() {
+        return monthsWithinBudget;
+    }
+
+    /**
+     * The totals and budget of one month of a report.
+     */
+    public static class Row {
+        private final int key;
+        private final long incomeCents;
+        private final long expenseCents;
+        private final long budgetCents;
+        private final Map<Expense.Category, Long> categoryExpenseCents;
+        private final Map<String, Long> tagIncomeCents;
+        private final Map<String, Long> tagExpenseCents;
+
+        private Row(int key, MonthlySummary summary, long budgetCents) {
+            this.key = key;
+            this.budgetCents = budgetCents;
+            if (summary == null) {
+                incomeCents = 0;
+                expenseCents = 0;
+                categoryExpenseCents = Collections.emptyMap();
+                tagIncomeCents = Collections.emptyMap();
+                tagExpenseCents = Collections.emptyMap();
+            } else {
+                // Summaries in a snapshot are never modified, so their maps can be shared
+                incomeCents = summary.getIncomeCents();
+                expenseCents = summary.getExpenseCents();
+                categoryExpenseCents = summary.getCategoryExpenseCents();
+                tagIncomeCents = summary.getTagIncomeCents();
+                tagExpenseCents = summary.getTagExpenseCents();
+            }
+        }
+
+        /**
+         * Returns the key of the month of this row, see {@link DateUtil#yearMonthKey(int, int)}.
+         *
+         * @return The key of the month
+         */
+        public int getKey() {
+            return key;
+        }
+
+        public long getIncomeCents() {
+            return incomeCents;
+        }
+
+        public long getExpenseCents() {
+            return expenseCents;
+        }
+
+        public long getNetCents() {
+            return incomeCents - expenseCents;
+        }
+
+        /**
+         * Returns whether a budget was set for the month.
+         *
+         * @return true if the month has a budget
+         */
+        public boolean hasBudget() {
+            return budgetCents != MonthlyAmountTable.NO_AMOUNT;
+        }
+
+        /**
+         * Returns the budget of the month.
+         *
+         * @return The budget in cents, or {@link MonthlyAmountTable#NO_AMOUNT} if none was set
+         */
+        public long getBudgetCents() {
+            return budgetCents;
+        }
+
+        /**
+         * Returns whether the month has a budget and its expenses did not exceed it.
+         *
+         * @return true if the month stayed within its budget
+         */
+        public boolean isWithinBudget() {
+            return hasBudget() && expenseCents <= budgetCents;
+        }
+
+        public Map<Expense.Category, Long> getCategoryExpenseCents() {
+            return categoryExpenseCents;
+        }
+
+        public Map<String, Long> getTagIncomeCents() {
+            return tagIncomeCents;
+        }
+
+        public Map<String, Long> getTagExpenseCents() {
+            return tagExpenseCents;
+        }
+    }
+}
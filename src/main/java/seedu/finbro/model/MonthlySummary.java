@@ -0,0 +1,207 @@
+package seedu.finbro.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running totals of the transactions in one month.
+ * Amounts are kept in cents so that adding and removing transactions never accumulates rounding errors.
+ */
+public class MonthlySummary {
+    private static final double CENTS_PER_DOLLAR = 100.0;
+
+    private final int year;
+    private final int month;
+    private int transactionCount;
+    private long incomeCents;
+    private long expenseCents;
+    private final Map<Expense.Category, Long> categoryExpenseCents = new EnumMap<>(Expense.Category.class);
+    private final Map<String, Long> tagIncomeCents = new HashMap<>();
+    private final Map<String, Long> tagExpenseCents = new HashMap<>();
+
+    /**
+     * Constructs an empty summary for the given month.
+     *
+     * @param year The year of the month
+     * @param month The month (1-12)
+     */
+    public MonthlySummary(int year, int month) {
+        assert month >= 1 && month <= 12 : "Month must be between 1 and 12";
+        this.year = year;
+        this.month = month;
+    }
+
+    /**
+     * Constructs a copy of another summary.
+     *
+     * @param other The summary to copy
+     */
+    public MonthlySummary(MonthlySummary other) {
+        this(other.year, other.month);
+        transactionCount = other.transactionCount;
+        incomeCents = other.incomeCents;
+        expenseCents = other.expenseCents;
+        categoryExpenseCents.putAll(other.categoryExpenseCents);
+        tagIncomeCents.putAll(other.tagIncomeCents);
+        tagExpenseCents.putAll(other.tagExpenseCents);
+    }
+
+    /**
+     * Converts a dollar amount to cents.
+     *
+     * @param amount The amount in dollars
+     * @return The amount in cents, rounded to the nearest cent
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts an amount in cents to dollars.
+     *
+     * @param cents The amount in cents
+     * @return The amount in dollars
+     */
+    public static double fromCents(long cents) {
+        return cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Adds a transaction of this month to the totals.
+     *
+     * @param transaction The transaction to add
+     */
+    public void add(Transaction transaction) {
+        apply(transaction, 1);
+    }
+
+    /**
+     * Removes a transaction of this month from the totals.
+     *
+     * @param transaction The transaction to remove
+     */
+    public void remove(Transaction transaction) {
+        apply(transaction, -1);
+    }
+
+    /**
+     * Adds or removes a transaction, depending on the sign.
+     *
+     * @param transaction The transaction to apply
+     * @param sign 1 to add the transaction, -1 to remove it
+     */
+    private void apply(Transaction transaction, int sign) {
+        assert transaction.getDate().getYear() == year && transaction.getDate().getMonthValue() == month
+                : "Transaction does not belong to this month";
+        long cents = sign * toCents(transaction.getAmount());
+        transactionCount += sign;
+        if (transaction instanceof Income) {
+            incomeCents += cents;
+            for (String tag : transaction.getTags()) {
+                addTo(tagIncomeCents, tag, cents);
+            }
+        } else if (transaction instanceof Expense) {
+            expenseCents += cents;
+            addTo(categoryExpenseCents, ((Expense) transaction).getCategory(), cents);
+            for (String tag : transaction.getTags()) {
+                addTo(tagExpenseCents, tag, cents);
+            }
+        }
+    }
+
+    /**
+     * Adds totals restored from a saved summary.
+     *
+     * @param count The number of transactions
+     * @param income The income in cents
+     * @param expense The expenses in cents
+     */
+    public void addTotals(int count, long income, long expense) {
+        transactionCount += count;
+        incomeCents += income;
+        expenseCents += expense;
+    }
+
+    /**
+     * Adds the expenses of a category restored from a saved summary.
+     *
+     * @param category The expense category
+     * @param cents The expenses in cents
+     */
+    public void addCategoryExpense(Expense.Category category, long cents) {
+        addTo(categoryExpenseCents, category, cents);
+    }
+
+    /**
+     * Adds the amounts of a tag restored from a saved summary.
+     *
+     * @param tag The tag
+     * @param income The income with this tag in cents
+     * @param expense The expenses with this tag in cents
+     */
+    public void addTagAmounts(String tag, long income, long expense) {
+        addTo(tagIncomeCents, tag, income);
+        addTo(tagExpenseCents, tag, expense);
+    }
+
+    /**
+     * Adds an amount to a map entry, dropping entries that fall back to zero.
+     */
+    private static <K> void addTo(Map<K, Long> totals, K key, long cents) {
+        if (cents != 0) {
+            totals.merge(key, cents, (oldValue, value) -> oldValue + value == 0 ? null : oldValue + value);
+        }
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public long getIncomeCents() {
+        return incomeCents;
+    }
+
+    public long getExpenseCents() {
+        return expenseCents;
+    }
+
+    /**
+     * Returns the savings of the month: its income minus its expenses.
+     *
+     * @return The net amount in cents, negative if more was spent than earned
+     */
+    public long getNetCents() {
+        return incomeCents - expenseCents;
+    }
+
+    public Map<Expense.Category, Long> getCategoryExpenseCents() {
+        return Collections.unmodifiableMap(categoryExpenseCents);
+    }
+
+    public Map<String, Long> getTagIncomeCents() {
+        return Collections.unmodifiableMap(tagIncomeCents);
+    }
+
+    public Map<String, Long> getTagExpenseCents() {
+        return Collections.unmodifiableMap(tagExpenseCents);
+    }
+
+    /**
+     * Returns whether the month has no transactions left.
+     *
+     * @return true if the summary is empty
+     */
+    public boolean isEmpty() {
+        return transactionCount == 0;
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.finbro.model;
+
+import java.util.List;
+
+/**
+ * Loads the transactions of one archived ledger partition on demand.
+ * Used by {@link TransactionManager} to page in older years only when a query touches them.
+ */
+@FunctionalInterface
+public interface PartitionLoader {
+    /**
+     * Loads all transactions of the partition for the given year.
+     *
+     * @param year The year of the partition to load
+     * @return The transactions stored in the partition
+     * @throws java.io.UncheckedIOException if the partition cannot be read
+     */
+    List<Transaction> loadPartition(int year);
+}
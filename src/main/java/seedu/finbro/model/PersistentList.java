@@ -0,0 +1,227 @@
+package seedu.finbro.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list stored in chunks of at most {@value #CHUNK_SIZE} elements.
+ * Every change returns a new list that shares all unchanged chunks with the old one,
+ * so older versions stay valid and can be read by other threads without copying the elements.
+ *
+ * @param <E> The type of the elements
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+    static final int CHUNK_SIZE = 32;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[0][], new int[0], 0);
+
+    // chunks[i] holds the elements starting at index offsets[i]; chunks are never empty and never modified
+    private final Object[][] chunks;
+    private final int[] offsets;
+    private final int size;
+
+    private PersistentList(Object[][] chunks, int[] offsets, int size) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @return The empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the given elements in iteration order.
+     *
+     * @param elements The elements to copy
+     * @return The new list
+     */
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        Object[] all = elements.toArray();
+        int chunkCount = (all.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Object[][] chunks = new Object[chunkCount][];
+        int[] offsets = new int[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            offsets[i] = i * CHUNK_SIZE;
+            chunks[i] = Arrays.copyOfRange(all, offsets[i], Math.min(all.length, offsets[i] + CHUNK_SIZE));
+        }
+        return new PersistentList<>(chunks, offsets, all.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        return (E) chunks[chunk][index - offsets[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with the element appended.
+     *
+     * @param element The element to append
+     * @return The new list
+     */
+    public PersistentList<E> plus(E element) {
+        int last = chunks.length - 1;
+        if (last >= 0 && chunks[last].length < CHUNK_SIZE) {
+            Object[][] newChunks = chunks.clone();
+            Object[] chunk = Arrays.copyOf(chunks[last], chunks[last].length + 1);
+            chunk[chunk.length - 1] = element;
+            newChunks[last] = chunk;
+            return new PersistentList<>(newChunks, offsets, size + 1);
+        }
+        Object[][] newChunks = Arrays.copyOf(chunks, chunks.length + 1);
+        int[] newOffsets = Arrays.copyOf(offsets, offsets.length + 1);
+        newChunks[chunks.length] = new Object[] {element};
+        newOffsets[offsets.length] = size;
+        return new PersistentList<>(newChunks, newOffsets, size + 1);
+    }
+
+    /**
+     * Returns a list with the elements appended in iteration order.
+     * Only the last chunk is copied; the new elements are stored in new full chunks.
+     *
+     * @param elements The elements to append
+     * @return The new list
+     */
+    public PersistentList<E> plusAll(Collection<? extends E> elements) {
+        Object[] added = elements.toArray();
+        if (added.length == 0) {
+            return this;
+        }
+        int last = chunks.length - 1;
+        int intoLast = last >= 0 ? Math.min(CHUNK_SIZE - chunks[last].length, added.length) : 0;
+        int newChunkCount = (added.length - intoLast + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Object[][] newChunks = Arrays.copyOf(chunks, chunks.length + newChunkCount);
+        int[] newOffsets = Arrays.copyOf(offsets, offsets.length + newChunkCount);
+
+        if (intoLast > 0) {
+            Object[] chunk = Arrays.copyOf(chunks[last], chunks[last].length + intoLast);
+            System.arraycopy(added, 0, chunk, chunks[last].length, intoLast);
+            newChunks[last] = chunk;
+        }
+        for (int i = 0; i < newChunkCount; i++) {
+            int from = intoLast + i * CHUNK_SIZE;
+            newChunks[chunks.length + i] = Arrays.copyOfRange(added, from, Math.min(added.length, from + CHUNK_SIZE));
+            newOffsets[offsets.length + i] = size + from;
+        }
+        return new PersistentList<>(newChunks, newOffsets, size + added.length);
+    }
+
+    /**
+     * Returns a list with the element at the given index replaced.
+     *
+     * @param index The index of the element to replace
+     * @param element The new element
+     * @return The new list
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunk] = chunks[chunk].clone();
+        newChunks[chunk][index - offsets[chunk]] = element;
+        return new PersistentList<>(newChunks, offsets, size);
+    }
+
+    /**
+     * Returns a list with the element at the given index removed.
+     *
+     * @param index The index of the element to remove
+     * @return The new list
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        int position = index - offsets[chunk];
+        Object[] oldChunk = chunks[chunk];
+
+        if (oldChunk.length == 1) {
+            Object[][] newChunks = new Object[chunks.length - 1][];
+            int[] newOffsets = new int[offsets.length - 1];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            System.arraycopy(chunks, chunk + 1, newChunks, chunk, chunks.length - chunk - 1);
+            System.arraycopy(offsets, 0, newOffsets, 0, chunk);
+            for (int i = chunk; i < newOffsets.length; i++) {
+                newOffsets[i] = offsets[i + 1] - 1;
+            }
+            return new PersistentList<>(newChunks, newOffsets, size - 1);
+        }
+
+        Object[] newChunk = new Object[oldChunk.length - 1];
+        System.arraycopy(oldChunk, 0, newChunk, 0, position);
+        System.arraycopy(oldChunk, position + 1, newChunk, position, oldChunk.length - position - 1);
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunk] = newChunk;
+        int[] newOffsets = offsets.clone();
+        for (int i = chunk + 1; i < newOffsets.length; i++) {
+            newOffsets[i]--;
+        }
+        return new PersistentList<>(newChunks, newOffsets, size - 1);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int chunk;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[chunk][position++];
+                if (position == chunks[chunk].length) {
+                    chunk++;
+                    position = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Finds the chunk holding the element at the given index.
+     */
+    private int findChunk(int index) {
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+    }
+}
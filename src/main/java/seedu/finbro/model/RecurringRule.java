@@ -0,0 +1,137 @@
+package seedu.finbro.model;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+
+/**
+ * A transaction that repeats at a fixed interval, such as rent every month or a salary every two weeks.
+ * The template is the first occurrence; occurrence k falls on the date of the template plus k intervals,
+ * so monthly rules on the 31st fall on the last day of shorter months and return to the 31st afterwards.
+ * Rules are immutable: {@link #advance()} returns the rule after its next occurrence has been added.
+ */
+public class RecurringRule {
+    public static final int MAX_INTERVAL = 1000;
+
+    private final int id;
+    private final Transaction template;
+    private final String interval;
+    private final Period period;
+    private final int occurrences;
+    private final LocalDate nextDate;
+
+    /**
+     * Constructs a RecurringRule.
+     *
+     * @param id The number that identifies the rule
+     * @param template The first occurrence, whose date is the start of the rule
+     * @param interval The interval, a number followed by d, w, m or y, e.g. {@code 1m}
+     * @param occurrences The number of occurrences already added to the ledger
+     * @throws IllegalArgumentException if the interval is not valid or the occurrences are negative
+     */
+    public RecurringRule(int id, Transaction template, String interval, int occurrences) {
+        assert template != null : "Template cannot be null";
+        this.id = id;
+        this.template = template;
+        this.interval = interval.toLowerCase();
+        this.period = parseInterval(interval);
+        if (period == null) {
+            throw new IllegalArgumentException("Interval should be a number from 1 to " + MAX_INTERVAL
+                    + " followed by d, w, m or y, e.g. every/1m.");
+        }
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("Occurrences cannot be negative.");
+        }
+        this.occurrences = occurrences;
+        this.nextDate = template.getDate().plus(period.multipliedBy(occurrences));
+    }
+
+    /**
+     * Parses an interval given as a number of days, weeks, months or years, e.g. {@code 14d}, {@code 2w},
+     * {@code 1m} or {@code 1y}.
+     *
+     * @param interval The interval
+     * @return The period of the interval, or null if it is not valid
+     */
+    public static Period parseInterval(String interval) {
+        if (interval == null || interval.length() < 2) {
+            return null;
+        }
+        char unit = Character.toLowerCase(interval.charAt(interval.length() - 1));
+        int count;
+        try {
+            count = Integer.parseInt(interval.substring(0, interval.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (count <= 0 || count > MAX_INTERVAL) {
+            return null;
+        }
+        switch (unit) {
+        case 'd':
+            return Period.ofDays(count);
+        case 'w':
+            return Period.ofWeeks(count);
+        case 'm':
+            return Period.ofMonths(count);
+        case 'y':
+            return Period.ofYears(count);
+        default:
+            return null;
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Transaction getTemplate() {
+        return template;
+    }
+
+    public String getInterval() {
+        return interval;
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * Returns the date of the next occurrence that has not been added to the ledger yet.
+     *
+     * @return The next due date
+     */
+    public LocalDate getNextDate() {
+        return nextDate;
+    }
+
+    /**
+     * Creates the next occurrence: a copy of the template on the next due date.
+     *
+     * @return The transaction of the next occurrence
+     */
+    public Transaction createNextOccurrence() {
+        if (template instanceof Expense) {
+            Expense expense = (Expense) template;
+            return new Expense(expense.getAmount(), expense.getDescription(), nextDate, expense.getCategory(),
+                    new ArrayList<>(expense.getTags()));
+        }
+        return new Income(template.getAmount(), template.getDescription(), nextDate,
+                new ArrayList<>(template.getTags()));
+    }
+
+    /**
+     * Returns this rule after its next occurrence has been added to the ledger.
+     *
+     * @return The rule whose next occurrence is one interval later
+     */
+    public RecurringRule advance() {
+        return new RecurringRule(id, template, interval, occurrences + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "every " + interval + ", next " + nextDate + ": " + template;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.finbro.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Holds the recurring rules in a priority queue ordered by their next due date, so finding the due rules
+ * looks only at the head of the queue. Catching up adds every occurrence due by a date in
+ * O(k log r) for k occurrences of r rules, however many rules are not due yet.
+ * Not thread-safe; TransactionManager calls it under its write lock.
+ */
+final class RecurringScheduler {
+    // Occurrences added by one catch-up at most; the rest are added by the next one
+    static final int MAX_OCCURRENCES_PER_CATCH_UP = 100_000;
+    private static final Logger logger = Logger.getLogger(RecurringScheduler.class.getName());
+
+    private final PriorityQueue<RecurringRule> queue = new PriorityQueue<>(
+            Comparator.comparing(RecurringRule::getNextDate).thenComparingInt(RecurringRule::getId));
+    private final Map<Integer, RecurringRule> rules = new TreeMap<>();
+    private int nextId = 1;
+
+    /**
+     * Adds a new rule with the next free id.
+     *
+     * @param template The first occurrence
+     * @param interval The interval, see {@link RecurringRule#parseInterval(String)}
+     * @return The added rule
+     * @throws IllegalArgumentException if the interval is not valid
+     */
+    RecurringRule add(Transaction template, String interval) {
+        RecurringRule rule = new RecurringRule(nextId, template, interval, 0);
+        put(rule);
+        return rule;
+    }
+
+    /**
+     * Adds a saved rule with its own id, replacing any rule with the same id.
+     *
+     * @param rule The rule
+     */
+    void restore(RecurringRule rule) {
+        remove(rule.getId());
+        put(rule);
+    }
+
+    /**
+     * Removes a rule.
+     *
+     * @param id The id of the rule
+     * @return true if there was a rule with that id
+     */
+    boolean remove(int id) {
+        RecurringRule rule = rules.remove(id);
+        if (rule == null) {
+            return false;
+        }
+        queue.remove(rule);
+        return true;
+    }
+
+    /**
+     * Returns the rules in the order of their ids.
+     *
+     * @return A copy of the rules
+     */
+    List<RecurringRule> getRules() {
+        return new ArrayList<>(rules.values());
+    }
+
+    /**
+     * Advances every rule past the given date and returns the occurrences it passed, in date order.
+     *
+     * @param date The last date to add occurrences for, usually today
+     * @return The due occurrences
+     */
+    List<Transaction> takeDue(LocalDate date) {
+        List<Transaction> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().getNextDate().isAfter(date)) {
+            if (due.size() == MAX_OCCURRENCES_PER_CATCH_UP) {
+                logger.warning("Stopped catching up after " + due.size() + " recurring transactions");
+                break;
+            }
+            RecurringRule rule = queue.poll();
+            due.add(rule.createNextOccurrence());
+            RecurringRule advanced = rule.advance();
+            rules.put(advanced.getId(), advanced);
+            queue.add(advanced);
+        }
+        return due;
+    }
+
+    /**
+     * Removes all rules.
+     */
+    void clear() {
+        rules.clear();
+        queue.clear();
+    }
+
+    private void put(RecurringRule rule) {
+        rules.put(rule.getId(), rule);
+        queue.add(rule);
+        nextId = Math.max(nextId, rule.getId() + 1);
+    }
+}
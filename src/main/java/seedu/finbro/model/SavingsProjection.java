@@ -0,0 +1,107 @@
+package seedu.finbro.model;
+
+import seedu.finbro.util.DateUtil;
+
+/**
+ * The savings of a range of months and where they lead: the average savings per month (the run rate),
+ * how many months met their savings goal, and how long saving an amount takes at the run rate.
+ * Each month's savings are the net amount its summary already keeps, compared with the goal of that month,
+ * so the transactions themselves are never read.
+ */
+public class SavingsProjection {
+    public static final long NEVER = -1;
+
+    private final int fromKey;
+    private final int toKey;
+    private final long totalNetCents;
+    private final long runRateCents;
+    private final int monthsWithGoal;
+    private final int monthsGoalMet;
+
+    private SavingsProjection(int fromKey, int toKey, long totalNetCents, int monthsWithGoal, int monthsGoalMet) {
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.totalNetCents = totalNetCents;
+        this.runRateCents = Math.round((double) totalNetCents / getMonthCount());
+        this.monthsWithGoal = monthsWithGoal;
+        this.monthsGoalMet = monthsGoalMet;
+    }
+
+    /**
+     * Builds the projection of the months from fromKey to toKey, both inclusive.
+     * Months without transactions count as months without savings.
+     *
+     * @param snapshot The snapshot whose monthly summaries to read
+     * @param savingsGoals The savings goals, of which only those in the range are read
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @return The projection
+     */
+    static SavingsProjection of(LedgerSnapshot snapshot, MonthlyAmountTable savingsGoals, int fromKey, int toKey) {
+        assert fromKey <= toKey : "Projection range cannot be empty";
+
+        long totalNetCents = 0;
+        int monthsWithGoal = 0;
+        int monthsGoalMet = 0;
+        for (int key = fromKey; key <= toKey; key++) {
+            MonthlySummary summary = snapshot.getMonthlySummary(DateUtil.getMonth(key), DateUtil.getYear(key));
+            long netCents = summary == null ? 0 : summary.getNetCents();
+            totalNetCents += netCents;
+            long goalCents = savingsGoals.get(key);
+            if (goalCents != MonthlyAmountTable.NO_AMOUNT) {
+                monthsWithGoal++;
+                monthsGoalMet += netCents >= goalCents ? 1 : 0;
+            }
+        }
+        return new SavingsProjection(fromKey, toKey, totalNetCents, monthsWithGoal, monthsGoalMet);
+    }
+
+    public int getFromKey() {
+        return fromKey;
+    }
+
+    public int getToKey() {
+        return toKey;
+    }
+
+    public int getMonthCount() {
+        return toKey - fromKey + 1;
+    }
+
+    public long getTotalNetCents() {
+        return totalNetCents;
+    }
+
+    /**
+     * Returns the average savings per month of the range, rounded to the nearest cent.
+     *
+     * @return The run rate in cents, negative if more was spent than earned
+     */
+    public long getRunRateCents() {
+        return runRateCents;
+    }
+
+    public int getMonthsWithGoal() {
+        return monthsWithGoal;
+    }
+
+    public int getMonthsGoalMet() {
+        return monthsGoalMet;
+    }
+
+    /**
+     * Returns the number of months it takes to save an amount at the run rate, rounded up.
+     *
+     * @param cents The amount to save in cents
+     * @return The number of months, 0 if there is nothing to save, or {@link #NEVER} if the run rate is not positive
+     */
+    public long monthsToSave(long cents) {
+        if (cents <= 0) {
+            return 0;
+        }
+        if (runRateCents <= 0) {
+            return NEVER;
+        }
+        return (cents + runRateCents - 1) / runRateCents;
+    }
+}
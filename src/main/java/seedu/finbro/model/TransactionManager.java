@@ -1,32 +1,84 @@
 package seedu.finbro.model;
 
+import seedu.finbro.util.DateUtil;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
  * Manages transactions in the FinBro application.
+ * All methods are thread-safe: queries share a read lock and changes are serialized by a write lock.
+ * Queries that have to page in archived partitions take the write lock instead.
+ * After every change an immutable {@link LedgerSnapshot} is published, which totals and background work
+ * read without taking any lock.
  */
 public class TransactionManager {
     private static final Logger logger = Logger.getLogger(TransactionManager.class.getName());
     private static final int INDEX_OFFSET = 1;
+    private static final int DEFAULT_PARTITION_CAPACITY = 3;
     private static final double DEFAULT_BUDGET = -1.0;
     private static final double DEFAULT_SAVINGS_GOAL = -1.0;
-    private final List<Transaction> transactions;
-    private final Map<String, Double> budgets = new HashMap<>();
-    private final Map<String, Double> savingsGoals = new HashMap<>();
+    // Shared by all managers, so that two managers never report the same version of a month
+    private static final AtomicLong modificationCounter = new AtomicLong();
+    private PersistentList<Transaction> transactions = PersistentList.empty();
+    private final MonthlyAmountTable budgets = new MonthlyAmountTable();
+    private final MonthlyAmountTable savingsGoals = new MonthlyAmountTable();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeSet<Integer> unloadedPartitions = new TreeSet<>();
+    private final Map<Integer, MonthlySummary> monthlySummaries = new HashMap<>();
+    private final DailyTotals dailyTotals = new DailyTotals();
+    private final BudgetWatcher budgetWatcher = new BudgetWatcher();
+    private final RecurringScheduler recurringScheduler = new RecurringScheduler();
+    private long totalIncomeCents;
+    private long totalExpenseCents;
+    // Counts the transactions of unloaded partitions too, from their saved summaries
+    private int totalTransactionCount;
+    private List<RecurringRule> publishedRules = Collections.emptyList();
+    private boolean hasRecurringRuleChanges;
+    private final Set<Integer> archivedPartitions = new HashSet<>();
+    // Loaded archived partitions in access order, least recently used first
+    private final LinkedHashSet<Integer> loadedPartitions = new LinkedHashSet<>();
+    // Archived partitions with unsaved changes, mapped to the version of their last change
+    private final Map<Integer, Long> modifiedPartitions = new HashMap<>();
+    private PartitionLoader partitionLoader;
+    private int partitionCapacity = DEFAULT_PARTITION_CAPACITY;
+    // Lets queries skip the write lock while no archived partitions are registered
+    private volatile boolean hasArchivedPartitions;
+    private long version;
+    // Months whose summaries changed since the last snapshot was published
+    private final Set<Integer> changedSummaries = new HashSet<>();
+    private Map<Integer, MonthlySummary> publishedSummaries = new HashMap<>();
+    private volatile LedgerSnapshot published;
+    // The modification count of the last change to each month, see getMonthVersion
+    private final Map<Integer, Long> monthVersions = new ConcurrentHashMap<>();
+    // The modification count of the last change to every month at once
+    private volatile long allMonthsVersion = modificationCounter.incrementAndGet();
 
     /**
      * Constructs a TransactionManager with an empty list of transactions.
      */
     public TransactionManager() {
-        this.transactions = new ArrayList<>();
+        publish();
         logger.info("Created new TransactionManager");
     }
 
@@ -37,48 +89,147 @@ public class TransactionManager {
      */
     public void addTransaction(Transaction transaction) {
         assert transaction != null : "Cannot add null transaction";
-        transactions.add(transaction);
-        transaction.indexNum = transactions.size();
+        int year = transaction.getDate().getYear();
+        write(() -> {
+            loadPartitionsLocked(year, year);
+            markModified(year);
+            transactions = transactions.plus(transaction);
+            int key = getSummaryKey(transaction.getDate().getMonthValue(), year);
+            long spentBefore = getExpenseCents(key);
+            addToSummary(transaction);
+            watchBudget(key, spentBefore);
+        });
         logger.info("Added " + transaction.getClass().getSimpleName() +
                 " with amount $" + transaction.getAmount() +
                 " and description: " + transaction.getDescription());
     }
 
     /**
-     * Deletes a transaction at the specified index or range.
+     * Adds several transactions in one change, publishing a single snapshot for all of them.
+     * Used to load the ledger and to import or restore transactions in bulk; the monthly summaries
+     * are updated in the same pass that numbers the transactions, and one line is logged for all of them.
+     *
+     * @param newTransactions The transactions to add, in order. Must not contain null.
+     */
+    public void addAll(Collection<? extends Transaction> newTransactions) {
+        assert newTransactions != null : "Cannot add null transactions";
+        if (newTransactions.isEmpty()) {
+            return;
+        }
+        int fromYear = Integer.MAX_VALUE;
+        int toYear = Integer.MIN_VALUE;
+        for (Transaction transaction : newTransactions) {
+            assert transaction != null : "Cannot add null transaction";
+            int year = transaction.getDate().getYear();
+            fromYear = Math.min(fromYear, year);
+            toYear = Math.max(toYear, year);
+        }
+        int loadFrom = fromYear;
+        int loadTo = toYear;
+
+        write(() -> {
+            // Load every year in between, so that none of the affected partitions is evicted again
+            loadPartitionsLocked(loadFrom, loadTo);
+            version++;
+            for (Transaction transaction : newTransactions) {
+                modifiedPartitions.put(transaction.getDate().getYear(), version);
+                addToSummary(transaction);
+            }
+            transactions = transactions.plusAll(newTransactions);
+        });
+        logger.info("Added " + newTransactions.size() + " transactions of the years " + loadFrom + " to " + loadTo);
+    }
+
+    /**
+     * Deletes the transaction at the specified position in insertion order.
+     * Commands delete the transactions shown by a list with {@link #deleteTransactions(Collection)} instead,
+     * since the numbers shown to the user follow the chronological order.
      *
      * @param index The index of the transaction to delete (1-based)
      * @throws IndexOutOfBoundsException if the index is out of range
      */
     public void deleteTransaction(int index) {
         assert index >= 0 : "Index must be non-negative";
-        assert index <= transactions.size() : "Index must be within the bounds of the transaction list";
+        Transaction removed = write(() -> {
+            loadAllPartitionsLocked();
+            assert index <= transactions.size() : "Index must be within the bounds of the transaction list";
 
-        if (index < 1 || index > transactions.size()) {
-            logger.warning("Attempt to delete transaction at invalid index: " + index);
-            throw new IndexOutOfBoundsException("Transaction index out of range: " + index);
-        }
-        Transaction removed = transactions.remove(index - INDEX_OFFSET);
+            if (index < 1 || index > transactions.size()) {
+                logger.warning("Attempt to delete transaction at invalid index: " + index);
+                throw new IndexOutOfBoundsException("Transaction index out of range: " + index);
+            }
+            Transaction transaction = transactions.get(index - INDEX_OFFSET);
+            transactions = transactions.minus(index - INDEX_OFFSET);
+            markModified(transaction.getDate().getYear());
+            removeFromSummary(transaction);
+            return transaction;
+        });
 
-        for (int i = index; i < transactions.size(); i++) {
-            transactions.get(i).indexNum -= INDEX_OFFSET;
-        }
-        
         logger.info("Deleted " + removed.getClass().getSimpleName() +
                 " with amount $" + removed.getAmount() +
                 " at index " + index);
     }
 
+    /**
+     * Deletes the given transactions in one change, matching them by identity so that other transactions
+     * with the same details are kept. Only the partitions of their years are loaded.
+     *
+     * @param toDelete The transactions to delete, as returned by a list
+     * @return The number of transactions deleted; transactions no longer in the ledger are skipped
+     */
+    public int deleteTransactions(Collection<? extends Transaction> toDelete) {
+        assert toDelete != null : "Cannot delete null transactions";
+        if (toDelete.isEmpty()) {
+            return 0;
+        }
+        int fromYear = Integer.MAX_VALUE;
+        int toYear = Integer.MIN_VALUE;
+        Set<Transaction> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Transaction transaction : toDelete) {
+            int year = transaction.getDate().getYear();
+            fromYear = Math.min(fromYear, year);
+            toYear = Math.max(toYear, year);
+            remaining.add(transaction);
+        }
+        int loadFrom = fromYear;
+        int loadTo = toYear;
+
+        int deleted = write(() -> {
+            loadPartitionsLocked(loadFrom, loadTo);
+            List<Transaction> kept = new ArrayList<>(transactions.size());
+            int count = 0;
+            for (Transaction transaction : transactions) {
+                if (remaining.remove(transaction)) {
+                    markModified(transaction.getDate().getYear());
+                    removeFromSummary(transaction);
+                    count++;
+                } else {
+                    kept.add(transaction);
+                }
+            }
+            if (count > 0) {
+                transactions = PersistentList.copyOf(kept);
+            }
+            return count;
+        });
+        logger.info("Deleted " + deleted + " transactions of the years " + loadFrom + " to " + loadTo);
+        return deleted;
+    }
+
     /**
      * Gets the index number of a transaction at the specified position.
+     * Index numbers are derived from positions rather than stored in the transactions,
+     * which are shared with published snapshots and never modified.
      *
      * @param index The index in the list (0-based)
      * @return The transaction's index number (1-based)
      */
     public int getIndexNum(int index) {
         assert index >= 0 : "Index must be non-negative";
-        assert index < transactions.size() : "Index must be within the bounds of the transaction list";
-        return transactions.get(index).indexNum;
+        return readAll(() -> {
+            assert index < transactions.size() : "Index must be within the bounds of the transaction list";
+            return index + INDEX_OFFSET;
+        });
     }
 
     /**
@@ -87,11 +238,8 @@ public class TransactionManager {
      * @return List of all transactions in reverse chronological order
      */
     public List<Transaction> listTransactions() {
-        assert transactions != null : "Transactions list cannot be null";
         // Sort by date in reverse chronological order
-        List<Transaction> sortedTransactions = new ArrayList<>(transactions);
-        Collections.sort(sortedTransactions, (t1, t2) -> t2.getDate().compareTo(t1.getDate()));
-        return sortedTransactions;
+        return readAll(this::sortedLoadedTransactions);
     }
 
     /**
@@ -101,8 +249,48 @@ public class TransactionManager {
      * @return List of transactions, limited to the specified number
      */
     public List<Transaction> listTransactions(int limit) {
-        List<Transaction> allTransactions = listTransactions();
-        return allTransactions.subList(0, Math.min(limit, allTransactions.size()));
+        assert limit >= 0 : "Limit cannot be negative";
+        if (!hasArchivedPartitions) {
+            return read(() -> latestLoadedTransactions(limit));
+        }
+        // Only the partitions of the latest years that hold the requested transactions are loaded
+        return write(() -> {
+            loadPartitionsLocked(getFirstYearOfLatest(limit), Integer.MAX_VALUE);
+            return latestLoadedTransactions(limit);
+        });
+    }
+
+    /**
+     * Returns the latest loaded transactions in reverse chronological order.
+     *
+     * @param limit The maximum number of transactions to return
+     * @return List of transactions, limited to the specified number
+     */
+    private List<Transaction> latestLoadedTransactions(int limit) {
+        List<Transaction> sortedTransactions = sortedLoadedTransactions();
+        return sortedTransactions.subList(0, Math.min(limit, sortedTransactions.size()));
+    }
+
+    /**
+     * Returns the first year of the latest years that together hold at least the given number of
+     * transactions, counted from the monthly summaries while holding the lock.
+     *
+     * @param count The number of transactions
+     * @return The year, or Integer.MIN_VALUE if the whole ledger holds fewer transactions
+     */
+    private int getFirstYearOfLatest(int count) {
+        TreeMap<Integer, Integer> countsByYear = new TreeMap<>();
+        for (MonthlySummary summary : monthlySummaries.values()) {
+            countsByYear.merge(summary.getYear(), summary.getTransactionCount(), Integer::sum);
+        }
+        int latestCount = 0;
+        for (Map.Entry<Integer, Integer> yearCount : countsByYear.descendingMap().entrySet()) {
+            latestCount += yearCount.getValue();
+            if (latestCount >= count) {
+                return yearCount.getKey();
+            }
+        }
+        return Integer.MIN_VALUE;
     }
 
     /**
@@ -112,9 +300,9 @@ public class TransactionManager {
      * @return List of transactions from the specified date
      */
     public List<Transaction> listTransactionsFromDate(LocalDate date) {
-        return listTransactions().stream()
+        return readYears(date.getYear(), Integer.MAX_VALUE, () -> sortedLoadedTransactions().stream()
                 .filter(t -> !t.getDate().isBefore(date))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -147,10 +335,10 @@ public class TransactionManager {
         assert startDate != null : "Start date cannot be null";
         assert endDate != null : "End date cannot be null";
         assert !startDate.isAfter(endDate) : "Start date cannot be after end date";
-        return transactions.stream()
+        return readYears(startDate.getYear(), endDate.getYear(), () -> transactions.stream()
             .filter(t -> (t.getDate().isEqual(startDate) || t.getDate().isAfter(startDate)) &&
                     (t.getDate().isEqual(endDate) || t.getDate().isBefore(endDate)))
-            .collect(Collectors.toCollection(ArrayList::new));
+            .collect(Collectors.toCollection(ArrayList::new)));
     }
 
     /**
@@ -160,7 +348,7 @@ public class TransactionManager {
         assert keyword != null : "Search keyword cannot be null";
         assert !keyword.trim().isEmpty() : "Search keyword cannot be empty";
 
-        List<Transaction> matchingTransactionsList = new ArrayList<>(transactions);
+        List<Transaction> matchingTransactionsList = readAll(() -> new ArrayList<>(transactions));
         matchingTransactionsList.removeIf(t ->
                 !t.getDescription().toLowerCase().contains(keyword.toLowerCase())
         );
@@ -173,9 +361,9 @@ public class TransactionManager {
     public ArrayList<Transaction> getTransactionDuplicates(double amount, String description) {
         assert description != null : "Description cannot be null";
         assert amount > 0 : "Amount must be greater than zero";
-        return transactions.stream()
+        return readAll(() -> transactions.stream()
             .filter(t -> (t.getDescription().equals(description) && t.getAmount() == amount ))
-            .collect(Collectors.toCollection(ArrayList::new));
+            .collect(Collectors.toCollection(ArrayList::new)));
     }
 
     /**
@@ -184,15 +372,8 @@ public class TransactionManager {
      * @return The current balance
      */
     public double getBalance() {
-        double balance = 0;
-        for (Transaction transaction : transactions) {
-            if (transaction instanceof Income) {
-                balance += transaction.getAmount();
-            } else if (transaction instanceof Expense) {
-                balance -= transaction.getAmount();
-            }
-        }
-        return balance;
+        LedgerSnapshot snapshot = published;
+        return MonthlySummary.fromCents(snapshot.getTotalIncomeCents() - snapshot.getTotalExpenseCents());
     }
 
     /**
@@ -201,10 +382,7 @@ public class TransactionManager {
      * @return The total income
      */
     public double getTotalIncome() {
-        return transactions.stream()
-            .filter(t -> t instanceof Income)
-            .mapToDouble(Transaction::getAmount)
-            .sum();
+        return MonthlySummary.fromCents(published.getTotalIncomeCents());
     }
 
     /**
@@ -213,10 +391,54 @@ public class TransactionManager {
      * @return The total expenses
      */
     public double getTotalExpenses() {
-        return transactions.stream()
-            .filter(t -> t instanceof Expense)
-            .mapToDouble(Transaction::getAmount)
-            .sum();
+        return MonthlySummary.fromCents(published.getTotalExpenseCents());
+    }
+
+    /**
+     * Calculates the total income from one date to another, both inclusive, from the daily totals.
+     *
+     * @param startDate The first date
+     * @param endDate The last date
+     * @return The total income in the range
+     */
+    public double getTotalIncome(LocalDate startDate, LocalDate endDate) {
+        return sumDays(DailyTotals.INCOME, startDate, endDate);
+    }
+
+    /**
+     * Calculates the total expenses from one date to another, both inclusive, from the daily totals.
+     *
+     * @param startDate The first date
+     * @param endDate The last date
+     * @return The total expenses in the range
+     */
+    public double getTotalExpenses(LocalDate startDate, LocalDate endDate) {
+        return sumDays(DailyTotals.EXPENSE, startDate, endDate);
+    }
+
+    /**
+     * Calculates the expenses of every category from one date to another, both inclusive.
+     *
+     * @param startDate The first date
+     * @param endDate The last date
+     * @return A map of the categories with expenses in the range to their totals
+     */
+    public Map<Expense.Category, Double> getCategorisedExpenses(LocalDate startDate, LocalDate endDate) {
+        Map<Expense.Category, Double> categorisedExpenses = new EnumMap<>(Expense.Category.class);
+        for (Expense.Category category : Expense.Category.values()) {
+            double total = sumDays(DailyTotals.categoryMeasure(category), startDate, endDate);
+            if (total != 0) {
+                categorisedExpenses.put(category, total);
+            }
+        }
+        return categorisedExpenses;
+    }
+
+    private double sumDays(int measure, LocalDate startDate, LocalDate endDate) {
+        assert startDate != null && endDate != null : "Dates cannot be null";
+        assert !startDate.isAfter(endDate) : "Start date cannot be after end date";
+        return readYears(startDate.getYear(), endDate.getYear(),
+                () -> MonthlySummary.fromCents(dailyTotals.sum(measure, startDate, endDate)));
     }
 
     /**
@@ -228,12 +450,8 @@ public class TransactionManager {
      *     or 0.0 if there are no transactions
      */
     public double getMonthlyTotalIncome(int month, int year) {
-        return transactions.stream()
-            .filter(t -> t instanceof Income)
-            .filter(t -> (t.getDate().getYear() == year &&
-                t.getDate().getMonthValue() == month))
-            .mapToDouble(Transaction::getAmount)
-            .sum();
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        return summary == null ? 0.0 : MonthlySummary.fromCents(summary.getIncomeCents());
     }
 
     /**
@@ -245,11 +463,8 @@ public class TransactionManager {
      *     or 0.0 if there are no matching transactions
      */
     public double getMonthlyTotalExpense(int month, int year) {
-        return transactions.stream()
-            .filter(t -> t instanceof Expense)
-            .filter(t -> (t.getDate().getYear() == year && t.getDate().getMonthValue() == month))
-            .mapToDouble(Transaction::getAmount)
-            .sum();
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        return summary == null ? 0.0 : MonthlySummary.fromCents(summary.getExpenseCents());
     }
 
     /**
@@ -263,18 +478,10 @@ public class TransactionManager {
      */
     public Map<Expense.Category, Double> getMonthlyCategorisedExpenses(int month, int year) {
         Map<Expense.Category, Double> categorisedExpenses = new HashMap<>();
-
-        ArrayList<Transaction> filteredExpenses = transactions.stream()
-             .filter(t -> t instanceof Expense)
-             .filter(t -> (t.getDate().getYear() == year && t.getDate().getMonthValue() == month))
-             .collect(Collectors.toCollection(ArrayList::new));
-        for (Transaction transaction : filteredExpenses) {
-            if (transaction instanceof Expense) {
-                Expense.Category category = ((Expense) transaction).getCategory();
-                if (categorisedExpenses.putIfAbsent(category, transaction.getAmount()) != null) {
-                    categorisedExpenses.replace(category, transaction.getAmount()+categorisedExpenses.get(category));
-                }
-            }
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        if (summary != null) {
+            summary.getCategoryExpenseCents().forEach((category, cents) ->
+                    categorisedExpenses.put(category, MonthlySummary.fromCents(cents)));
         }
         return categorisedExpenses;
     }
@@ -289,21 +496,48 @@ public class TransactionManager {
      */
     public Map<String, Double> getMonthlyTaggedTransactions(int month, int year) {
         Map<String, Double> taggedTransactions = new HashMap<>();
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        if (summary != null) {
+            summary.getTagIncomeCents().forEach((tag, cents) ->
+                    taggedTransactions.merge(tag, MonthlySummary.fromCents(cents), Double::sum));
+            summary.getTagExpenseCents().forEach((tag, cents) ->
+                    taggedTransactions.merge(tag, MonthlySummary.fromCents(cents), Double::sum));
+        }
+        return taggedTransactions;
+    }
 
+    /**
+     * Calculates the total income for a specified month and year, categorized by tags.
+     *
+     * @param month the month for which to calculate tagged income (1-12)
+     * @param year the year for which to calculate tagged income
+     * @return a map where keys are tags and values are the total income with that tag
+     */
+    public Map<String, Double> getMonthlyTaggedIncome(int month, int year) {
+        Map<String, Double> taggedIncome = new HashMap<>();
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        if (summary != null) {
+            summary.getTagIncomeCents().forEach((tag, cents) ->
+                    taggedIncome.put(tag, MonthlySummary.fromCents(cents)));
+        }
+        return taggedIncome;
+    }
 
-        ArrayList<Transaction> filteredTransactions = transactions.stream()
-            .filter(t -> (t.getDate().getYear() == year && t.getDate().getMonthValue() == month))
-            .collect(Collectors.toCollection(ArrayList::new));
-
-        for (Transaction transaction : filteredTransactions) {
-            List<String> transactionTags = transaction.getTags();
-            for (String tag : transactionTags) {
-                if (taggedTransactions.putIfAbsent(tag, transaction.getAmount()) != null) {
-                    taggedTransactions.replace(tag, transaction.getAmount()+taggedTransactions.get(tag));
-                }
-            }
+    /**
+     * Calculates the total expenses for a specified month and year, categorized by tags.
+     *
+     * @param month the month for which to calculate tagged expenses (1-12)
+     * @param year the year for which to calculate tagged expenses
+     * @return a map where keys are tags and values are the total expenses with that tag
+     */
+    public Map<String, Double> getMonthlyTaggedExpenses(int month, int year) {
+        Map<String, Double> taggedExpenses = new HashMap<>();
+        MonthlySummary summary = published.getMonthlySummary(month, year);
+        if (summary != null) {
+            summary.getTagExpenseCents().forEach((tag, cents) ->
+                    taggedExpenses.put(tag, MonthlySummary.fromCents(cents)));
         }
-        return taggedTransactions;
+        return taggedExpenses;
     }
 
     /**
@@ -314,42 +548,69 @@ public class TransactionManager {
      * @return true if the transaction was successfully updated, false otherwise
      */
     public boolean updateTransaction(Transaction originalTransaction, Transaction updatedTransaction) {
-        int index = -1;
+        int originalYear = originalTransaction.getDate().getYear();
+        int updatedYear = updatedTransaction.getDate().getYear();
+        return write(() -> {
+            loadPartitionsLocked(Math.min(originalYear, updatedYear), Math.max(originalYear, updatedYear));
+            int index = -1;
 
-        // Find the index of the original transaction
-        for (int i = 0; i < transactions.size(); i++) {
-            if (transactions.get(i).equals(originalTransaction)) {
-                index = i;
-                break;
+            // Find the index of the original transaction
+            for (int i = 0; i < transactions.size(); i++) {
+                if (transactions.get(i).equals(originalTransaction)) {
+                    index = i;
+                    break;
+                }
             }
-        }
 
-        if (index == -1) {
-            return false;
-        }
+            if (index == -1) {
+                return false;
+            }
 
-        // Remove the original and add the updated transaction at the same index
-        transactions.remove(index);
-        transactions.add(index, updatedTransaction);
-        return true;
+            // Remove the original and add the updated transaction at the same index
+            transactions = transactions.with(index, updatedTransaction);
+            int key = getSummaryKey(updatedTransaction.getDate().getMonthValue(), updatedYear);
+            long spentBefore = getExpenseCents(key);
+            removeFromSummary(originalTransaction);
+            addToSummary(updatedTransaction);
+            watchBudget(key, spentBefore);
+            markModified(originalYear);
+            markModified(updatedYear);
+            return true;
+        });
     }
 
     /**
      * Clears all transactions.
      */
     public void clearTransactions() {
-        int count = transactions.size();
-        transactions.clear();
+        int count = write(() -> {
+            int clearedCount = transactions.size();
+            transactions = PersistentList.empty();
+            unloadedPartitions.clear();
+            archivedPartitions.clear();
+            loadedPartitions.clear();
+            modifiedPartitions.clear();
+            changedSummaries.addAll(monthlySummaries.keySet());
+            monthlySummaries.clear();
+            dailyTotals.clear();
+            totalIncomeCents = 0;
+            totalExpenseCents = 0;
+            totalTransactionCount = 0;
+            hasArchivedPartitions = false;
+            version++;
+            return clearedCount;
+        });
         logger.info("Cleared " + count + " transactions");
     }
 
     /**
-     * Returns the number of transactions.
+     * Returns the number of transactions, including those of archived partitions, which are counted by
+     * their saved monthly summaries instead of being loaded.
      *
      * @return The number of transactions
      */
     public int getTransactionCount() {
-        return transactions.size();
+        return published.getTransactionCount();
     }
 
     /**
@@ -364,8 +625,8 @@ public class TransactionManager {
         assert year > 0 : "Year must be positive";
         assert budget >= 0 : "Budget must be non-negative";
 
-        String budgetKey = year + "-" + month;
-        budgets.put(budgetKey, budget);
+        budgets.put(DateUtil.yearMonthKey(year, month), MonthlySummary.toCents(budget));
+        monthVersions.put(DateUtil.yearMonthKey(year, month), modificationCounter.incrementAndGet());
         logger.info("Set budget of $" + budget + " for " + month + "/" + year);
     }
 
@@ -378,17 +639,27 @@ public class TransactionManager {
      *     or -1.0 if no budget is set
      */
     public double getBudget(int month, int year) {
-        String budgetKey = year + "-" + month;
-        return budgets.getOrDefault(budgetKey, DEFAULT_BUDGET);
+        long cents = budgets.get(DateUtil.yearMonthKey(year, month));
+        return cents == MonthlyAmountTable.NO_AMOUNT ? DEFAULT_BUDGET : MonthlySummary.fromCents(cents);
     }
 
     /**
      * Retrieves all the budget that user has inputted. Used in Storage
      *
-     * @return The hashmap of budgets.
+     * @return A copy of the table of budgets
      */
-    public Map<String, Double> getAllBudgets() {
-        return new HashMap<>(budgets); // returns a copy for safety
+    public MonthlyAmountTable getAllBudgets() {
+        return budgets.copy();
+    }
+
+    /**
+     * Retrieves the budgets set for the months of a year.
+     *
+     * @param year The year
+     * @return A copy of the budgets of that year
+     */
+    public MonthlyAmountTable getBudgetsForYear(int year) {
+        return budgets.forYear(year);
     }
 
     /**
@@ -403,8 +674,8 @@ public class TransactionManager {
         assert year > 0 : "Year must be positive";
         assert savingsGoal >= 0 : "Savings goal must be non-negative";
 
-        String savingsKey = year + "-" + month;
-        savingsGoals.put(savingsKey, savingsGoal);
+        savingsGoals.put(DateUtil.yearMonthKey(year, month), MonthlySummary.toCents(savingsGoal));
+        monthVersions.put(DateUtil.yearMonthKey(year, month), modificationCounter.incrementAndGet());
         logger.info("Set savings goal of $" + savingsGoal + " for " + month + "/" + year);
     }
 
@@ -417,17 +688,96 @@ public class TransactionManager {
      *     or -1.0 if no savings goal is set
      */
     public double getSavingsGoal(int month, int year) {
-        String savingsKey = year + "-" + month;
-        return savingsGoals.getOrDefault(savingsKey, DEFAULT_SAVINGS_GOAL);
+        return getSavingsGoalOptional(month, year).orElse(DEFAULT_SAVINGS_GOAL);
     }
 
     /**
      * Retrieves all the savings goals that user has inputted. Used in Storage
      *
-     * @return The hashmap of savings goals.
+     * @return A copy of the table of savings goals
+     */
+    public MonthlyAmountTable getAllSavingsGoals() {
+        return savingsGoals.copy();
+    }
+
+    /**
+     * Retrieves the savings goals set for the months of a year.
+     *
+     * @param year The year
+     * @return A copy of the savings goals of that year
+     */
+    public MonthlyAmountTable getSavingsGoalsForYear(int year) {
+        return savingsGoals.forYear(year);
+    }
+
+    /**
+     * Returns the budget alerts raised by added and edited transactions since the last call, and forgets them.
+     * Loading and importing transactions in bulk raises no alerts.
+     *
+     * @return The pending alerts, oldest first
+     */
+    public List<BudgetAlert> takeBudgetAlerts() {
+        return budgetWatcher.takeAlerts();
+    }
+
+    /**
+     * Returns the version of a month: a modification count that changes whenever the transactions, budget or
+     * savings goal of that month change, and stays the same while only other months change.
+     * The counter is shared by all managers, so versions of different managers never match.
+     * Results computed from a month can be reused for as long as its version stays the same.
+     *
+     * @param month The month (1-12)
+     * @param year The year
+     * @return The version of the month
      */
-    public Map<String, Double> getAllSavingsGoals() {
-        return new HashMap<>(savingsGoals); // returns a copy for safety
+    public long getMonthVersion(int month, int year) {
+        long version = allMonthsVersion;
+        Long monthVersion = monthVersions.get(getSummaryKey(month, year));
+        return monthVersion == null ? version : Math.max(monthVersion, version);
+    }
+
+    /**
+     * Returns the version of a range of months, which changes whenever any month of the range changes.
+     *
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @return The latest version of the months in the range
+     */
+    public long getMonthRangeVersion(int fromKey, int toKey) {
+        assert fromKey <= toKey : "Month range cannot be empty";
+        long version = 0;
+        for (int key = fromKey; key <= toKey; key++) {
+            version = Math.max(version, getMonthVersion(DateUtil.getMonth(key), DateUtil.getYear(key)));
+        }
+        return version;
+    }
+
+    /**
+     * Builds the savings projection of the months from one month to another, both inclusive.
+     * Like the monthly report it is read from the monthly summaries of the latest snapshot, so it needs no lock
+     * and does not load archived partitions.
+     *
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @return The projection
+     */
+    public SavingsProjection getSavingsProjection(int fromKey, int toKey) {
+        assert fromKey <= toKey : "Projection range cannot be empty";
+        return SavingsProjection.of(published, savingsGoals.range(fromKey, toKey), fromKey, toKey);
+    }
+
+    /**
+     * Builds the report of every month from one month to another, both inclusive.
+     * The report is read from the monthly summaries of the latest snapshot, so it needs no lock and
+     * does not load archived partitions.
+     *
+     * @param fromKey The key of the first month, see {@link DateUtil#yearMonthKey(int, int)}
+     * @param toKey The key of the last month
+     * @return The report
+     */
+    public MonthlyReport getMonthlyReport(int fromKey, int toKey) {
+        assert fromKey <= toKey : "Report range cannot be empty";
+        return MonthlyReport.of(published, budgets.range(fromKey, toKey), fromKey, toKey);
     }
 
     /**
@@ -438,10 +788,12 @@ public class TransactionManager {
      * @throws IndexOutOfBoundsException if the index is out of range
      */
     public Transaction getTransaction(int index) {
-        if (index < 0 || index >= transactions.size()) {
-            throw new IndexOutOfBoundsException("Transaction index out of range: " + index);
-        }
-        return transactions.get(index);
+        return readAll(() -> {
+            if (index < 0 || index >= transactions.size()) {
+                throw new IndexOutOfBoundsException("Transaction index out of range: " + index);
+            }
+            return transactions.get(index);
+        });
     }
 
     /**
@@ -451,12 +803,14 @@ public class TransactionManager {
      * @return The first transaction containing the description, or null if not found
      */
     public Transaction findTransactionByDescription(String description) {
-        for (Transaction transaction : transactions) {
-            if (transaction.getDescription().contains(description)) {
-                return transaction;
+        return readAll(() -> {
+            for (Transaction transaction : transactions) {
+                if (transaction.getDescription().contains(description)) {
+                    return transaction;
+                }
             }
-        }
-        return null;
+            return null;
+        });
     }
 
     /**
@@ -467,9 +821,8 @@ public class TransactionManager {
      * @return An Optional containing the savings goal amount if set, or empty if not set
      */
     public Optional<Double> getSavingsGoalOptional(int month, int year) {
-        String savingsKey = year + "-" + month;
-        Double value = savingsGoals.get(savingsKey);
-        return Optional.ofNullable(value); // Returns empty Optional if value is null
+        long cents = savingsGoals.get(DateUtil.yearMonthKey(year, month));
+        return cents == MonthlyAmountTable.NO_AMOUNT ? Optional.empty() : Optional.of(MonthlySummary.fromCents(cents));
     }
 
     /**
@@ -483,9 +836,9 @@ public class TransactionManager {
         assert month >= 1 && month <= 12 : "Month must be between 1 and 12";
         assert year > 0 : "Year must be positive";
 
-        return transactions.stream()
+        return readYears(year, year, () -> transactions.stream()
                 .filter(t -> (t.getDate().getYear() == year && t.getDate().getMonthValue() == month))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -496,6 +849,547 @@ public class TransactionManager {
         int savingsGoalCount = savingsGoals.size();
         budgets.clear();
         savingsGoals.clear();
+        allMonthsVersion = modificationCounter.incrementAndGet();
         logger.info("Cleared " + budgetCount + " budgets and " + savingsGoalCount + " savings goals");
     }
+
+    /**
+     * Adds a recurring rule. Its occurrences are added to the ledger by {@link #addDueRecurringTransactions}.
+     *
+     * @param template The first occurrence, whose date is the start of the rule
+     * @param interval The interval, a number followed by d, w, m or y, e.g. {@code 1m}
+     * @return The added rule with its id
+     * @throws IllegalArgumentException if the interval is not valid
+     */
+    public RecurringRule addRecurringRule(Transaction template, String interval) {
+        assert template != null : "Template cannot be null";
+        RecurringRule rule = write(() -> {
+            hasRecurringRuleChanges = true;
+            return recurringScheduler.add(template, interval);
+        });
+        logger.info("Added recurring rule " + rule);
+        return rule;
+    }
+
+    /**
+     * Adds a saved recurring rule with its own id and progress. Used in Storage.
+     *
+     * @param rule The rule
+     */
+    public void restoreRecurringRule(RecurringRule rule) {
+        assert rule != null : "Rule cannot be null";
+        write(() -> {
+            hasRecurringRuleChanges = true;
+            recurringScheduler.restore(rule);
+        });
+    }
+
+    /**
+     * Removes a recurring rule. Occurrences already in the ledger are kept.
+     *
+     * @param id The id of the rule
+     * @return true if there was a rule with that id
+     */
+    public boolean removeRecurringRule(int id) {
+        return write(() -> {
+            hasRecurringRuleChanges = true;
+            return recurringScheduler.remove(id);
+        });
+    }
+
+    /**
+     * Returns the recurring rules in the order of their ids.
+     *
+     * @return A copy of the rules
+     */
+    public List<RecurringRule> getRecurringRules() {
+        return read(recurringScheduler::getRules);
+    }
+
+    /**
+     * Removes all recurring rules.
+     */
+    public void clearRecurringRules() {
+        write(() -> {
+            hasRecurringRuleChanges = true;
+            recurringScheduler.clear();
+        });
+        logger.info("Cleared recurring rules");
+    }
+
+    /**
+     * Adds every occurrence of the recurring rules that is due by the given date in one change,
+     * as {@link #addAll} does, and advances the rules past it.
+     * The advanced rules are published in the same snapshot as the occurrences, so a save of that
+     * snapshot records both or neither.
+     *
+     * @param date The last date to add occurrences for, usually today
+     * @return The added transactions, in date order
+     */
+    public List<Transaction> addDueRecurringTransactions(LocalDate date) {
+        assert date != null : "Date cannot be null";
+        List<Transaction> due = write(() -> {
+            List<Transaction> occurrences = recurringScheduler.takeDue(date);
+            if (!occurrences.isEmpty()) {
+                hasRecurringRuleChanges = true;
+                addAll(occurrences);
+            }
+            return occurrences;
+        });
+        if (!due.isEmpty()) {
+            logger.info("Added " + due.size() + " recurring transactions due by " + date);
+        }
+        return due;
+    }
+
+    /**
+     * Copies all budgets and savings goals of another manager into this one, replacing entries for the same month.
+     * Used to merge settings loaded in the background into the ledger once it is ready.
+     *
+     * @param other The manager to copy budgets and savings goals from
+     */
+    public void copyBudgetsAndSavingsGoalsFrom(TransactionManager other) {
+        assert other != null : "Source manager cannot be null";
+        budgets.putAll(other.budgets);
+        savingsGoals.putAll(other.savingsGoals);
+        allMonthsVersion = modificationCounter.incrementAndGet();
+        logger.info("Merged " + other.budgets.size() + " budgets and " + other.savingsGoals.size() + " savings goals");
+    }
+
+    /**
+     * Registers archived partitions that are stored but not yet loaded into memory.
+     * Queries that touch the dates of these partitions load them on demand through the loader.
+     *
+     * The saved monthly summaries of these partitions keep the balance and the monthly totals
+     * available without loading them.
+     *
+     * @param years The years of the archived partitions
+     * @param summaries The saved monthly summaries of the archived partitions
+     * @param loader The loader used to read a partition when it is first needed
+     */
+    public void registerUnloadedPartitions(Collection<Integer> years, Collection<MonthlySummary> summaries,
+            PartitionLoader loader) {
+        assert years != null : "Partition years cannot be null";
+        assert summaries != null : "Partition summaries cannot be null";
+        assert loader != null : "Partition loader cannot be null";
+        write(() -> {
+            for (MonthlySummary summary : summaries) {
+                assert years.contains(summary.getYear()) : "Summary does not belong to an archived partition";
+                int key = getSummaryKey(summary.getMonth(), summary.getYear());
+                monthlySummaries.put(key, summary);
+                changedSummaries.add(key);
+                totalIncomeCents += summary.getIncomeCents();
+                totalExpenseCents += summary.getExpenseCents();
+                totalTransactionCount += summary.getTransactionCount();
+            }
+            unloadedPartitions.addAll(years);
+            archivedPartitions.addAll(years);
+            partitionLoader = loader;
+            hasArchivedPartitions = !archivedPartitions.isEmpty();
+        });
+        logger.info("Registered " + years.size() + " archived partitions for lazy loading");
+    }
+
+    /**
+     * Returns the years of the archived partitions that have not been loaded yet.
+     *
+     * @return A copy of the years of the unloaded partitions
+     */
+    public Set<Integer> getUnloadedPartitions() {
+        return read(() -> new TreeSet<>(unloadedPartitions));
+    }
+
+    /**
+     * Loads every unloaded partition whose year lies in the given inclusive range.
+     * Archived partitions beyond the capacity are evicted again, least recently used first,
+     * as long as they lie outside the range and have no unsaved changes.
+     *
+     * @param fromYear The first year to load
+     * @param toYear The last year to load
+     */
+    public void loadPartitions(int fromYear, int toYear) {
+        if (hasArchivedPartitions) {
+            write(() -> loadPartitionsLocked(fromYear, toYear));
+        }
+    }
+
+    /**
+     * Loads every unloaded partition in the given range while holding the write lock.
+     *
+     * @param fromYear The first year to load
+     * @param toYear The last year to load
+     */
+    private void loadPartitionsLocked(int fromYear, int toYear) {
+        assert lock.isWriteLockedByCurrentThread() : "Loading partitions requires the write lock";
+        if (archivedPartitions.isEmpty() || fromYear > toYear) {
+            return;
+        }
+
+        touchPartitions(fromYear, toYear);
+        List<Integer> yearsToLoad = new ArrayList<>(unloadedPartitions.subSet(fromYear, true, toYear, true));
+        for (int year : yearsToLoad) {
+            List<Transaction> loaded = partitionLoader.loadPartition(year);
+            // Only mark the partition as loaded once it was read successfully
+            unloadedPartitions.remove(year);
+            loadedPartitions.add(year);
+            transactions = transactions.plusAll(loaded);
+            rebuildSummaries(year);
+            logger.info("Loaded archived partition " + year + " with " + loaded.size() + " transactions");
+        }
+
+        evictPartitions(fromYear, toYear);
+    }
+
+    /**
+     * Moves the loaded partitions in the given range to the most recently used end, so that
+     * partitions that are read again are evicted last.
+     *
+     * @param fromYear The first year read
+     * @param toYear The last year read
+     */
+    private void touchPartitions(int fromYear, int toYear) {
+        for (int year : new ArrayList<>(loadedPartitions)) {
+            if (year >= fromYear && year <= toYear) {
+                loadedPartitions.remove(year);
+                loadedPartitions.add(year);
+            }
+        }
+    }
+
+    /**
+     * Evicts least recently used archived partitions until the capacity is respected.
+     *
+     * @param fromYear The first year of the range in use, which is never evicted
+     * @param toYear The last year of the range in use, which is never evicted
+     */
+    private void evictPartitions(int fromYear, int toYear) {
+        Set<Integer> evictedYears = new HashSet<>();
+        Iterator<Integer> iterator = loadedPartitions.iterator();
+        while (loadedPartitions.size() > partitionCapacity && iterator.hasNext()) {
+            int year = iterator.next();
+            if ((year >= fromYear && year <= toYear) || modifiedPartitions.containsKey(year)) {
+                continue;
+            }
+            iterator.remove();
+            unloadedPartitions.add(year);
+            evictedYears.add(year);
+        }
+        if (evictedYears.isEmpty()) {
+            return;
+        }
+
+        List<Transaction> kept = new ArrayList<>(transactions);
+        kept.removeIf(t -> evictedYears.contains(t.getDate().getYear()));
+        transactions = PersistentList.copyOf(kept);
+        logger.info("Evicted archived partitions " + evictedYears);
+    }
+
+    /**
+     * Sets how many archived partitions may stay loaded at once.
+     * Loading every partition, e.g. for the balance, temporarily exceeds this limit.
+     *
+     * @param partitionCapacity The maximum number of loaded archived partitions
+     */
+    public void setPartitionCapacity(int partitionCapacity) {
+        assert partitionCapacity > 0 : "Partition capacity must be positive";
+        write(() -> {
+            this.partitionCapacity = partitionCapacity;
+        });
+    }
+
+    /**
+     * Marks the partitions saved in a snapshot as clean, allowing them to be evicted.
+     * Changes made after the snapshot was taken keep their partitions loaded.
+     * Called by Storage after the partitions have been written.
+     *
+     * @param savedVersion The version of the snapshot that was saved
+     */
+    public void markPartitionsSaved(long savedVersion) {
+        write(() -> {
+            modifiedPartitions.values().removeIf(modifiedVersion -> modifiedVersion <= savedVersion);
+        });
+    }
+
+    /**
+     * Loads all archived partitions that have not been loaded yet.
+     */
+    public void loadAllPartitions() {
+        if (hasArchivedPartitions) {
+            write(this::loadAllPartitionsLocked);
+        }
+    }
+
+    /**
+     * Loads all unloaded partitions while holding the write lock.
+     */
+    private void loadAllPartitionsLocked() {
+        if (!unloadedPartitions.isEmpty()) {
+            loadPartitionsLocked(unloadedPartitions.first(), unloadedPartitions.last());
+        }
+    }
+
+    /**
+     * Lists the transactions currently held in memory without loading archived partitions.
+     * Used by Storage, which keeps the segments of unloaded partitions untouched.
+     *
+     * @return An immutable list of the loaded transactions in insertion order
+     */
+    public List<Transaction> listLoadedTransactions() {
+        return published.getTransactions();
+    }
+
+    /**
+     * Sorts the loaded transactions in reverse chronological order.
+     *
+     * @return The sorted list of loaded transactions
+     */
+    private List<Transaction> sortedLoadedTransactions() {
+        List<Transaction> sortedTransactions = new ArrayList<>(transactions);
+        Collections.sort(sortedTransactions, (t1, t2) -> t2.getDate().compareTo(t1.getDate()));
+        return sortedTransactions;
+    }
+
+    /**
+     * Returns the latest published snapshot of the loaded transactions, the unloaded partitions and
+     * the monthly totals. Archived partitions are not loaded and no lock is taken.
+     *
+     * @return The snapshot
+     */
+    public LedgerSnapshot snapshot() {
+        return published;
+    }
+
+    /**
+     * Returns a snapshot holding every transaction, loading all archived partitions first.
+     * Used for saves and exports that write the whole ledger.
+     *
+     * @return The snapshot
+     */
+    public LedgerSnapshot snapshotAll() {
+        if (!hasArchivedPartitions) {
+            return published;
+        }
+        return write(() -> {
+            loadAllPartitionsLocked();
+            publish();
+            return published;
+        });
+    }
+
+    /**
+     * Records a change to the partition of a year.
+     *
+     * @param year The year of the changed transactions
+     */
+    private void markModified(int year) {
+        version++;
+        modifiedPartitions.put(year, version);
+    }
+
+    /**
+     * Runs a query under the read lock.
+     *
+     * @param action The query to run
+     * @return The result of the query
+     */
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a query on the given years, loading their archived partitions first if there are any.
+     *
+     * @param fromYear The first year the query reads
+     * @param toYear The last year the query reads
+     * @param action The query to run
+     * @return The result of the query
+     */
+    private <T> T readYears(int fromYear, int toYear, Supplier<T> action) {
+        if (!hasArchivedPartitions) {
+            return read(action);
+        }
+        return write(() -> {
+            loadPartitionsLocked(fromYear, toYear);
+            return action.get();
+        });
+    }
+
+    /**
+     * Runs a query on all transactions, loading every archived partition first if there are any.
+     *
+     * @param action The query to run
+     * @return The result of the query
+     */
+    private <T> T readAll(Supplier<T> action) {
+        if (!hasArchivedPartitions) {
+            return read(action);
+        }
+        return write(() -> {
+            loadAllPartitionsLocked();
+            return action.get();
+        });
+    }
+
+    /**
+     * Runs a change under the write lock.
+     *
+     * @param action The change to run
+     * @return The result of the change
+     */
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            T result = action.get();
+            publish();
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current state. Only the summaries of changed months are copied,
+     * and only those months get a new version; the transaction list is already immutable and shared as is.
+     */
+    private void publish() {
+        if (!changedSummaries.isEmpty()) {
+            Map<Integer, MonthlySummary> summaries = new HashMap<>(publishedSummaries);
+            long modification = modificationCounter.incrementAndGet();
+            for (int key : changedSummaries) {
+                monthVersions.put(key, modification);
+                MonthlySummary summary = monthlySummaries.get(key);
+                if (summary == null) {
+                    summaries.remove(key);
+                } else {
+                    summaries.put(key, new MonthlySummary(summary));
+                }
+            }
+            changedSummaries.clear();
+            publishedSummaries = summaries;
+        }
+        if (hasRecurringRuleChanges) {
+            publishedRules = Collections.unmodifiableList(recurringScheduler.getRules());
+            hasRecurringRuleChanges = false;
+        }
+        published = new LedgerSnapshot(version, transactions, new TreeSet<>(unloadedPartitions),
+                publishedSummaries, totalIncomeCents, totalExpenseCents, totalTransactionCount, publishedRules);
+    }
+
+    /**
+     * Runs a change under the write lock.
+     *
+     * @param action The change to run
+     */
+    private void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds a transaction to the running totals of its month.
+     *
+     * @param transaction The transaction to add
+     */
+    private void addToSummary(Transaction transaction) {
+        LocalDate date = transaction.getDate();
+        int key = getSummaryKey(date.getMonthValue(), date.getYear());
+        monthlySummaries.computeIfAbsent(key, k -> new MonthlySummary(date.getYear(), date.getMonthValue()))
+                .add(transaction);
+        changedSummaries.add(key);
+        dailyTotals.add(transaction, 1);
+        totalTransactionCount++;
+        long cents = MonthlySummary.toCents(transaction.getAmount());
+        if (transaction instanceof Income) {
+            totalIncomeCents += cents;
+        } else if (transaction instanceof Expense) {
+            totalExpenseCents += cents;
+        }
+    }
+
+    /**
+     * Removes a transaction from the running totals of its month.
+     *
+     * @param transaction The transaction to remove
+     */
+    private void removeFromSummary(Transaction transaction) {
+        LocalDate date = transaction.getDate();
+        int key = getSummaryKey(date.getMonthValue(), date.getYear());
+        MonthlySummary summary = monthlySummaries.get(key);
+        assert summary != null : "Removed transaction must have a monthly summary";
+        summary.remove(transaction);
+        changedSummaries.add(key);
+        dailyTotals.add(transaction, -1);
+        totalTransactionCount--;
+        if (summary.isEmpty()) {
+            monthlySummaries.remove(key);
+        }
+        long cents = MonthlySummary.toCents(transaction.getAmount());
+        if (transaction instanceof Income) {
+            totalIncomeCents -= cents;
+        } else if (transaction instanceof Expense) {
+            totalExpenseCents -= cents;
+        }
+    }
+
+    /**
+     * Returns the expenses of a month in cents, read from its monthly summary.
+     */
+    private long getExpenseCents(int key) {
+        MonthlySummary summary = monthlySummaries.get(key);
+        return summary == null ? 0 : summary.getExpenseCents();
+    }
+
+    /**
+     * Checks whether a change pushed the expenses of a month over a line of its budget.
+     *
+     * @param key The key of the changed month
+     * @param spentBefore The expenses of the month before the change, in cents
+     */
+    private void watchBudget(int key, long spentBefore) {
+        long budgetCents = budgets.get(key);
+        if (budgetCents != MonthlyAmountTable.NO_AMOUNT) {
+            budgetWatcher.check(key, spentBefore, getExpenseCents(key), budgetCents);
+        }
+    }
+
+    /**
+     * Replaces the saved summaries of a freshly loaded partition with the totals of its transactions,
+     * in case the segment on disk differs from the saved summary.
+     *
+     * @param year The year of the loaded partition
+     */
+    private void rebuildSummaries(int year) {
+        monthlySummaries.entrySet().removeIf(entry -> {
+            MonthlySummary summary = entry.getValue();
+            if (summary.getYear() != year) {
+                return false;
+            }
+            changedSummaries.add(entry.getKey());
+            totalIncomeCents -= summary.getIncomeCents();
+            totalExpenseCents -= summary.getExpenseCents();
+            totalTransactionCount -= summary.getTransactionCount();
+            return true;
+        });
+        // The daily totals of a partition that was evicted before are still there
+        dailyTotals.clearYear(year);
+        for (Transaction transaction : transactions) {
+            if (transaction.getDate().getYear() == year) {
+                addToSummary(transaction);
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the monthly summary for the given month.
+     */
+    static int getSummaryKey(int month, int year) {
+        return DateUtil.yearMonthKey(year, month);
+    }
 }
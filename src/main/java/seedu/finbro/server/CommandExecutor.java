@@ -0,0 +1,219 @@
+package seedu.finbro.server;
+
+import seedu.finbro.logic.command.Command;
+import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.Transaction;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs scripts of commands against a shared ledger on a bounded pool of worker threads.
+ * At most {@code queueCapacity} scripts wait for a worker; further submissions are rejected, so callers
+ * can shed load instead of queueing without limit. Every script has a deadline: a script that cannot
+ * start, or a command that cannot get its turn, before the deadline is not run at all, so a timeout never
+ * leaves a command half applied.
+ * Read-only commands run concurrently, while commands that change data run one at a time.
+ * Recurring transactions that fell due since the last command are added before the next command runs.
+ */
+public class CommandExecutor {
+    private static final Logger logger = Logger.getLogger(CommandExecutor.class.getName());
+
+    private final TransactionManager transactionManager;
+    private final Storage storage;
+    private final ThreadPoolExecutor workers;
+    private final long timeoutNanos;
+    private final ReentrantReadWriteLock commandLock = new ReentrantReadWriteLock();
+    // The date the recurring transactions were last added for, checked before every command
+    private volatile LocalDate recurringCaughtUpTo;
+
+    /**
+     * Constructs an executor for the given ledger.
+     *
+     * @param transactionManager The ledger shared by all scripts
+     * @param storage The storage to save changes with
+     * @param threads The number of worker threads
+     * @param queueCapacity The number of scripts that may wait for a worker
+     * @param timeout The time a script may wait before it starts, and before each of its commands
+     */
+    public CommandExecutor(TransactionManager transactionManager, Storage storage, int threads, int queueCapacity,
+            Duration timeout) {
+        assert transactionManager != null : "TransactionManager cannot be null";
+        assert storage != null : "Storage cannot be null";
+        assert threads > 0 && queueCapacity > 0 : "Threads and queue capacity must be positive";
+        this.transactionManager = transactionManager;
+        this.storage = storage;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "finbro-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues a script for execution.
+     * The future fails with a {@link TimeoutException} if the script could not start before its deadline.
+     *
+     * @param script The lines a user would type
+     * @return A future of everything the commands printed
+     * @throws RejectedExecutionException if the queue is full or the executor was shut down
+     */
+    public CompletableFuture<String> submit(String script) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        return CompletableFuture.supplyAsync(() -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new CompletionException(new TimeoutException("Request timed out before it started"));
+            }
+            return execute(script, deadline);
+        }, workers);
+    }
+
+    /**
+     * Returns the number of scripts waiting for a worker.
+     *
+     * @return The queue length
+     */
+    public int getQueueLength() {
+        return workers.getQueue().size();
+    }
+
+    /**
+     * Stops accepting scripts and waits briefly for running ones.
+     *
+     * @param waitMillis How long to wait for running scripts
+     */
+    public void shutdown(long waitMillis) {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the commands of a script, like the command loop of the console.
+     *
+     * @param script The lines a user would type
+     * @param deadline The {@link System#nanoTime()} by which each command must have started
+     * @return Everything the commands printed
+     */
+    private String execute(String script, long deadline) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        Scanner scanner = new Scanner(script);
+        Ui ui = new Ui(scanner, output, StandardCharsets.UTF_8);
+        // Parsers keep the state of a pending clear confirmation, so each script gets its own
+        Parser parser = new Parser();
+
+        while (scanner.hasNextLine()) {
+            String commandWord = scanner.nextLine();
+            if (commandWord.isBlank()) {
+                continue;
+            }
+            try {
+                Command command = parser.parseCommandWord(commandWord, ui);
+                if (command.isExit()) {
+                    ui.showError("The exit command is not available in server mode.");
+                    continue;
+                }
+                String result = addDueRecurringTransactions(ui, deadline)
+                        ? executeCommand(command, ui, deadline)
+                        : null;
+                if (result == null) {
+                    ui.showError("Timed out waiting for other requests; '" + commandWord
+                            + "' and the commands after it were not run.");
+                    break;
+                }
+                ui.showMessage(result);
+            } catch (NoSuchElementException e) {
+                ui.showError("The request ended before all prompts of '" + commandWord + "' were answered.");
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "Error executing command", e);
+                ui.showError("An error occurred: " + e.getMessage());
+            }
+        }
+        ui.flush();
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds the recurring transactions due by today, if the date has changed since they were last added.
+     *
+     * @param ui The UI of the script
+     * @param deadline The {@link System#nanoTime()} by which the next command must have started
+     * @return false if no other command finished in time to add them
+     * @throws InterruptedException if interrupted while waiting for its turn
+     */
+    private boolean addDueRecurringTransactions(Ui ui, long deadline) throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        if (today.equals(recurringCaughtUpTo)) {
+            return true;
+        }
+        Lock lock = commandLock.writeLock();
+        if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            logger.warning("Recurring transactions timed out waiting for their turn");
+            return false;
+        }
+        try {
+            // Another script may have added them while this one waited
+            if (!today.equals(recurringCaughtUpTo)) {
+                List<Transaction> added = storage.addDueRecurringTransactions(transactionManager, today);
+                recurringCaughtUpTo = today;
+                if (!added.isEmpty()) {
+                    ui.showMessage("Added " + added.size() + " recurring transaction"
+                            + (added.size() == 1 ? "" : "s") + " due by today.");
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes a command once no conflicting command is running.
+     *
+     * @param command The command to execute
+     * @param ui The UI of the script
+     * @param deadline The {@link System#nanoTime()} by which the command must have started
+     * @return The response message of the command, or null if it could not start in time
+     * @throws InterruptedException if interrupted while waiting for its turn
+     */
+    private String executeCommand(Command command, Ui ui, long deadline) throws InterruptedException {
+        Lock lock = command.isReadOnly() ? commandLock.readLock() : commandLock.writeLock();
+        if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            logger.warning("Command " + command.getClass().getSimpleName() + " timed out waiting for its turn");
+            return null;
+        }
+        try {
+            return command.execute(transactionManager, ui, storage);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
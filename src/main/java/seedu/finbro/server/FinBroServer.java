@@ -0,0 +1,200 @@
+package seedu.finbro.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves FinBro commands over HTTP on localhost, so several clients can share one ledger.
+ * A request is a POST to {@value #COMMAND_PATH} whose body holds the lines a user would type:
+ * a command word followed by the answers to its prompts, optionally followed by more commands.
+ * The response holds everything the commands printed.
+ * Requests are run by a {@link CommandExecutor}; when its queue is full the server answers 503 right away,
+ * and requests that could not start within the timeout are answered with 503 as well.
+ */
+public class FinBroServer {
+    public static final String COMMAND_PATH = "/command";
+    public static final int DEFAULT_PORT = 8321;
+    private static final Logger logger = Logger.getLogger(FinBroServer.class.getName());
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    // Only read requests and hand them to the workers
+    private static final int IO_THREADS = 2;
+    private static final int STOP_DELAY_SECONDS = 1;
+    // Responses are written as headers and body, which Nagle's algorithm would delay by a round trip
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer httpServer;
+    private final ExecutorService ioExecutor;
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Constructs a server bound to the loopback address.
+     *
+     * @param transactionManager The ledger shared by all clients
+     * @param storage The storage to save changes with
+     * @param port The port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public FinBroServer(TransactionManager transactionManager, Storage storage, int port) throws IOException {
+        this(new CommandExecutor(transactionManager, storage, DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_TIMEOUT), port);
+    }
+
+    /**
+     * Constructs a server bound to the loopback address that runs requests on the given executor.
+     *
+     * @param commandExecutor The executor running the requests
+     * @param port The port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public FinBroServer(CommandExecutor commandExecutor, int port) throws IOException {
+        assert commandExecutor != null : "CommandExecutor cannot be null";
+        this.commandExecutor = commandExecutor;
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        ioExecutor = Executors.newFixedThreadPool(IO_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "finbro-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(ioExecutor);
+        httpServer.createContext(COMMAND_PATH, this::handleExchange);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("FinBro server listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, giving running requests a moment to finish.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        commandExecutor.shutdown(Duration.ofSeconds(STOP_DELAY_SECONDS).toMillis());
+        ioExecutor.shutdown();
+        logger.info("FinBro server stopped");
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Loads the data of the given storage and serves it until the process is stopped.
+     *
+     * @param storage The storage to load and save data with
+     * @param port The port to listen on
+     * @throws IOException if the port cannot be bound
+     */
+    public static void launch(Storage storage, int port) throws IOException {
+        TransactionManager transactionManager = storage.loadTransactions();
+        storage.loadBudgets(transactionManager);
+        storage.loadSavingsGoals(transactionManager);
+        storage.loadRecurringRules(transactionManager);
+        storage.addDueRecurringTransactions(transactionManager, LocalDate.now());
+
+        FinBroServer server = new FinBroServer(transactionManager, storage, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "finbro-server-shutdown"));
+        server.start();
+        System.out.println("FinBro server listening on http://localhost:" + server.getPort() + COMMAND_PATH);
+    }
+
+    /**
+     * Handles one HTTP exchange. The response is sent by the worker once the script has run,
+     * so the I/O threads never wait for commands.
+     *
+     * @param exchange The exchange to handle
+     * @throws IOException if the request cannot be read
+     */
+    private void handleExchange(HttpExchange exchange) throws IOException {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            sendResponse(exchange, 405, "Only POST is supported");
+            return;
+        }
+        String script;
+        try (InputStream body = exchange.getRequestBody()) {
+            script = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        try {
+            commandExecutor.submit(script).whenComplete((output, error) -> {
+                if (error == null) {
+                    sendQuietly(exchange, 200, output);
+                } else if (unwrap(error) instanceof TimeoutException) {
+                    sendQuietly(exchange, 503, unwrap(error).getMessage());
+                } else {
+                    logger.log(Level.SEVERE, "Error handling request", error);
+                    sendQuietly(exchange, 500, "An error occurred: " + unwrap(error).getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Rejecting request, " + commandExecutor.getQueueLength() + " requests are waiting");
+            sendResponse(exchange, 503, "The server is busy, please try again later.");
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private void sendQuietly(HttpExchange exchange, int status, String text) {
+        try {
+            sendResponse(exchange, status, text);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not send response", e);
+        }
+    }
+
+    private void sendResponse(HttpExchange exchange, int status, String text) throws IOException {
+        try (exchange) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Runs a script and waits for its output.
+     *
+     * @param script The lines a user would type
+     * @return Everything the commands printed
+     */
+    String execute(String script) {
+        return commandExecutor.submit(script).join();
+    }
+}
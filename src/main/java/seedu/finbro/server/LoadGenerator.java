@@ -0,0 +1,190 @@
+package seedu.finbro.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the same script to a running FinBro server from several clients and reports
+ * the throughput and the latency percentiles.
+ * Usage: {@code LoadGenerator <port> <clients> <requests per client> [script lines...]},
+ * where the script defaults to a single {@code balance} command.
+ */
+public class LoadGenerator {
+    private static final String DEFAULT_SCRIPT = "balance";
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI uri;
+    private final String script;
+
+    /**
+     * Constructs a load generator for the server on the given local port.
+     *
+     * @param port The port of the server
+     * @param script The lines to send with every request
+     */
+    public LoadGenerator(int port, String script) {
+        this.uri = URI.create("http://localhost:" + port + FinBroServer.COMMAND_PATH);
+        this.script = script;
+    }
+
+    /**
+     * Sends requests from several clients at once and measures each round trip.
+     *
+     * @param clients The number of concurrent clients
+     * @param requestsPerClient The number of requests each client sends
+     * @return The measured results
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public Result run(int clients, int requestsPerClient) throws InterruptedException {
+        assert clients > 0 && requestsPerClient > 0 : "Clients and requests must be positive";
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            futures.add(pool.submit(() -> {
+                long[] latencies = new long[requestsPerClient];
+                start.await();
+                for (int i = 0; i < requestsPerClient; i++) {
+                    long begin = System.nanoTime();
+                    if (!send()) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] latencies = new long[clients * requestsPerClient];
+        int count = 0;
+        for (Future<long[]> future : futures) {
+            try {
+                long[] clientLatencies = future.get();
+                System.arraycopy(clientLatencies, 0, latencies, count, clientLatencies.length);
+                count += clientLatencies.length;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Client failed", e.getCause());
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies, 0, count);
+        return new Result(count, failures.get(), elapsed, Arrays.copyOf(latencies, count));
+    }
+
+    /**
+     * Sends the script once.
+     *
+     * @return true if the server answered with status 200
+     */
+    private boolean send() {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofString(script))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The outcome of a load run.
+     */
+    public static class Result {
+        private final int requests;
+        private final int failures;
+        private final long elapsedNanos;
+        private final long[] sortedLatencies;
+
+        Result(int requests, int failures, long elapsedNanos, long[] sortedLatencies) {
+            this.requests = requests;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = sortedLatencies;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Returns the number of requests completed per second.
+         *
+         * @return The throughput
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : requests * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        /**
+         * Returns the latency below which the given share of requests completed.
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The latency in milliseconds
+         */
+        public double getLatencyMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            index = Math.max(0, Math.min(sortedLatencies.length - 1, index));
+            return (double) sortedLatencies[index] / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests (%d failed), %.1f requests/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms",
+                    requests, failures, getThroughput(), getLatencyMillis(50), getLatencyMillis(99),
+                    getLatencyMillis(100));
+        }
+    }
+
+    /**
+     * Runs a load test against a local server.
+     *
+     * @param args The port, the number of clients, the requests per client and optionally the script lines
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.out.println("Usage: LoadGenerator <port> <clients> <requests per client> [script lines...]");
+            return;
+        }
+        int port = Integer.parseInt(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        int requests = Integer.parseInt(args[2]);
+        String script = args.length > 3
+                ? String.join("\n", Arrays.copyOfRange(args, 3, args.length))
+                : DEFAULT_SCRIPT;
+
+        System.out.println(new LoadGenerator(port, script).run(clients, requests));
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.finbro.storage;
+
+import seedu.finbro.logic.parser.Tokenizer;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.MonthlySummary;
+import seedu.finbro.model.Transaction;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.util.DateUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Reads transactions from a CSV file in the format written by {@link Storage#exportToCsv}:
+ * {@code Type,Date,Amount,Description,Category,Tags}, with tags separated by semicolons.
+ * The file is read in chunks, and the rows of a chunk are validated in parallel. Rows that repeat a
+ * transaction of the ledger or an earlier row (same type, date, amount and description) are skipped.
+ * The transactions section ends at the first line starting with {@value #SECTION_PREFIX}, such as the
+ * budget section of an export.
+ */
+public class CsvImporter {
+    private static final Logger logger = Logger.getLogger(CsvImporter.class.getName());
+    private static final String HEADER_PREFIX = "Type,";
+    private static final String SECTION_PREFIX = "#";
+    private static final String TAG_SEPARATOR = ";";
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MIN_FIELDS = 4;
+    private static final int MAX_FIELDS = 6;
+
+    /**
+     * Reads and validates the transactions of a CSV file. The ledger is not changed.
+     *
+     * @param file The CSV file to read
+     * @param transactionManager The ledger whose transactions count as duplicates
+     * @return The accepted transactions, the skipped duplicates and the rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    public Result read(Path file, TransactionManager transactionManager) throws IOException {
+        assert file != null : "File cannot be null";
+        assert transactionManager != null : "TransactionManager cannot be null";
+
+        Set<String> seen = new HashSet<>();
+        for (Transaction transaction : transactionManager.snapshotAll().getTransactions()) {
+            seen.add(getDuplicateKey(transaction));
+        }
+
+        Result result = new Result();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 0;
+            int firstLineNumber = 1;
+            boolean isHeaderChecked = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.startsWith(SECTION_PREFIX)) {
+                    break;
+                }
+                if (!isHeaderChecked && !line.isBlank()) {
+                    isHeaderChecked = true;
+                    if (line.startsWith(HEADER_PREFIX)) {
+                        continue;
+                    }
+                }
+                if (lines.isEmpty()) {
+                    firstLineNumber = lineNumber;
+                }
+                lines.add(line);
+                if (lines.size() == CHUNK_SIZE) {
+                    addChunk(lines, firstLineNumber, seen, result);
+                    lines.clear();
+                }
+            }
+            addChunk(lines, firstLineNumber, seen, result);
+        }
+        logger.info("Read " + result.getRows() + " rows from " + file + ": " + result.getTransactions().size()
+                + " accepted, " + result.getDuplicates() + " duplicates, " + result.getRejects().size() + " rejected");
+        return result;
+    }
+
+    /**
+     * Validates a chunk of lines in parallel and adds the outcome to the result in file order.
+     *
+     * @param lines The lines of the chunk, where blank lines are skipped
+     * @param firstLineNumber The line number of the first line of the chunk
+     * @param seen The duplicate keys of the ledger and of the rows accepted so far
+     * @param result The result to add to
+     */
+    private void addChunk(List<String> lines, int firstLineNumber, Set<String> seen, Result result) {
+        Row[] rows = new Row[lines.size()];
+        IntStream.range(0, lines.size()).parallel().forEach(i -> rows[i] = parseRow(lines.get(i)));
+
+        for (int i = 0; i < rows.length; i++) {
+            Row row = rows[i];
+            if (row == null) {
+                continue;
+            }
+            result.rows++;
+            if (row.error != null) {
+                result.rejects.add("Line " + (firstLineNumber + i) + ": " + row.error);
+            } else if (seen.add(getDuplicateKey(row.transaction))) {
+                result.transactions.add(row.transaction);
+            } else {
+                result.duplicates++;
+            }
+        }
+    }
+
+    /**
+     * Parses one line into a transaction.
+     *
+     * @param line The line to parse
+     * @return The transaction or the reason the line was rejected, or null for a blank line
+     */
+    private static Row parseRow(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        List<String> fields = splitFields(line);
+        if (fields == null) {
+            return Row.rejected("Unterminated quoted value");
+        }
+        if (fields.size() < MIN_FIELDS || fields.size() > MAX_FIELDS) {
+            return Row.rejected("Expected " + MIN_FIELDS + " to " + MAX_FIELDS + " values but found "
+                    + fields.size());
+        }
+
+        String type = fields.get(0).trim();
+        boolean isIncome = type.equalsIgnoreCase("Income");
+        if (!isIncome && !type.equalsIgnoreCase("Expense")) {
+            return Row.rejected("Unknown type '" + type + "'");
+        }
+        LocalDate date = DateUtil.parseDate(fields.get(1).trim());
+        if (date == null) {
+            return Row.rejected(DateUtil.getValidationErrorMessage(fields.get(1).trim()));
+        }
+        String amountText = fields.get(2).trim();
+        if (!Tokenizer.isAmount(amountText) || Double.parseDouble(amountText) <= 0) {
+            return Row.rejected("Invalid amount '" + amountText + "'");
+        }
+        double amount = Double.parseDouble(amountText);
+        String description = fields.get(3).trim();
+        if (description.isEmpty()) {
+            return Row.rejected("Missing description");
+        }
+        List<String> tags = fields.size() > 5 ? splitTags(fields.get(5)) : new ArrayList<>();
+
+        if (isIncome) {
+            return new Row(new Income(amount, description, date, tags), null);
+        }
+        String categoryText = fields.size() > 4 ? fields.get(4).trim() : "";
+        Expense.Category category = categoryText.isEmpty() ? Expense.Category.OTHERS : null;
+        for (Expense.Category candidate : Expense.Category.values()) {
+            if (candidate.toString().equalsIgnoreCase(categoryText)) {
+                category = candidate;
+            }
+        }
+        if (category == null) {
+            return Row.rejected("Unknown category '" + categoryText + "'");
+        }
+        return new Row(new Expense(amount, description, date, category, tags), null);
+    }
+
+    /**
+     * Splits a CSV line into its values. Values may be quoted, with quotes inside doubled.
+     *
+     * @param line The line to split
+     * @return The values, or null if a quoted value is not closed
+     */
+    static List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>(MAX_FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static List<String> splitTags(String value) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : value.split(TAG_SEPARATOR)) {
+            if (!tag.isBlank()) {
+                tags.add(tag.trim());
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the key under which two transactions count as the same entry.
+     */
+    private static String getDuplicateKey(Transaction transaction) {
+        return String.join("|", transaction instanceof Income ? "I" : "E", transaction.getDate().toString(),
+                Long.toString(MonthlySummary.toCents(transaction.getAmount())), transaction.getDescription());
+    }
+
+    /**
+     * A parsed row: either a transaction or the reason it was rejected.
+     */
+    private static class Row {
+        private final Transaction transaction;
+        private final String error;
+
+        Row(Transaction transaction, String error) {
+            this.transaction = transaction;
+            this.error = error;
+        }
+
+        static Row rejected(String error) {
+            return new Row(null, error);
+        }
+    }
+
+    /**
+     * The outcome of reading a CSV file.
+     */
+    public static class Result {
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final List<String> rejects = new ArrayList<>();
+        private int rows;
+        private int duplicates;
+
+        public List<Transaction> getTransactions() {
+            return Collections.unmodifiableList(transactions);
+        }
+
+        public List<String> getRejects() {
+            return Collections.unmodifiableList(rejects);
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getDuplicates() {
+            return duplicates;
+        }
+    }
+}
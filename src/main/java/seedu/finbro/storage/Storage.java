@@ -1,8 +1,15 @@
 package seedu.finbro.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.BufferedWriter;
 
 import java.nio.channels.FileChannel;
@@ -22,22 +29,41 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Base64;
 import java.util.UUID;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.finbro.model.Expense;
 import seedu.finbro.model.Income;
+import seedu.finbro.model.LedgerSnapshot;
+import seedu.finbro.model.MonthlyAmountTable;
+import seedu.finbro.model.MonthlyReport;
+import seedu.finbro.model.MonthlySummary;
+import seedu.finbro.model.RecurringRule;
 import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
+import seedu.finbro.util.DateUtil;
 
 /**
  * Handles saving and loading of data with robust protection against corruption.
@@ -49,11 +75,16 @@ public class Storage {
     private static final String DATA_FILE = "finbro.txt";
     private static final String BUDGET_FILE = "budgets.txt";
     private static final String SAVINGS_FILE = "savings_goals.txt";
+    private static final String RECURRING_FILE = "recurring.txt";
+    private static final String SUMMARY_FILE = "ledger_summary.txt";
     private static final String DEFAULT_EXPORT_DIRECTORY = "exports";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final String CURRENT_FORMAT_VERSION = "FinBro1.0";
     private static final String VERSION_PREFIX = "#VERSION:";
     private static final String CHECKSUM_PREFIX = "#CHECKSUM:";
+    private static final String SEGMENT_PREFIX = "#SEGMENT:";
+    private static final String DATA_CHECKSUM_PREFIX = "#DATA:";
+    private static final String RECURRING_PREFIX = "#RECURRING:";
 
     // Constants for character escaping
     private static final String PIPE_DELIMITER = "|";
@@ -64,15 +95,45 @@ public class Storage {
     // Character encoding for all files
     private static final Charset FILE_CHARSET = StandardCharsets.UTF_8;
 
+    // The two leading bytes of every GZIP stream, used to detect compressed files on load
+    private static final int GZIP_HEADER_LENGTH = 2;
+
     // Timestamp for emergency backups
     private static long lastEmergencyBackup = 0;
 
+    // File locks are held by the whole JVM, so threads saving the same file first queue up on an in-process lock
+    private static final Map<Path, ReentrantLock> FILE_LOCKS = new ConcurrentHashMap<>();
+    private static final long FILE_LOCK_TIMEOUT_SECONDS = 10;
+
     // File paths
     private final String dataFilePath;
     private final String budgetFilePath;
     private final String savingsFilePath;
+    private final String recurringFilePath;
+    private final String summaryFilePath;
     private final String exportDirectoryPath;
 
+    // Whether data, budget and savings files are written GZIP-compressed
+    private boolean isCompressionEnabled = false;
+
+    // Whether transactions are stored in one segment file per year, listed in a manifest
+    private boolean isPartitioningEnabled = false;
+
+    // Checksums of the segments last read or written, used to skip rewriting unchanged years
+    private final Map<Integer, String> segmentChecksums = new ConcurrentHashMap<>();
+
+    // While a batch runs, saves only record the manager to save, and each file is written once at its end
+    private final Object batchLock = new Object();
+    private boolean isBatching = false;
+    private TransactionManager pendingTransactions;
+    private TransactionManager pendingBudgets;
+    private TransactionManager pendingSavingsGoals;
+    private TransactionManager pendingRecurringRules;
+
+    // Archived segments read ahead in the background, merged when a command first needs them
+    private final Map<Integer, CompletableFuture<SegmentData>> prefetchedSegments = new ConcurrentHashMap<>();
+    private ExecutorService prefetchExecutor;
+
     /**
      * Constructs a Storage with default file paths.
      */
@@ -81,6 +142,8 @@ public class Storage {
         this.dataFilePath = DATA_DIRECTORY + File.separator + DATA_FILE;
         this.budgetFilePath = DATA_DIRECTORY + File.separator + BUDGET_FILE;
         this.savingsFilePath = DATA_DIRECTORY + File.separator + SAVINGS_FILE;
+        this.recurringFilePath = DATA_DIRECTORY + File.separator + RECURRING_FILE;
+        this.summaryFilePath = DATA_DIRECTORY + File.separator + SUMMARY_FILE;
         this.exportDirectoryPath = DEFAULT_EXPORT_DIRECTORY;
         createDirectories();
     }
@@ -110,6 +173,8 @@ public class Storage {
 
         this.budgetFilePath = parent.resolve("budgets.txt").toString();
         this.savingsFilePath = parent.resolve("savings_goals.txt").toString();
+        this.recurringFilePath = parent.resolve(RECURRING_FILE).toString();
+        this.summaryFilePath = parent.resolve(SUMMARY_FILE).toString();
         this.exportDirectoryPath = exportDirectoryPath;
 
         createDirectories();
@@ -139,6 +204,94 @@ public class Storage {
         }
     }
 
+    /**
+     * Enables or disables GZIP compression for the data, budget and savings files.
+     * Files are detected as compressed or plain on load regardless of this setting,
+     * so switching modes never makes existing data unreadable.
+     *
+     * @param isCompressionEnabled true to write compressed files on the next save
+     */
+    public void setCompressionEnabled(boolean isCompressionEnabled) {
+        logger.info("Storage compression " + (isCompressionEnabled ? "enabled" : "disabled"));
+        this.isCompressionEnabled = isCompressionEnabled;
+    }
+
+    /**
+     * Returns whether files are written GZIP-compressed.
+     *
+     * @return true if compression is enabled
+     */
+    public boolean isCompressionEnabled() {
+        return isCompressionEnabled;
+    }
+
+    /**
+     * Enables or disables the year-partitioned data layout.
+     * When enabled, the data file becomes a manifest of per-year segment files, and segments of
+     * past years are only read when a command needs them.
+     *
+     * @param isPartitioningEnabled true to store transactions in per-year segments on the next save
+     */
+    public void setPartitioningEnabled(boolean isPartitioningEnabled) {
+        logger.info("Storage partitioning " + (isPartitioningEnabled ? "enabled" : "disabled"));
+        this.isPartitioningEnabled = isPartitioningEnabled;
+    }
+
+    /**
+     * Returns whether transactions are stored in per-year segments.
+     *
+     * @return true if partitioning is enabled
+     */
+    public boolean isPartitioningEnabled() {
+        return isPartitioningEnabled;
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #endBatch()} is called, saves are deferred, so a batch
+     * of commands writes each file once instead of once per command.
+     */
+    public void beginBatch() {
+        synchronized (batchLock) {
+            logger.info("Deferring saves until the batch ends");
+            isBatching = true;
+        }
+    }
+
+    /**
+     * Ends a batch of changes and writes every file that was saved during the batch.
+     */
+    public void endBatch() {
+        TransactionManager transactions;
+        TransactionManager budgets;
+        TransactionManager savingsGoals;
+        TransactionManager recurringRules;
+        synchronized (batchLock) {
+            isBatching = false;
+            transactions = pendingTransactions;
+            budgets = pendingBudgets;
+            savingsGoals = pendingSavingsGoals;
+            recurringRules = pendingRecurringRules;
+            pendingTransactions = null;
+            pendingBudgets = null;
+            pendingSavingsGoals = null;
+            pendingRecurringRules = null;
+        }
+
+        logger.info("Batch ended, writing deferred saves");
+        if (transactions != null) {
+            saveTransactions(transactions);
+        }
+        if (budgets != null) {
+            saveBudgets(budgets);
+        }
+        if (savingsGoals != null) {
+            saveSavingsGoals(savingsGoals);
+        }
+        if (recurringRules != null) {
+            saveRecurringRules(recurringRules);
+        }
+    }
+
     /**
      * Loads transactions from the data file with comprehensive error recovery.
      *
@@ -171,18 +324,18 @@ public class Storage {
                         continue;
                     }
 
-                    // Try to parse
-                    List<Transaction> transactions = parseTransactions(file);
+                    // Try to parse, either as a plain data file or as a manifest of yearly segments
+                    List<String> lines = readDataLines(file);
+                    Map<Integer, String> segments = parseSegmentEntries(lines);
 
                     // Create and populate transaction manager
                     TransactionManager tm = new TransactionManager();
-                    for (Transaction t : transactions) {
-                        if (isValidTransaction(t)) {
-                            tm.addTransaction(t);
-                        } else {
-                            logger.warning("Skipping invalid transaction: " + t);
-                        }
+                    if (segments.isEmpty()) {
+                        addValidTransactions(tm, parseTransactionLines(lines));
+                    } else {
+                        loadSegments(tm, segments, readStoredChecksum(file));
                     }
+                    restoreLedgerRecurringRules(tm, lines);
 
                     // If successful and this isn't the main file, restore this file as main
                     if (!file.equals(mainFile) && Files.exists(file)) {
@@ -198,13 +351,19 @@ public class Storage {
                         logger.info("Created emergency backup");
                     }
 
-                    logger.info("Successfully loaded " + tm.getTransactionCount() + " transactions");
+                    logger.info("Successfully loaded " + tm.listLoadedTransactions().size() + " transactions");
                     return tm;
                 } catch (Exception e) {
                     logger.log(Level.WARNING, "Failed to load from " + file, e);
                 }
             }
 
+            // Nothing saved yet is a normal first start, not a failed recovery
+            if (filesToTry.stream().noneMatch(Files::exists)) {
+                logger.info("No data file found, starting with empty data");
+                return new TransactionManager();
+            }
+
             // All recovery attempts failed, return empty manager
             System.out.println("All recovery attempts failed, starting with empty data");
             return new TransactionManager();
@@ -212,14 +371,14 @@ public class Storage {
     }
 
     /**
-     * Parses transactions from a file.
+     * Reads the data lines of a file, migrating older versions and dropping the version and checksum lines.
      *
      * @param path The file path to read from
-     * @return List of parsed transactions
+     * @return The data lines of the file
      * @throws IOException if an I/O error occurs
      */
-    private List<Transaction> parseTransactions(Path path) throws IOException {
-        List<String> lines = Files.readAllLines(path, FILE_CHARSET);
+    private List<String> readDataLines(Path path) throws IOException {
+        List<String> lines = readLines(path);
 
         // Handle file version if present
         if (!lines.isEmpty() && lines.get(0).startsWith(VERSION_PREFIX)) {
@@ -236,11 +395,22 @@ public class Storage {
             lines.remove(lines.size() - 1);
         }
 
+        return lines;
+    }
+
+    /**
+     * Parses transactions from data lines.
+     *
+     * @param lines The data lines to parse
+     * @return List of parsed transactions
+     * @throws IOException if a line contains invalid transaction data
+     */
+    private List<Transaction> parseTransactionLines(List<String> lines) throws IOException {
         List<Transaction> transactions = new ArrayList<>();
 
         for (int i = 0; i < lines.size(); i++) {
             String line = lines.get(i).trim();
-            if (line.isEmpty()) {
+            if (line.isEmpty() || line.startsWith(RECURRING_PREFIX)) {
                 continue;
             }
 
@@ -273,73 +443,521 @@ public class Storage {
             throw new IllegalArgumentException("Data file path cannot be null");
         }
 
+        synchronized (batchLock) {
+            if (isBatching) {
+                pendingTransactions = transactionManager;
+                return;
+            }
+        }
+
         logger.info("Saving transactions to: " + dataFilePath);
 
         withFileLock(Paths.get(dataFilePath), () -> {
-            Path originalFile = Paths.get(dataFilePath);
-            Path tempFile = Paths.get(dataFilePath + ".temp");
-            Path backupFile = Paths.get(dataFilePath + ".bak");
-
             try {
-                // Create backup of existing file if it exists
-                if (Files.exists(originalFile)) {
-                    Files.copy(originalFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
-                    logger.fine("Created backup of transactions file");
+                if (isPartitioningEnabled) {
+                    savePartitioned(transactionManager);
+                } else {
+                    LedgerSnapshot snapshot = transactionManager.snapshotAll();
+                    List<Transaction> transactions = snapshot.getTransactionsByDate();
+                    List<String> lines = formatTransactionLines(transactions);
+                    addRecurringRuleLines(lines, snapshot.getRecurringRules());
+                    writeFileSafely(Paths.get(dataFilePath), lines);
+                    logger.info("Successfully saved " + transactions.size() + " transactions");
                 }
+                return true;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error saving data", e);
+                System.err.println("Error saving data: " + e.getMessage());
+                return false;
+            }
+        }, false);  // Default value if locking fails
+    }
 
-                // Check available disk space
-                List<Transaction> transactions = transactionManager.listTransactions();
-                List<String> lines = new ArrayList<>();
+    /**
+     * Formats transactions into data lines, starting with the version line.
+     *
+     * @param transactions The transactions to format
+     * @return The data lines to write
+     */
+    private List<String> formatTransactionLines(List<Transaction> transactions) {
+        List<String> lines = new ArrayList<>(transactions.size() + 1);
+        lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
+        for (Transaction transaction : transactions) {
+            lines.add(formatTransaction(transaction));
+        }
+        return lines;
+    }
 
-                // Add version line
-                lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
+    /**
+     * Adds the recurring rules of a snapshot to the lines of the data file, so that the progress of the rules
+     * is written in the same atomic save as the occurrences they added.
+     *
+     * @param lines The data lines to add to
+     * @param rules The recurring rules of the saved snapshot
+     */
+    private void addRecurringRuleLines(List<String> lines, List<RecurringRule> rules) {
+        for (RecurringRule rule : rules) {
+            lines.add(RECURRING_PREFIX + formatRecurringRule(rule));
+        }
+    }
 
-                // Add transaction lines
-                for (Transaction transaction : transactions) {
-                    String formattedTransaction = formatTransaction(transaction);
-                    lines.add(formattedTransaction);
-                }
+    /**
+     * Restores the recurring rules recorded in the data file. The recurring file decides later
+     * which of them still exist; see {@link #loadRecurringRules(TransactionManager)}.
+     *
+     * @param transactionManager The TransactionManager to restore the rules into
+     * @param lines The data lines of the data file
+     */
+    private void restoreLedgerRecurringRules(TransactionManager transactionManager, List<String> lines) {
+        for (String line : lines) {
+            if (!line.startsWith(RECURRING_PREFIX)) {
+                continue;
+            }
+            RecurringRule rule = parseRecurringRule(line.substring(RECURRING_PREFIX.length()));
+            if (rule != null) {
+                transactionManager.restoreRecurringRule(rule);
+            }
+        }
+    }
 
-                // Check disk space before writing
-                checkDiskSpace(tempFile, lines);
+    /**
+     * Replaces a file with new content through a verified temporary file, keeping a backup
+     * of the previous version and restoring it if the write fails.
+     *
+     * @param originalFile The file to replace
+     * @param lines The lines to write, without checksum
+     * @throws IOException if the file could not be written
+     */
+    private void writeFileSafely(Path originalFile, List<String> lines) throws IOException {
+        Path tempFile = Paths.get(originalFile + ".temp");
+        Path backupFile = Paths.get(originalFile + ".bak");
 
-                // Write to temporary file with checksum
-                writeWithChecksum(tempFile, lines);
+        try {
+            // Create backup of existing file if it exists
+            if (Files.exists(originalFile)) {
+                Files.copy(originalFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+                logger.fine("Created backup of " + originalFile);
+            }
 
-                // Verify the temporary file
-                if (!verifyFileIntegrity(tempFile)) {
-                    throw new IOException("Verification of temp file failed");
-                }
+            // Write to temporary file with checksum, checking disk space for the encoded size
+            writeWithChecksum(tempFile, lines);
 
-                // Replace original file with temporary file (atomic operation if supported)
-                moveFileSafely(tempFile, originalFile);
+            // Verify the temporary file
+            if (!verifyFileIntegrity(tempFile)) {
+                throw new IOException("Verification of temp file failed");
+            }
 
-                logger.info("Successfully saved " + transactions.size() + " transactions");
-                return true;
+            // Replace original file with temporary file (atomic operation if supported)
+            moveFileSafely(tempFile, originalFile);
+        } catch (IOException e) {
+            // Try to restore from backup if write failed
+            try {
+                if (Files.exists(backupFile)) {
+                    moveFileSafely(backupFile, originalFile);
+                    logger.info("Restored original file from backup after failed save");
+                }
+            } catch (IOException restoreError) {
+                logger.log(Level.SEVERE, "Failed to restore backup", restoreError);
+            }
+            throw e;
+        } finally {
+            // Clean up temporary files
+            try {
+                Files.deleteIfExists(tempFile);
             } catch (IOException e) {
-                logger.log(Level.SEVERE, "Error saving data", e);
+                logger.log(Level.WARNING, "Error cleaning up temporary files", e);
+            }
+        }
+    }
 
-                // Try to restore from backup if write failed
-                try {
-                    if (Files.exists(backupFile)) {
-                        moveFileSafely(backupFile, originalFile);
-                        logger.info("Restored original file from backup after failed save");
-                    }
-                } catch (IOException restoreError) {
-                    logger.log(Level.SEVERE, "Failed to restore backup", restoreError);
+    /**
+     * Saves transactions as one segment file per year plus a manifest in the data file.
+     * Segments whose content has not changed since they were last read or written are left untouched,
+     * and segments of partitions that were never loaded are kept as they are.
+     *
+     * @param transactionManager The TransactionManager containing transactions to save
+     * @throws IOException if a segment or the manifest could not be written
+     */
+    private void savePartitioned(TransactionManager transactionManager) throws IOException {
+        // Commands may keep changing the ledger while it is written, so save one consistent state
+        LedgerSnapshot snapshot = transactionManager.snapshot();
+        Map<Integer, List<Transaction>> transactionsByYear = new TreeMap<>();
+        List<Transaction> loadedTransactions = new ArrayList<>(snapshot.getTransactions());
+        loadedTransactions.sort((t1, t2) -> t2.getDate().compareTo(t1.getDate()));
+        for (Transaction transaction : loadedTransactions) {
+            transactionsByYear.computeIfAbsent(transaction.getDate().getYear(), year -> new ArrayList<>())
+                    .add(transaction);
+        }
+
+        Map<Integer, String> manifest = new TreeMap<>();
+        for (int year : snapshot.getUnloadedPartitions()) {
+            String checksum = segmentChecksums.get(year);
+            if (checksum == null) {
+                throw new IOException("Unknown segment for unloaded year " + year);
+            }
+            manifest.put(year, checksum);
+        }
+
+        int rewrittenCount = 0;
+        for (Map.Entry<Integer, List<Transaction>> entry : transactionsByYear.entrySet()) {
+            int year = entry.getKey();
+            List<String> lines = formatTransactionLines(entry.getValue());
+            String checksum = calculateChecksum(lines);
+            Path segmentFile = getSegmentPath(year);
+            if (!checksum.equals(segmentChecksums.get(year)) || !Files.exists(segmentFile)) {
+                writeFileSafely(segmentFile, lines);
+                rewrittenCount++;
+            }
+            manifest.put(year, checksum);
+        }
+
+        List<String> manifestLines = new ArrayList<>();
+        manifestLines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
+        for (Map.Entry<Integer, String> entry : manifest.entrySet()) {
+            manifestLines.add(SEGMENT_PREFIX + entry.getKey() + PIPE_DELIMITER + entry.getValue());
+        }
+        addRecurringRuleLines(manifestLines, snapshot.getRecurringRules());
+        writeFileSafely(Paths.get(dataFilePath), manifestLines);
+        saveSummaries(snapshot.getMonthlySummaries(), calculateChecksum(manifestLines));
+
+        // Segments of years without transactions are kept only as a backup
+        for (int year : segmentChecksums.keySet()) {
+            Path segmentFile = getSegmentPath(year);
+            if (!manifest.containsKey(year) && Files.exists(segmentFile)) {
+                moveFileSafely(segmentFile, Paths.get(segmentFile + ".bak"));
+            }
+        }
+        segmentChecksums.clear();
+        segmentChecksums.putAll(manifest);
+        transactionManager.markPartitionsSaved(snapshot.getVersion());
+
+        logger.info("Successfully saved " + loadedTransactions.size() + " loaded transactions in "
+                + manifest.size() + " segments, rewrote " + rewrittenCount);
+    }
+
+    /**
+     * Parses the segment entries of a manifest.
+     *
+     * @param lines The data lines of the data file
+     * @return The segment checksums by year, empty if the file is not a manifest
+     * @throws IOException if a segment entry is malformed
+     */
+    private Map<Integer, String> parseSegmentEntries(List<String> lines) throws IOException {
+        Map<Integer, String> segments = new TreeMap<>();
+        for (String line : lines) {
+            if (!line.startsWith(SEGMENT_PREFIX)) {
+                continue;
+            }
+            String[] parts = line.substring(SEGMENT_PREFIX.length()).split("\\|", 2);
+            try {
+                segments.put(Integer.parseInt(parts[0]), parts.length > 1 ? parts[1] : "");
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid segment entry: " + line, e);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Loads the segments listed in a manifest into a transaction manager.
+     * With partitioning enabled and a valid summary file, only the segments covering the current and the
+     * previous month are read now; older segments are registered for lazy loading together with their saved
+     * monthly summaries and read ahead in the background. Otherwise every segment is read so that the data
+     * can be saved back as a single file.
+     *
+     * @param transactionManager The TransactionManager to populate
+     * @param segments The segment checksums by year
+     * @param manifestChecksum The checksum of the manifest, which the summary file must match
+     * @throws IOException if a segment that must be loaded now cannot be read
+     */
+    private void loadSegments(TransactionManager transactionManager, Map<Integer, String> segments,
+            String manifestChecksum) throws IOException {
+        segmentChecksums.clear();
+        segmentChecksums.putAll(segments);
+        prefetchedSegments.values().forEach(future -> future.cancel(false));
+        prefetchedSegments.clear();
+
+        Map<Integer, List<MonthlySummary>> savedSummaries = isPartitioningEnabled
+                ? loadSummaries(manifestChecksum) : null;
+        int oldestRecentYear = LocalDate.now().minusMonths(1).getYear();
+        List<Integer> archivedYears = new ArrayList<>();
+        List<MonthlySummary> archivedSummaries = new ArrayList<>();
+        try {
+            for (int year : segments.keySet()) {
+                if (savedSummaries != null && year < oldestRecentYear) {
+                    archivedYears.add(year);
+                    archivedSummaries.addAll(savedSummaries.getOrDefault(year, List.of()));
+                } else {
+                    SegmentData segment = readSegment(year);
+                    recordSegmentChecksum(year, segment.checksum);
+                    addValidTransactions(transactionManager, segment.transactions);
                 }
+            }
+        } catch (IOException e) {
+            // Forget the manifest so a later save cannot retire segments it never read
+            segmentChecksums.clear();
+            throw e;
+        }
 
-                System.err.println("Error saving data: " + e.getMessage());
-                return false;
-            } finally {
-                // Clean up temporary files
+        if (!archivedYears.isEmpty()) {
+            transactionManager.registerUnloadedPartitions(archivedYears, archivedSummaries, this::loadSegment);
+            prefetchSegments(archivedYears);
+        }
+        logger.info("Loaded " + (segments.size() - archivedYears.size()) + " of " + segments.size()
+                + " segments, deferred " + archivedYears);
+    }
+
+    /**
+     * Starts reading archived segments on a background thread, newest first.
+     *
+     * @param years The years of the archived segments
+     */
+    private void prefetchSegments(List<Integer> years) {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "finbro-segment-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        for (int i = years.size() - 1; i >= 0; i--) {
+            int year = years.get(i);
+            prefetchedSegments.put(year, CompletableFuture.supplyAsync(() -> {
                 try {
-                    Files.deleteIfExists(tempFile);
+                    return readSegment(year);
                 } catch (IOException e) {
-                    logger.log(Level.WARNING, "Error cleaning up temporary files", e);
+                    throw new UncheckedIOException(e);
+                }
+            }, prefetchExecutor));
+        }
+    }
+
+    /**
+     * Loads the segment of an archived year on demand, using the background read if there is one.
+     * Called on the command thread, so the transaction manager is only ever changed from there.
+     *
+     * @param year The year of the segment
+     * @return The valid transactions in the segment
+     * @throws UncheckedIOException if the segment cannot be read
+     */
+    private List<Transaction> loadSegment(int year) {
+        try {
+            SegmentData segment = null;
+            CompletableFuture<SegmentData> prefetched = prefetchedSegments.remove(year);
+            if (prefetched != null) {
+                try {
+                    segment = prefetched.join();
+                } catch (CompletionException | CancellationException e) {
+                    logger.log(Level.WARNING, "Background read of segment " + year + " failed, retrying", e);
                 }
             }
-        }, false);  // Default value if locking fails
+            if (segment == null) {
+                segment = readSegment(year);
+            }
+            recordSegmentChecksum(year, segment.checksum);
+
+            List<Transaction> transactions = new ArrayList<>();
+            for (Transaction transaction : segment.transactions) {
+                if (isValidTransaction(transaction)) {
+                    transactions.add(transaction);
+                }
+            }
+            return transactions;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the checksum of a segment as read from disk, so the next save compares against it.
+     *
+     * @param year The year of the segment
+     * @param checksum The checksum stored in the segment file
+     */
+    private void recordSegmentChecksum(int year, String checksum) {
+        if (!checksum.equals(segmentChecksums.get(year))) {
+            logger.info("Segment " + year + " differs from the manifest");
+            segmentChecksums.put(year, checksum);
+        }
+    }
+
+    /**
+     * Reads the transactions of a segment, falling back to its backup if the segment is damaged.
+     * Does not change any state, so it may run on a background thread.
+     *
+     * @param year The year of the segment
+     * @return The parsed transactions and the checksum stored in the segment
+     * @throws IOException if neither the segment nor its backup can be read
+     */
+    private SegmentData readSegment(int year) throws IOException {
+        Path segmentFile = getSegmentPath(year);
+        Path backupFile = Paths.get(segmentFile + ".bak");
+        for (Path file : List.of(segmentFile, backupFile)) {
+            if (!Files.exists(file) || !verifyFileIntegrity(file)) {
+                logger.warning("Segment file missing or damaged: " + file);
+                continue;
+            }
+            return new SegmentData(parseTransactionLines(readDataLines(file)), readStoredChecksum(file));
+        }
+        throw new IOException("Could not read segment for year " + year);
+    }
+
+    /**
+     * Reads the checksum stored in the last line of a file.
+     *
+     * @param file The file to read
+     * @return The stored checksum, or an empty string if the file has none
+     * @throws IOException if an I/O error occurs
+     */
+    private String readStoredChecksum(Path file) throws IOException {
+        List<String> lines = readLines(file);
+        String lastLine = lines.isEmpty() ? "" : lines.get(lines.size() - 1);
+        return lastLine.startsWith(CHECKSUM_PREFIX) ? lastLine.substring(CHECKSUM_PREFIX.length()) : "";
+    }
+
+    /**
+     * Saves the monthly summaries of all transactions, tied to the checksum of the manifest just written.
+     * A failure only loses the fast start, so it is logged rather than reported.
+     *
+     * @param monthlySummaries The monthly summaries to save
+     * @param manifestChecksum The checksum of the manifest
+     */
+    private void saveSummaries(Collection<MonthlySummary> monthlySummaries, String manifestChecksum) {
+        List<MonthlySummary> summaries = new ArrayList<>(monthlySummaries);
+        summaries.sort((s1, s2) -> s1.getYear() != s2.getYear()
+                ? Integer.compare(s1.getYear(), s2.getYear()) : Integer.compare(s1.getMonth(), s2.getMonth()));
+
+        List<String> lines = new ArrayList<>();
+        lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
+        lines.add(DATA_CHECKSUM_PREFIX + manifestChecksum);
+        long totalIncome = 0;
+        long totalExpense = 0;
+        for (MonthlySummary summary : summaries) {
+            String month = summary.getYear() + PIPE_DELIMITER + summary.getMonth();
+            lines.add("MONTH|" + month + PIPE_DELIMITER + summary.getTransactionCount() + PIPE_DELIMITER
+                    + summary.getIncomeCents() + PIPE_DELIMITER + summary.getExpenseCents());
+            summary.getCategoryExpenseCents().forEach((category, cents) ->
+                    lines.add("CATEGORY|" + month + PIPE_DELIMITER + category.name() + PIPE_DELIMITER + cents));
+            Set<String> tags = new TreeSet<>(summary.getTagIncomeCents().keySet());
+            tags.addAll(summary.getTagExpenseCents().keySet());
+            for (String tag : tags) {
+                lines.add("TAG|" + month + PIPE_DELIMITER + escapeSpecialChars(tag) + PIPE_DELIMITER
+                        + summary.getTagIncomeCents().getOrDefault(tag, 0L) + PIPE_DELIMITER
+                        + summary.getTagExpenseCents().getOrDefault(tag, 0L));
+            }
+            totalIncome += summary.getIncomeCents();
+            totalExpense += summary.getExpenseCents();
+        }
+        lines.add("TOTAL|" + totalIncome + PIPE_DELIMITER + totalExpense);
+
+        try {
+            writeFileSafely(Paths.get(summaryFilePath), lines);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not save ledger summary", e);
+        }
+    }
+
+    /**
+     * Loads the saved monthly summaries if they belong to the given manifest.
+     *
+     * @param manifestChecksum The checksum of the manifest that was loaded
+     * @return The monthly summaries by year, or null if the summary file is missing, damaged or outdated
+     */
+    private Map<Integer, List<MonthlySummary>> loadSummaries(String manifestChecksum) {
+        Path summaryFile = Paths.get(summaryFilePath);
+        if (!Files.exists(summaryFile) || !verifyFileIntegrity(summaryFile)) {
+            logger.info("No valid ledger summary, loading all segments");
+            return null;
+        }
+
+        try {
+            List<String> lines = readDataLines(summaryFile);
+            if (lines.isEmpty() || !lines.get(0).equals(DATA_CHECKSUM_PREFIX + manifestChecksum)) {
+                logger.info("Ledger summary does not match the data file, loading all segments");
+                return null;
+            }
+
+            Map<Integer, MonthlySummary> summaries = new TreeMap<>();
+            long expectedIncome = -1;
+            long expectedExpense = -1;
+            for (String line : lines.subList(1, lines.size())) {
+                String[] parts = safeSplit(line, PIPE_DELIMITER);
+                if ("TOTAL".equals(parts[0])) {
+                    expectedIncome = Long.parseLong(parts[1]);
+                    expectedExpense = Long.parseLong(parts[2]);
+                    continue;
+                }
+                int year = Integer.parseInt(parts[1]);
+                int month = Integer.parseInt(parts[2]);
+                MonthlySummary summary = summaries.computeIfAbsent(DateUtil.yearMonthKey(year, month),
+                        key -> new MonthlySummary(year, month));
+                switch (parts[0]) {
+                case "MONTH":
+                    summary.addTotals(Integer.parseInt(parts[3]), Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+                    break;
+                case "CATEGORY":
+                    summary.addCategoryExpense(Expense.Category.valueOf(parts[3]), Long.parseLong(parts[4]));
+                    break;
+                case "TAG":
+                    summary.addTagAmounts(unescapeSpecialChars(parts[3]),
+                            Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown summary line: " + line);
+                }
+            }
+
+            long totalIncome = 0;
+            long totalExpense = 0;
+            Map<Integer, List<MonthlySummary>> summariesByYear = new HashMap<>();
+            for (MonthlySummary summary : summaries.values()) {
+                totalIncome += summary.getIncomeCents();
+                totalExpense += summary.getExpenseCents();
+                summariesByYear.computeIfAbsent(summary.getYear(), year -> new ArrayList<>()).add(summary);
+            }
+            if (totalIncome != expectedIncome || totalExpense != expectedExpense) {
+                logger.warning("Ledger summary totals are inconsistent, loading all segments");
+                return null;
+            }
+            return summariesByYear;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Could not read ledger summary, loading all segments", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the path of the segment file holding the transactions of a year.
+     *
+     * @param year The year of the segment
+     * @return The segment path, next to the data file
+     */
+    private Path getSegmentPath(int year) {
+        Path dataPath = Paths.get(dataFilePath);
+        String fileName = dataPath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String segmentName = extensionIndex > 0
+                ? fileName.substring(0, extensionIndex) + "-" + year + fileName.substring(extensionIndex)
+                : fileName + "-" + year;
+        return dataPath.resolveSibling(segmentName);
+    }
+
+    /**
+     * Adds the valid transactions to a transaction manager in one change, skipping invalid ones.
+     *
+     * @param transactionManager The TransactionManager to populate
+     * @param transactions The parsed transactions
+     */
+    private void addValidTransactions(TransactionManager transactionManager, List<Transaction> transactions) {
+        List<Transaction> validTransactions = new ArrayList<>(transactions.size());
+        for (Transaction t : transactions) {
+            if (isValidTransaction(t)) {
+                validTransactions.add(t);
+            } else {
+                logger.warning("Skipping invalid transaction: " + t);
+            }
+        }
+        transactionManager.addAll(validTransactions);
     }
 
     /**
@@ -405,6 +1023,12 @@ public class Storage {
         if (transactionManager == null) {
             throw new IllegalArgumentException("TransactionManager cannot be null");
         }
+        synchronized (batchLock) {
+            if (isBatching) {
+                pendingBudgets = transactionManager;
+                return;
+            }
+        }
 
         withFileLock(Paths.get(budgetFilePath), () -> {
             Path originalFile = Paths.get(budgetFilePath);
@@ -422,15 +1046,10 @@ public class Storage {
                 List<String> lines = new ArrayList<>();
                 lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
 
-                for (Map.Entry<String, Double> entry : transactionManager.getAllBudgets().entrySet()) {
-                    String escapedKey = escapeSpecialChars(entry.getKey());
-                    lines.add(escapedKey + PIPE_DELIMITER + entry.getValue());
-                }
-
-                // Check disk space
-                checkDiskSpace(tempFile, lines);
+                MonthlyAmountTable budgets = transactionManager.getAllBudgets();
+                addAmountLines(lines, budgets);
 
-                // Write to temp file with checksum
+                // Write to temp file with checksum, checking disk space for the encoded size
                 writeWithChecksum(tempFile, lines);
 
                 // Verify temp file
@@ -441,7 +1060,7 @@ public class Storage {
                 // Replace original with temp file
                 moveFileSafely(tempFile, originalFile);
 
-                logger.info("Successfully saved " + transactionManager.getAllBudgets().size() + " budgets");
+                logger.info("Successfully saved " + budgets.size() + " budgets");
                 return true;
             } catch (IOException e) {
                 logger.log(Level.SEVERE, "Error saving budgets", e);
@@ -532,6 +1151,12 @@ public class Storage {
         if (transactionManager == null) {
             throw new IllegalArgumentException("TransactionManager cannot be null");
         }
+        synchronized (batchLock) {
+            if (isBatching) {
+                pendingSavingsGoals = transactionManager;
+                return;
+            }
+        }
 
         withFileLock(Paths.get(savingsFilePath), () -> {
             Path originalFile = Paths.get(savingsFilePath);
@@ -549,15 +1174,10 @@ public class Storage {
                 List<String> lines = new ArrayList<>();
                 lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
 
-                for (Map.Entry<String, Double> entry : transactionManager.getAllSavingsGoals().entrySet()) {
-                    String escapedKey = escapeSpecialChars(entry.getKey());
-                    lines.add(escapedKey + PIPE_DELIMITER + entry.getValue());
-                }
-
-                // Check disk space
-                checkDiskSpace(tempFile, lines);
+                MonthlyAmountTable savingsGoals = transactionManager.getAllSavingsGoals();
+                addAmountLines(lines, savingsGoals);
 
-                // Write to temp file with checksum
+                // Write to temp file with checksum, checking disk space for the encoded size
                 writeWithChecksum(tempFile, lines);
 
                 // Verify temp file
@@ -568,7 +1188,7 @@ public class Storage {
                 // Replace original with temp file
                 moveFileSafely(tempFile, originalFile);
 
-                logger.info("Successfully saved " + transactionManager.getAllSavingsGoals().size() + " savings goals");
+                logger.info("Successfully saved " + savingsGoals.size() + " savings goals");
                 return true;
             } catch (IOException e) {
                 logger.log(Level.SEVERE, "Error saving savings goals", e);
@@ -596,6 +1216,144 @@ public class Storage {
         }, false);  // Default value if locking fails
     }
 
+    /**
+     * Loads recurring rules from the recurring file with error recovery.
+     * The recurring file decides which rules exist; rules that the data file also records keep the progress
+     * saved there, since it was saved together with their occurrences.
+     *
+     * @param transactionManager The TransactionManager to load recurring rules into
+     */
+    public void loadRecurringRules(TransactionManager transactionManager) {
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("TransactionManager cannot be null");
+        }
+
+        withFileLock(Paths.get(recurringFilePath), () -> {
+            Path mainFile = Paths.get(recurringFilePath);
+            Path backupFile = Paths.get(recurringFilePath + ".bak");
+
+            // Try main file first
+            boolean mainLoaded = false;
+            if (Files.exists(mainFile)) {
+                try {
+                    if (Files.size(mainFile) > 0 && !verifyFileIntegrity(mainFile)) {
+                        logger.warning("Recurring file integrity check failed");
+                    } else {
+                        mainLoaded = loadRecurringRulesFromFile(mainFile, transactionManager);
+                    }
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Error loading recurring rules from main file", e);
+                }
+            }
+
+            // Try backup if main failed
+            if (!mainLoaded && Files.exists(backupFile)) {
+                try {
+                    if (!verifyFileIntegrity(backupFile)) {
+                        logger.warning("Recurring backup file integrity check failed");
+                    } else if (loadRecurringRulesFromFile(backupFile, transactionManager)) {
+                        Files.copy(backupFile, mainFile, StandardCopyOption.REPLACE_EXISTING);
+                        logger.info("Restored recurring file from backup");
+                    }
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Error loading recurring rules from backup file", e);
+                }
+            }
+
+            if (!mainLoaded) {
+                logger.info("No valid recurring file found, skipping load.");
+            }
+
+            return true;
+        }, false);  // Default value if locking fails
+    }
+
+    /**
+     * Saves recurring rules to the recurring file with integrity protection.
+     * Each rule is one line of its id, interval and number of added occurrences, followed by its template
+     * in the format of the data file.
+     *
+     * @param transactionManager The TransactionManager containing recurring rules to save
+     */
+    public void saveRecurringRules(TransactionManager transactionManager) {
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("TransactionManager cannot be null");
+        }
+        synchronized (batchLock) {
+            if (isBatching) {
+                pendingRecurringRules = transactionManager;
+                return;
+            }
+        }
+
+        withFileLock(Paths.get(recurringFilePath), () -> {
+            Path originalFile = Paths.get(recurringFilePath);
+            Path tempFile = Paths.get(recurringFilePath + ".temp");
+            Path backupFile = Paths.get(recurringFilePath + ".bak");
+
+            try {
+                if (Files.exists(originalFile)) {
+                    Files.copy(originalFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+                    logger.fine("Created backup of recurring file");
+                }
+
+                List<String> lines = new ArrayList<>();
+                lines.add(VERSION_PREFIX + CURRENT_FORMAT_VERSION);
+                List<RecurringRule> rules = transactionManager.getRecurringRules();
+                for (RecurringRule rule : rules) {
+                    lines.add(formatRecurringRule(rule));
+                }
+
+                writeWithChecksum(tempFile, lines);
+                if (!verifyFileIntegrity(tempFile)) {
+                    throw new IOException("Verification of temp recurring file failed");
+                }
+                moveFileSafely(tempFile, originalFile);
+
+                logger.info("Successfully saved " + rules.size() + " recurring rules");
+                return true;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error saving recurring rules", e);
+
+                try {
+                    if (Files.exists(backupFile)) {
+                        moveFileSafely(backupFile, originalFile);
+                        logger.info("Restored recurring file from backup after failed save");
+                    }
+                } catch (IOException restoreError) {
+                    logger.log(Level.SEVERE, "Failed to restore recurring backup", restoreError);
+                }
+
+                System.err.println("Error saving recurring rules: " + e.getMessage());
+                return false;
+            } finally {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Error cleaning up temporary recurring files", e);
+                }
+            }
+        }, false);  // Default value if locking fails
+    }
+
+    /**
+     * Adds every occurrence of the recurring rules that is due by the given date, then saves the ledger once
+     * for all of them instead of once per occurrence.
+     * The data file records the progress of the rules together with the occurrences, so only the ledger is
+     * saved: if that save fails, neither is recorded and the next catch-up adds the occurrences again.
+     *
+     * @param transactionManager The TransactionManager holding the rules and the ledger
+     * @param date The last date to add occurrences for, usually today
+     * @return The added transactions, in date order
+     */
+    public List<Transaction> addDueRecurringTransactions(TransactionManager transactionManager, LocalDate date) {
+        List<Transaction> added = transactionManager.addDueRecurringTransactions(date);
+        if (!added.isEmpty()) {
+            saveTransactions(transactionManager);
+        }
+        return added;
+    }
+
     /**
      * Exports transactions to a CSV file with integrity protection.
      *
@@ -621,7 +1379,7 @@ public class Storage {
             lines.add("Type,Date,Amount,Description,Category,Tags");
 
             // Add transaction data
-            List<Transaction> transactions = transactionManager.listTransactions();
+            List<Transaction> transactions = transactionManager.snapshotAll().getTransactionsByDate();
             for (Transaction transaction : transactions) {
                 String type = transaction instanceof Income ? "Income" : "Expense";
                 String category = transaction instanceof Expense
@@ -650,20 +1408,24 @@ public class Storage {
             lines.add("Month-Year,Budget,SavingsGoal");
 
             // Get all budget entries
-            Map<String, Double> budgets = transactionManager.getAllBudgets();
-            Map<String, Double> savingsGoals = transactionManager.getAllSavingsGoals();
-
-            // Combine all month-year keys from both maps
-            Set<String> allPeriods = new HashSet<>();
-            allPeriods.addAll(budgets.keySet());
-            allPeriods.addAll(savingsGoals.keySet());
-
-            // Write budget and savings goal information
-            for (String period : allPeriods) {
-                double budget = budgets.getOrDefault(period, -1.0);
-                double savingsGoal = savingsGoals.getOrDefault(period, -1.0);
-
-                lines.add(String.format("%s,%.2f,%.2f", period, budget, savingsGoal));
+            MonthlyAmountTable budgets = transactionManager.getAllBudgets();
+            MonthlyAmountTable savingsGoals = transactionManager.getAllSavingsGoals();
+
+            // Merge the month keys of both tables, which are already in chronological order
+            int periodCount = 0;
+            int budgetIndex = 0;
+            int savingsIndex = 0;
+            while (budgetIndex < budgets.size() || savingsIndex < savingsGoals.size()) {
+                int budgetKey = budgetIndex < budgets.size() ? budgets.keyAt(budgetIndex) : Integer.MAX_VALUE;
+                int savingsKey = savingsIndex < savingsGoals.size()
+                        ? savingsGoals.keyAt(savingsIndex) : Integer.MAX_VALUE;
+                int period = Math.min(budgetKey, savingsKey);
+                double budget = budgetKey == period ? MonthlySummary.fromCents(budgets.amountAt(budgetIndex++)) : -1.0;
+                double savingsGoal = savingsKey == period
+                        ? MonthlySummary.fromCents(savingsGoals.amountAt(savingsIndex++)) : -1.0;
+
+                lines.add(String.format("%s,%.2f,%.2f", DateUtil.formatYearMonthKey(period), budget, savingsGoal));
+                periodCount++;
             }
 
             // Check disk space
@@ -676,7 +1438,7 @@ public class Storage {
             moveFileSafely(tempFile, targetFile);
 
             logger.info("Successfully exported " + transactions.size() + " transactions and " +
-                    allPeriods.size() + " budget/savings entries to CSV");
+                    periodCount + " budget/savings entries to CSV");
 
             return filePath;
         } catch (IOException e) {
@@ -693,6 +1455,108 @@ public class Storage {
         }
     }
 
+    /**
+     * Exports a monthly report to a CSV file, with one row per month and one column per category and tag.
+     *
+     * @param report The report to export
+     * @return The path to the exported file
+     * @throws IOException if an I/O error occurs
+     */
+    public String exportReportToCsv(MonthlyReport report) throws IOException {
+        if (report == null) {
+            throw new IllegalArgumentException("Report cannot be null");
+        }
+
+        String fileName = "finbro_report_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".csv";
+        String filePath = exportDirectoryPath + File.separator + fileName;
+        Path targetFile = Paths.get(filePath);
+        Path tempFile = Paths.get(filePath + ".temp");
+
+        try {
+            List<String> lines = new ArrayList<>(report.getRows().size() + 1);
+            StringBuilder header = new StringBuilder("Month,Income,Expenses,Net,Budget,WithinBudget");
+            for (Expense.Category category : Expense.Category.values()) {
+                header.append(",Expense:").append(category);
+            }
+            for (String tag : report.getTags()) {
+                header.append(',').append(escapeCsvValue("TagIncome:" + tag));
+                header.append(',').append(escapeCsvValue("TagExpense:" + tag));
+            }
+            lines.add(header.toString());
+
+            for (MonthlyReport.Row row : report.getRows()) {
+                StringBuilder line = new StringBuilder(DateUtil.formatYearMonthKey(row.getKey()));
+                appendCsvCents(line, row.getIncomeCents());
+                appendCsvCents(line, row.getExpenseCents());
+                appendCsvCents(line, row.getNetCents());
+                if (row.hasBudget()) {
+                    appendCsvCents(line, row.getBudgetCents());
+                    line.append(',').append(row.isWithinBudget());
+                } else {
+                    line.append(",,");
+                }
+                for (Expense.Category category : Expense.Category.values()) {
+                    appendCsvCents(line, row.getCategoryExpenseCents().getOrDefault(category, 0L));
+                }
+                for (String tag : report.getTags()) {
+                    appendCsvCents(line, row.getTagIncomeCents().getOrDefault(tag, 0L));
+                    appendCsvCents(line, row.getTagExpenseCents().getOrDefault(tag, 0L));
+                }
+                lines.add(line.toString());
+            }
+
+            checkDiskSpace(tempFile, lines);
+            Files.write(tempFile, lines, FILE_CHARSET);
+            moveFileSafely(tempFile, targetFile);
+
+            logger.info("Successfully exported a report of " + report.getRows().size() + " months to CSV");
+            return filePath;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error exporting report to CSV", e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException cleanupError) {
+                logger.log(Level.WARNING, "Failed to clean up temp report file", cleanupError);
+            }
+            throw e;
+        }
+    }
+
+    private static void appendCsvCents(StringBuilder line, long cents) {
+        line.append(',').append(String.format("%.2f", MonthlySummary.fromCents(cents)));
+    }
+
+    private static String escapeCsvValue(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * Imports the transactions of a CSV file in the format written by {@link #exportToCsv}.
+     * Valid rows that are not duplicates are added to the ledger in one change and saved once.
+     *
+     * @param filePath The path of the CSV file
+     * @param transactionManager The TransactionManager to add the transactions to
+     * @return The imported transactions, the skipped duplicates and the rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    public CsvImporter.Result importFromCsv(String filePath, TransactionManager transactionManager)
+            throws IOException {
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("TransactionManager cannot be null");
+        }
+
+        logger.info("Importing transactions from: " + filePath);
+        CsvImporter.Result result = new CsvImporter().read(Paths.get(filePath), transactionManager);
+        if (!result.getTransactions().isEmpty()) {
+            transactionManager.addAll(result.getTransactions());
+            saveTransactions(transactionManager);
+        }
+        return result;
+    }
+
     /**
      * Exports transactions to a TXT file with integrity protection.
      *
@@ -721,7 +1585,7 @@ public class Storage {
             lines.add("--------------------------------------------------------------------------------");
 
             // Add transaction data
-            List<Transaction> transactions = transactionManager.listTransactions();
+            List<Transaction> transactions = transactionManager.snapshotAll().getTransactionsByDate();
             for (int i = 0; i < transactions.size(); i++) {
                 Transaction transaction = transactions.get(i);
                 lines.add((i + 1) + ". " + transaction.toString());
@@ -789,7 +1653,7 @@ public class Storage {
             }
 
             String type = parts[0];
-            LocalDate date = LocalDate.parse(parts[1], DATE_FORMATTER);
+            LocalDate date = DateUtil.parseIsoDate(parts[1]);
             double amount = Double.parseDouble(parts[2]);
 
             // Unescape the description
@@ -850,7 +1714,7 @@ public class Storage {
             throw new IllegalArgumentException("Transaction date cannot be null");
         }
 
-        sb.append(PIPE_DELIMITER).append(transaction.getDate().format(DATE_FORMATTER));
+        sb.append(PIPE_DELIMITER).append(transaction.getDate());
         sb.append(PIPE_DELIMITER).append(transaction.getAmount());
 
         if (transaction.getDescription() == null) {
@@ -886,6 +1750,16 @@ public class Storage {
         return sb.toString();
     }
 
+    /**
+     * Adds one {@code year-month|amount} line per month of a budget or savings goal table, in chronological order.
+     */
+    private static void addAmountLines(List<String> lines, MonthlyAmountTable table) {
+        for (int i = 0; i < table.size(); i++) {
+            lines.add(DateUtil.formatYearMonthKey(table.keyAt(i)) + PIPE_DELIMITER
+                    + MonthlySummary.fromCents(table.amountAt(i)));
+        }
+    }
+
     /**
      * Helper method to load budgets from a file.
      *
@@ -895,7 +1769,7 @@ public class Storage {
      */
     private boolean loadBudgetsFromFile(Path path, TransactionManager transactionManager) {
         try {
-            List<String> lines = Files.readAllLines(path, FILE_CHARSET);
+            List<String> lines = readLines(path);
 
             // Handle version if present
             if (!lines.isEmpty() && lines.get(0).startsWith(VERSION_PREFIX)) {
@@ -920,18 +1794,13 @@ public class Storage {
                         continue;
                     }
 
-                    // Unescape the key
-                    String unescapedKey = unescapeSpecialChars(parts[0]);
-                    String[] dateParts = unescapedKey.split("-");
-                    if (dateParts.length != 2) {
+                    int key = DateUtil.parseYearMonthKey(unescapeSpecialChars(parts[0]));
+                    if (key == DateUtil.INVALID_YEAR_MONTH_KEY) {
                         continue;
                     }
-
-                    int year = Integer.parseInt(dateParts[0]);
-                    int month = Integer.parseInt(dateParts[1]);
                     double amount = Double.parseDouble(parts[1]);
 
-                    transactionManager.setBudget(month, year, amount);
+                    transactionManager.setBudget(DateUtil.getMonth(key), DateUtil.getYear(key), amount);
                     successCount++;
                 } catch (Exception e) {
                     logger.log(Level.WARNING, "Error parsing budget entry: " + line, e);
@@ -946,6 +1815,100 @@ public class Storage {
         }
     }
 
+    /**
+     * Helper method to load recurring rules from a file.
+     *
+     * @param path The file to load from
+     * @param transactionManager The TransactionManager to load into
+     * @return true if loading was successful, false otherwise
+     */
+    private boolean loadRecurringRulesFromFile(Path path, TransactionManager transactionManager) {
+        try {
+            List<String> lines = readLines(path);
+            if (!lines.isEmpty() && lines.get(0).startsWith(VERSION_PREFIX)) {
+                lines.remove(0);
+            }
+            if (!lines.isEmpty() && lines.get(lines.size() - 1).startsWith(CHECKSUM_PREFIX)) {
+                lines.remove(lines.size() - 1);
+            }
+
+            // Rules recorded in the data file carry the progress saved with their occurrences
+            Map<Integer, RecurringRule> ledgerRules = new HashMap<>();
+            for (RecurringRule rule : transactionManager.getRecurringRules()) {
+                ledgerRules.put(rule.getId(), rule);
+            }
+
+            int successCount = 0;
+            for (String line : lines) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                RecurringRule rule = parseRecurringRule(line);
+                if (rule == null) {
+                    continue;
+                }
+                RecurringRule recorded = ledgerRules.remove(rule.getId());
+                if (recorded == null || !isSameRule(recorded, rule)) {
+                    transactionManager.restoreRecurringRule(rule);
+                }
+                successCount++;
+            }
+            // Rules removed after the data file was saved
+            for (int id : ledgerRules.keySet()) {
+                transactionManager.removeRecurringRule(id);
+            }
+
+            logger.info("Loaded " + successCount + " recurring rules");
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error loading recurring rules from file", e);
+            return false;
+        }
+    }
+
+    /**
+     * Formats a recurring rule as its id, interval and number of added occurrences, followed by its template
+     * in the format of the data file.
+     *
+     * @param rule The rule to format
+     * @return The formatted rule
+     */
+    private String formatRecurringRule(RecurringRule rule) {
+        return rule.getId() + PIPE_DELIMITER + rule.getInterval() + PIPE_DELIMITER
+                + rule.getOccurrences() + PIPE_DELIMITER + formatTransaction(rule.getTemplate());
+    }
+
+    /**
+     * Parses a recurring rule formatted by {@link #formatRecurringRule(RecurringRule)}.
+     *
+     * @param line The formatted rule
+     * @return The rule, or null if the line is not a valid rule
+     */
+    private RecurringRule parseRecurringRule(String line) {
+        try {
+            // The id, interval and count never contain a pipe, so only the template needs escaping
+            String[] parts = line.split("\\|", 4);
+            Transaction template = parts.length == 4 ? parseTransaction(parts[3]) : null;
+            if (template == null) {
+                logger.warning("Invalid recurring rule: " + line);
+                return null;
+            }
+            return new RecurringRule(Integer.parseInt(parts[0]), template, parts[1], Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Error parsing recurring rule: " + line, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether two rules are the same rule at possibly different progress, so that an id reused
+     * by a new rule does not take the progress of a removed one.
+     */
+    private boolean isSameRule(RecurringRule rule, RecurringRule other) {
+        return rule.getInterval().equals(other.getInterval())
+                && formatTransaction(rule.getTemplate()).equals(formatTransaction(other.getTemplate()));
+    }
+
     /**
      * Helper method to load savings goals from a file.
      *
@@ -955,7 +1918,7 @@ public class Storage {
      */
     private boolean loadSavingsGoalsFromFile(Path path, TransactionManager transactionManager) {
         try {
-            List<String> lines = Files.readAllLines(path, FILE_CHARSET);
+            List<String> lines = readLines(path);
 
             // Handle version if present
             if (!lines.isEmpty() && lines.get(0).startsWith(VERSION_PREFIX)) {
@@ -980,18 +1943,13 @@ public class Storage {
                         continue;
                     }
 
-                    // Unescape the key
-                    String unescapedKey = unescapeSpecialChars(parts[0]);
-                    String[] dateParts = unescapedKey.split("-");
-                    if (dateParts.length != 2) {
+                    int key = DateUtil.parseYearMonthKey(unescapeSpecialChars(parts[0]));
+                    if (key == DateUtil.INVALID_YEAR_MONTH_KEY) {
                         continue;
                     }
-
-                    int year = Integer.parseInt(dateParts[0]);
-                    int month = Integer.parseInt(dateParts[1]);
                     double amount = Double.parseDouble(parts[1]);
 
-                    transactionManager.setSavingsGoal(month, year, amount);
+                    transactionManager.setSavingsGoal(DateUtil.getMonth(key), DateUtil.getYear(key), amount);
                     successCount++;
                 } catch (Exception e) {
                     logger.log(Level.WARNING, "Error parsing savings goal entry: " + line, e);
@@ -1189,6 +2147,8 @@ public class Storage {
 
     /**
      * Writes a list of strings to a file with a checksum.
+     * The content is encoded up front, compressed if enabled, so that the disk space check
+     * is based on the number of bytes actually written.
      *
      * @param file The file to write to
      * @param lines The lines to write
@@ -1198,8 +2158,10 @@ public class Storage {
         // Calculate checksum
         String checksum = calculateChecksum(lines);
 
-        // Write all lines plus the checksum
-        try (BufferedWriter writer = Files.newBufferedWriter(file, FILE_CHARSET)) {
+        // Encode all lines plus the checksum
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(lines.size() * 64 + 64);
+        try (OutputStream encoded = isCompressionEnabled ? new GZIPOutputStream(buffer) : buffer;
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(encoded, FILE_CHARSET))) {
             for (String line : lines) {
                 writer.write(line);
                 writer.newLine();
@@ -1208,6 +2170,48 @@ public class Storage {
             // Append checksum
             writer.write(CHECKSUM_PREFIX + checksum);
         }
+
+        byte[] content = buffer.toByteArray();
+        checkDiskSpace(file, content.length);
+        Files.write(file, content);
+    }
+
+    /**
+     * Reads all lines of a file, transparently decompressing it if it is GZIP-compressed.
+     *
+     * @param file The file to read
+     * @return The lines of the file
+     * @throws IOException if an I/O error occurs or the content is not valid
+     */
+    private List<String> readLines(Path file) throws IOException {
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file))) {
+            InputStream content = isGzipStream(raw) ? new GZIPInputStream(raw) : raw;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(content, FILE_CHARSET.newDecoder()))) {
+                List<String> lines = new ArrayList<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+                return lines;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a stream starts with the GZIP magic header without consuming it.
+     *
+     * @param stream The stream to check, which must support mark and reset
+     * @return true if the stream contains GZIP-compressed data
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean isGzipStream(InputStream stream) throws IOException {
+        assert stream.markSupported() : "Stream must support mark to detect compression";
+        stream.mark(GZIP_HEADER_LENGTH);
+        int first = stream.read();
+        int second = stream.read();
+        stream.reset();
+        return first != -1 && second != -1 && ((second << 8) | first) == GZIPInputStream.GZIP_MAGIC;
     }
 
     /**
@@ -1218,7 +2222,7 @@ public class Storage {
      */
     private boolean verifyFileIntegrity(Path file) {
         try {
-            List<String> lines = Files.readAllLines(file, FILE_CHARSET);
+            List<String> lines = readLines(file);
             if (lines.isEmpty()) {
                 return true;
             }  // Empty file is OK
@@ -1340,8 +2344,17 @@ public class Storage {
      */
     private void checkDiskSpace(Path target, List<String> content) throws IOException {
         // Estimate required space
-        long requiredSpace = estimateRequiredSpace(content);
+        checkDiskSpace(target, estimateRequiredSpace(content));
+    }
 
+    /**
+     * Checks if there is enough disk space to write the given number of bytes.
+     *
+     * @param target The target file
+     * @param requiredSpace The number of bytes to be written
+     * @throws IOException if there is not enough disk space
+     */
+    private void checkDiskSpace(Path target, long requiredSpace) throws IOException {
         try {
             // Get available space on the filesystem
             FileStore fileStore = Files.getFileStore(target.getParent() != null ? target.getParent() : Paths.get("."));
@@ -1394,6 +2407,20 @@ public class Storage {
             return defaultValue;
         }
 
+        // Wait for other threads using the file; a second FileChannel lock in this JVM would fail immediately
+        ReentrantLock threadLock = FILE_LOCKS.computeIfAbsent(file.toAbsolutePath().normalize(),
+                path -> new ReentrantLock());
+        try {
+            if (!threadLock.tryLock(FILE_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for other threads to release file: " + file);
+                return defaultValue;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for file: " + file);
+            return defaultValue;
+        }
+
         // Create lock file
         Path lockFile = Paths.get(file.toString() + ".lock");
 
@@ -1420,7 +2447,22 @@ public class Storage {
                 Files.deleteIfExists(lockFile);
             } catch (IOException e) {
                 logger.log(Level.WARNING, "Could not delete lock file: " + lockFile, e);
+            } finally {
+                threadLock.unlock();
             }
         }
     }
+
+    /**
+     * The transactions read from a segment file together with the checksum stored in it.
+     */
+    private static class SegmentData {
+        private final List<Transaction> transactions;
+        private final String checksum;
+
+        SegmentData(List<Transaction> transactions, String checksum) {
+            this.transactions = transactions;
+            this.checksum = checksum;
+        }
+    }
 }
@@ -6,7 +6,11 @@ import seedu.finbro.logic.exceptions.InvalidDecimalFormatException;
 import seedu.finbro.logic.exceptions.MissingDecimalsException;
 import seedu.finbro.logic.exceptions.NegativeNumberException;
 
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,7 +21,19 @@ import java.util.logging.Logger;
 public class Ui {
     public static final String LINE = "____________________________________________________________";
     private static final Logger logger = Logger.getLogger(Ui.class.getName());
+    private static final int BUFFER_SIZE = 8192;
     private final Scanner scanner;
+    // Null to follow System.out, which tests redirect after creating the Ui
+    private final PrintStream output;
+    // The charset the output stream encodes text with, which the buffer in front of it must match
+    private final Charset charset;
+    // Buffers the writes to the current target, which is only flushed before input is read and on exit
+    private PrintStream bufferedOutput;
+    private PrintStream bufferedTarget;
+    // Set for machine-readable output without the separator lines
+    private boolean isQuiet = false;
+    // Set when running a batch file, which cannot answer duplicate warnings
+    private boolean isAcceptingDuplicates = false;
 
     /**
      * Constructs a Ui with System.in as input source.
@@ -25,6 +41,8 @@ public class Ui {
     public Ui() {
         logger.fine("Initializing UI with System.in");
         this.scanner = new Scanner(System.in);
+        this.output = null;
+        this.charset = Charset.defaultCharset();
     }
 
     /**
@@ -33,8 +51,96 @@ public class Ui {
      * @param scanner The scanner to use for input
      */
     public Ui(Scanner scanner) {
+        this(scanner, null);
+    }
+
+    /**
+     * Constructs a Ui with a custom input source that writes to the given stream,
+     * which encodes text with the default charset.
+     *
+     * @param scanner The scanner to use for input
+     * @param output The stream to write to, or null for System.out
+     */
+    public Ui(Scanner scanner, PrintStream output) {
+        this(scanner, output, Charset.defaultCharset());
+    }
+
+    /**
+     * Constructs a Ui with a custom input source that writes to the given stream.
+     * Used to run commands without a console, e.g. for requests in server mode.
+     *
+     * @param scanner The scanner to use for input
+     * @param output The stream to write to, or null for System.out
+     * @param charset The charset the stream encodes text with
+     */
+    public Ui(Scanner scanner, PrintStream output, Charset charset) {
         logger.fine("Initializing UI with custom scanner");
+        assert charset != null : "Charset cannot be null";
         this.scanner = scanner;
+        this.output = output;
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the stream this Ui writes to. The stream is buffered: what is written to it appears
+     * when the Ui next reads input, or when {@link #flush()} is called.
+     *
+     * @return The output stream
+     */
+    public PrintStream out() {
+        PrintStream target = output != null ? output : System.out;
+        if (target != bufferedTarget) {
+            flush();
+            bufferedTarget = target;
+            bufferedOutput = new PrintStream(new BufferedOutputStream(target, BUFFER_SIZE), false, charset);
+        }
+        return bufferedOutput;
+    }
+
+    /**
+     * Writes the buffered output to the underlying stream.
+     */
+    public void flush() {
+        if (bufferedOutput != null) {
+            bufferedOutput.flush();
+        }
+    }
+
+    /**
+     * Sets whether the separator lines around messages and prompts are left out.
+     *
+     * @param isQuiet true to leave out the separator lines
+     */
+    public void setQuiet(boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Shows a separator line, unless the Ui is quiet.
+     */
+    public void showLine() {
+        if (!isQuiet) {
+            out().println(LINE);
+        }
+    }
+
+    /**
+     * Flushes the buffered output, so that any prompt is visible, and reads a line of input.
+     *
+     * @return The line read
+     */
+    private String readLine() {
+        flush();
+        return scanner.nextLine();
+    }
+
+    /**
+     * Sets whether duplicate transactions are added without asking for confirmation.
+     *
+     * @param isAcceptingDuplicates true to accept duplicate transactions without a prompt
+     */
+    public void setAcceptingDuplicates(boolean isAcceptingDuplicates) {
+        this.isAcceptingDuplicates = isAcceptingDuplicates;
     }
 
     /**
@@ -42,10 +148,10 @@ public class Ui {
      */
     public void showWelcome() {
         logger.info("Showing welcome message");
-        System.out.println(LINE);
-        System.out.println("Welcome to FinBro - Your Personal Finance Manager!");
-        System.out.println("Type 'help' to see available commands.");
-        System.out.println(LINE);
+        showLine();
+        out().println("Welcome to FinBro - Your Personal Finance Manager!");
+        out().println("Type 'help' to see available commands.");
+        showLine();
     }
 
     /**
@@ -53,10 +159,11 @@ public class Ui {
      */
     public void showGoodbye() {
         logger.info("Showing goodbye message");
-        System.out.println(LINE);
-        System.out.println("Thank you for using FinBro. Your finances are now in better shape!");
-        System.out.println("Goodbye!");
-        System.out.println(LINE);
+        showLine();
+        out().println("Thank you for using FinBro. Your finances are now in better shape!");
+        out().println("Goodbye!");
+        showLine();
+        flush();
     }
 
     /**
@@ -65,10 +172,10 @@ public class Ui {
      * @param message The message to show
      */
     public void showMessage(String message) {
-        logger.fine("Showing message: " + message);
-        System.out.println(LINE);
-        System.out.println(message);
-        System.out.println(LINE);
+        logger.fine("Showing message of " + message.length() + " characters");
+        showLine();
+        out().println(message);
+        showLine();
     }
 
     /**
@@ -78,21 +185,20 @@ public class Ui {
      */
     public void showError(String message) {
         logger.warning("Showing error message: " + message);
-        System.out.println(LINE);
-        System.out.println("ERROR: " + message);
-        System.out.println(LINE);
+        showLine();
+        out().println("ERROR: " + message);
+        showLine();
     }
 
     /**
-     * Reads a command from the user.
+     * Reads a command from the user. The case is kept, since one-line commands may contain descriptions.
      *
      * @return The command entered by the user
      */
     public String readCommand() {
         logger.fine("Waiting for user input");
-        System.out.print("Enter command word:\n> ");
-        String command = scanner.nextLine();
-        command = command.toLowerCase();
+        out().print("Enter command word:\n> ");
+        String command = readLine();
         logger.fine("User input received: " + command);
         return command;
     }
@@ -105,10 +211,10 @@ public class Ui {
      */
     public boolean readConfirmation(String message) {
         logger.fine("Requesting user confirmation: " + message);
-        System.out.println(LINE);
-        System.out.println(message + " (y/n)");
-        System.out.print("> ");
-        String input = scanner.nextLine().trim().toLowerCase();
+        showLine();
+        out().println(message + " (y/n)");
+        out().print("> ");
+        String input = readLine().trim().toLowerCase();
 
         if (input.equals("y") || input.equals("yes")) {
             logger.fine("User confirmation result: TRUE");
@@ -118,18 +224,22 @@ public class Ui {
             logger.fine("User confirmation result: FALSE");
             return false;
         } else {
-            System.out.println(LINE);
-            System.out.println("INVALID INPUT, PLEASE TRY AGAIN");
+            showLine();
+            out().println("INVALID INPUT, PLEASE TRY AGAIN");
             logger.warning("invalid user input: " + input + ".\n trying again.");
             return readConfirmation(message);
         }
     }
 
     public Boolean warnDuplicate() {
+        if (isAcceptingDuplicates) {
+            logger.fine("Accepting duplicate transaction without confirmation");
+            return true;
+        }
         logger.info("Showing duplicate warning message");
-        System.out.println(LINE);
-        System.out.println("WARNING: one or more transactions with this name and description already exist.");
-        System.out.println("Please confirm if you would like to proceed entering this transaction anyway\n");
+        showLine();
+        out().println("WARNING: one or more transactions with this name and description already exist.");
+        out().println("Please confirm if you would like to proceed entering this transaction anyway\n");
         return readConfirmation("input duplicate transaction?");
     }
 
@@ -141,18 +251,18 @@ public class Ui {
     public String[] readDates() {
         String[] dates = new String[2];
         logger.fine("Requesting user input for dates");
-        System.out.println(LINE);
-        System.out.println("Please enter the start date in the format yyyy-mm-dd.");
-        System.out.print("> ");
-        String startDate = scanner.nextLine();
+        showLine();
+        out().println("Please enter the start date in the format yyyy-mm-dd.");
+        out().print("> ");
+        String startDate = readLine();
         dates[0] = startDate;
-        System.out.println(LINE);
-        System.out.println("Please enter the end date in the format yyyy-mm-dd." +
+        showLine();
+        out().println("Please enter the end date in the format yyyy-mm-dd." +
                             " (Leave blank to show transactions up to current date.)");
-        System.out.print("> ");
-        String endDate = scanner.nextLine();
+        out().print("> ");
+        String endDate = readLine();
         dates[1] = endDate;
-        System.out.println(LINE);
+        showLine();
         logger.fine("User input for dates received: " + startDate + " to " + endDate);
         return dates;
     }
@@ -164,12 +274,12 @@ public class Ui {
      */
     public String readStartDate() {
         logger.fine("Requesting user input for start date");
-        System.out.println(LINE);
-        System.out.println("Please enter the start date in the format yyyy-mm-dd. " +
+        showLine();
+        out().println("Please enter the start date in the format yyyy-mm-dd. " +
                            "(Leave blank to show from first transaction onwards)");
-        System.out.print("> ");
-        String date = scanner.nextLine();
-        System.out.println(LINE);
+        out().print("> ");
+        String date = readLine();
+        showLine();
         logger.fine("User input for date received: " + date);
         return date;
     }
@@ -184,10 +294,10 @@ public class Ui {
      * @throws IllegalArgumentException if the input is not a valid month number
      */
     public Integer readMonthInput(String message) {
-        System.out.println(LINE);
-        System.out.println(message);
-        System.out.print("> ");
-        String input = scanner.nextLine().trim();
+        showLine();
+        out().println(message);
+        out().print("> ");
+        String input = readLine().trim();
 
         // If empty, return null to use current month
         if (input.isEmpty()) {
@@ -200,14 +310,14 @@ public class Ui {
 
             // Immediate validation
             if (month < 1 || month > 12) {
-                System.out.println("INVALID INPUT: Month must be between 1 and 12.");
+                out().println("INVALID INPUT: Month must be between 1 and 12.");
                 logger.warning("Invalid month input: " + month);
                 throw new IllegalArgumentException("Month must be between 1 and 12");
             }
 
             return month;
         } catch (NumberFormatException e) {
-            System.out.println("INVALID INPUT: Month must be a number between 1 and 12.");
+            out().println("INVALID INPUT: Month must be a number between 1 and 12.");
             logger.warning("Non-numeric month input: " + input);
             throw new IllegalArgumentException("Month must be a number");
         }
@@ -228,10 +338,10 @@ public class Ui {
             monthYear[0] = month;
 
             // Only proceed to year if month is valid or empty
-            System.out.println(LINE);
-            System.out.println("Please enter the year. (Leave blank for current year)");
-            System.out.print("> ");
-            String input = scanner.nextLine();
+            showLine();
+            out().println("Please enter the year. (Leave blank for current year)");
+            out().print("> ");
+            String input = readLine();
             Integer year;
 
             if (input.isEmpty()) {
@@ -242,26 +352,26 @@ public class Ui {
 
                     // Immediate validation
                     if (year < 1000 || year > 9999) {
-                        System.out.println("INVALID INPUT: Year must be a 4-digit number.");
+                        out().println("INVALID INPUT: Year must be a 4-digit number.");
                         logger.warning("Invalid year input (not a 4-digit number): " + year);
                         throw new IllegalArgumentException("Year must be a 4-digit number");
                     }
 
                     if (year > LocalDate.now().getYear() + 10) {
-                        System.out.println("INVALID INPUT: Year cannot be more than 10 years in the future.");
+                        out().println("INVALID INPUT: Year cannot be more than 10 years in the future.");
                         logger.warning("Invalid year input (too far in future): " + year);
                         throw new IllegalArgumentException("Year cannot be more than 10 years in the future");
                     }
 
                 } catch (NumberFormatException e) {
-                    System.out.println("INVALID INPUT: Year must be a valid number.");
+                    out().println("INVALID INPUT: Year must be a valid number.");
                     logger.warning("Non-numeric year input: " + input);
                     throw new IllegalArgumentException("Year must be a valid number");
                 }
             }
 
             monthYear[1] = year;
-            System.out.println(LINE);
+            showLine();
             logger.fine("User input for month and year received: " + month + " " + year);
 
         } catch (IllegalArgumentException e) {
@@ -286,10 +396,10 @@ public class Ui {
      * @throws NumberFormatException if input is not a valid number
      */
     public Integer readLimit() {
-        System.out.println(LINE);
-        System.out.println("Enter number of transactions to list. (Leave blank to show all transactions.)");
-        System.out.print("> ");
-        String input = scanner.nextLine().trim();
+        showLine();
+        out().println("Enter number of transactions to list. (Leave blank to show all transactions.)");
+        out().print("> ");
+        String input = readLine().trim();
         if (input.isEmpty()) {
             return null;
         }
@@ -302,10 +412,10 @@ public class Ui {
      * @return The index entered by the user, index >= 0, no empty input
      */
     public int readIndex(String message) {
-        System.out.println(LINE);
-        System.out.print(message);
+        showLine();
+        out().print(message);
         try {
-            String input = scanner.nextLine().trim();
+            String input = readLine().trim();
             if (input.isEmpty()){
                 throw new EmptyInputException();
             }
@@ -315,13 +425,13 @@ public class Ui {
             }
             return output;
         } catch (NumberFormatException e) {
-            System.out.println("INVALID INPUT: Non-number Input.\nPlease enter an integer.");
+            out().println("INVALID INPUT: Non-number Input.\nPlease enter an integer.");
             logger.log(Level.WARNING, "Integer input invalid - non-number input", e);
         } catch (EmptyInputException e) {
-            EmptyInputException.handle();
+            EmptyInputException.handle(out());
         } catch (NegativeNumberException e) {
             logger.log(Level.WARNING, "Integer input invalid - negative input", e);
-            NegativeNumberException.handle();
+            NegativeNumberException.handle(out());
         }
         return readIndex(message);
     }
@@ -332,12 +442,12 @@ public class Ui {
      * @return An int array: [start, end], where start == end for single index
      */
     public int[] readIndexRange(String message) {
-        System.out.println(LINE);
-        System.out.print(message);
+        showLine();
+        out().print(message);
 
         while (true) {
             try {
-                String input = scanner.nextLine().trim();
+                String input = readLine().trim();
                 if (input.isEmpty()) {
                     throw new EmptyInputException();
                 }
@@ -365,23 +475,26 @@ public class Ui {
                 }
 
             } catch (NumberFormatException e) {
-                System.out.println(LINE);
-                System.out.println("Invalid input. Please enter a number or a valid range (e.g., '1' or '2-5')");
+                showLine();
+                out().println("Invalid input. Please enter a number or a valid range (e.g., '1' or '2-5')");
                 logger.log(Level.WARNING, "Invalid delete index input", e);
             } catch (IllegalArgumentException e) {
-                System.out.println(LINE);
-                System.out.println(e.getMessage());
+                showLine();
+                out().println(e.getMessage());
                 logger.log(Level.WARNING, "Invalid delete index input", e);
             } catch (EmptyInputException e) {
-                System.out.println(LINE);
-                System.out.println("Input cannot be empty. Please enter a number or range.");
+                showLine();
+                out().println("Input cannot be empty. Please enter a number or range.");
                 logger.log(Level.WARNING, "Invalid delete index input", e);
+            } catch (NoSuchElementException e) {
+                // The input ended, e.g. a scripted request without enough lines, so asking again is pointless
+                throw e;
             } catch (Exception e) {
-                System.out.println(LINE);
-                System.out.println("Unexpected error: " + e.getMessage());
+                showLine();
+                out().println("Unexpected error: " + e.getMessage());
                 logger.log(Level.WARNING, "Invalid delete index input", e);
             }
-            System.out.print("> ");
+            out().print("> ");
         }
 
     }
@@ -394,11 +507,11 @@ public class Ui {
      * @return The double entered by the user, 0 < double <= MAX_AMOUNT, <=2dp, no empty input
      */
     public double readDouble(String message) {
-        System.out.println(LINE);
-        System.out.print(message);
+        showLine();
+        out().print(message);
 
         try {
-            String input = scanner.nextLine().trim();
+            String input = readLine().trim();
             if (input.isEmpty()) {
                 throw new EmptyInputException();
             }
@@ -410,8 +523,8 @@ public class Ui {
                 throw new NegativeNumberException();
             }
             if (output > seedu.finbro.util.CurrencyFormatter.MAX_AMOUNT) {
-                System.out.println("INVALID INPUT: Amount exceeds maximum limit of $1,000,000,000.00");
-                System.out.println("Please enter a smaller amount.");
+                out().println("INVALID INPUT: Amount exceeds maximum limit of $1,000,000,000.00");
+                out().println("Please enter a smaller amount.");
                 return readDouble(message);
             }
             if (input.matches("^\\d+\\.")) {
@@ -422,23 +535,23 @@ public class Ui {
             }
             return output;
         } catch (NumberFormatException e) {
-            System.out.println("INVALID INPUT: Non-number Input.\nPlease enter a number up to 2 decimal places.");
+            out().println("INVALID INPUT: Non-number Input.\nPlease enter a number up to 2 decimal places.");
             logger.log(Level.WARNING, "Double input invalid - non-number input", e);
         } catch (NegativeNumberException e) {
             logger.log(Level.WARNING, "Double input invalid - negative input", e);
-            NegativeNumberException.handle();
+            NegativeNumberException.handle(out());
         } catch (EmptyInputException e) {
             logger.log(Level.WARNING, "Double input invalid - user input empty.", e);
-            EmptyInputException.handle();
+            EmptyInputException.handle(out());
         } catch (DecimalPointException e) {
             logger.log(Level.WARNING, "Double input invalid - exceeds 2dp.", e);
-            DecimalPointException.handle();
+            DecimalPointException.handle(out());
         } catch (InvalidDecimalFormatException e) {
             logger.log(Level.WARNING, "Double input invalid - contains comma instead of decimal points.", e);
-            InvalidDecimalFormatException.handle();
+            InvalidDecimalFormatException.handle(out());
         } catch (MissingDecimalsException e) {
             logger.log(Level.WARNING, "Double input invalid - contains decimal point but no decimal places.", e);
-            MissingDecimalsException.handle();
+            MissingDecimalsException.handle(out());
         }
         return readDouble(message);
     }
@@ -450,13 +563,13 @@ public class Ui {
      */
     public String readString(String message) {
         while (true) {
-            System.out.println(LINE);
-            System.out.print(message);
-            String input = scanner.nextLine().trim();
+            showLine();
+            out().print(message);
+            String input = readLine().trim();
             if (!input.isEmpty()) {
                 return input;
             }
-            System.out.println("INVALID INPUT: empty input.\nPlease enter a string.");
+            out().println("INVALID INPUT: empty input.\nPlease enter a string.");
         }
     }
 
@@ -467,9 +580,9 @@ public class Ui {
      * @return The user's tag input as a trimmed string, accepts empty input
      */
     public String readTags(String message) {
-        System.out.println(LINE);
-        System.out.print(message);
-        return scanner.nextLine().trim();
+        showLine();
+        out().print(message);
+        return readLine().trim();
     }
 
     /**
@@ -481,9 +594,9 @@ public class Ui {
      */
     public String readAmount(String message) {
         logger.fine("Requesting user input for amount");
-        System.out.println(LINE);
-        System.out.print(message);
-        String amount = scanner.nextLine().trim();
+        showLine();
+        out().print(message);
+        String amount = readLine().trim();
         logger.fine("User input for amount received: " + amount);
         return amount;
     }
@@ -496,9 +609,9 @@ public class Ui {
      * @return The description entered by the user, can be empty
      */
     public String readDescription(String message) {
-        System.out.println(LINE);
-        System.out.print(message);
-        String input = scanner.nextLine();
+        showLine();
+        out().print(message);
+        String input = readLine();
         return validateInput(input);
     }
 
@@ -515,7 +628,7 @@ public class Ui {
 
         // Warn the user if input contains pipe characters
         if (input.contains("|")) {
-            System.out.println("Warning: Your input contains the '|' character, which will be stored as-is.");
+            out().println("Warning: Your input contains the '|' character, which will be stored as-is.");
         }
 
         // Trim input to remove leading/trailing whitespace
@@ -524,7 +637,7 @@ public class Ui {
         // Check if input is too long (implementation-defined limit)
         final int MaxInputLength = 500;
         if (sanitized.length() > MaxInputLength) {
-            System.out.println("Warning: Input truncated to " + MaxInputLength + " characters.");
+            out().println("Warning: Input truncated to " + MaxInputLength + " characters.");
             sanitized = sanitized.substring(0, MaxInputLength);
         }
 
@@ -540,9 +653,9 @@ public class Ui {
      */
     public String readValidDate(String message) {
         logger.fine("Requesting user input for validated date");
-        System.out.println(LINE);
-        System.out.print(message);
-        String input = scanner.nextLine().trim();
+        showLine();
+        out().print(message);
+        String input = readLine().trim();
 
         // If input is empty, allow skipping
         if (input.isEmpty()) {
@@ -552,8 +665,8 @@ public class Ui {
         // Validate the date
         if (!seedu.finbro.util.DateUtil.isValidDate(input)) {
             String errorMessage = seedu.finbro.util.DateUtil.getValidationErrorMessage(input);
-            System.out.println("INVALID INPUT: " + errorMessage);
-            System.out.println("Please try again.");
+            out().println("INVALID INPUT: " + errorMessage);
+            out().println("Please try again.");
             return readValidDate(message); // Ask again
         }
 
@@ -572,7 +685,7 @@ public class Ui {
         String input = readValidDate(message);
 
         if (input.isEmpty()) {
-            System.out.println("Date cannot be empty for this command.");
+            out().println("Date cannot be empty for this command.");
             return readRequiredDate(message); // Ask again
         }
 
@@ -603,7 +716,7 @@ public class Ui {
             LocalDate end = LocalDate.parse(endDate);
 
             if (start.isAfter(end)) {
-                System.out.println("ERROR: Start date cannot be after end date.");
+                out().println("ERROR: Start date cannot be after end date.");
                 return readValidDates(); // Ask again
             }
         }
@@ -631,9 +744,9 @@ public class Ui {
      */
     public String readCategory(String message) {
         logger.fine("Requesting user input for category");
-        System.out.println(LINE);
-        System.out.print(message);
-        String category = scanner.nextLine().trim();
+        showLine();
+        out().print(message);
+        String category = readLine().trim();
         logger.fine("User input for category received: " + category);
         return category;
     }
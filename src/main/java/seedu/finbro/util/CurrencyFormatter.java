@@ -1,23 +1,23 @@
 package seedu.finbro.util;
 
-import java.text.DecimalFormat;
-import java.util.logging.Logger;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * Utility class for formatting currency amounts in a consistent way throughout the application.
+ * Amounts are written as {@code $#,##0.00}, rounded half-even like {@link java.text.DecimalFormat}, but
+ * without its shared mutable state, so the methods are thread-safe and can append to a caller's builder.
  */
 public class CurrencyFormatter {
     // Maximum allowed amount for validation
     public static final double MAX_AMOUNT = 1_000_000_000.00; // 1 billion
 
-    private static final Logger logger = Logger.getLogger(CurrencyFormatter.class.getName());
-
-    // Standard currency format with grouping
-    private static final DecimalFormat STANDARD_FORMAT = new DecimalFormat("$#,##0.00");
-
-    // Million and billion abbreviation formats
-    private static final DecimalFormat MILLION_FORMAT = new DecimalFormat("$#,##0.00M");
-    private static final DecimalFormat BILLION_FORMAT = new DecimalFormat("$#,##0.00B");
+    private static final double MILLION = 1_000_000;
+    private static final double BILLION = 1_000_000_000;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int GROUP_SIZE = 3;
+    // Longest result is the sign, the symbol, 19 digits with 6 separators, the cents and a suffix
+    private static final int MAX_LENGTH = 32;
 
     private CurrencyFormatter() {
         // Private constructor to prevent instantiation
@@ -31,15 +31,26 @@ public class CurrencyFormatter {
      * @return The formatted amount string with currency symbol
      */
     public static String format(double amount) {
-        if (amount < 1_000_000) {
+        return appendTo(new StringBuilder(MAX_LENGTH), amount).toString();
+    }
+
+    /**
+     * Appends a monetary amount formatted as by {@link #format(double)}.
+     *
+     * @param builder The builder to append to
+     * @param amount The amount to format
+     * @return The builder
+     */
+    public static StringBuilder appendTo(StringBuilder builder, double amount) {
+        if (amount < MILLION) {
             // Standard format for amounts under 1 million
-            return STANDARD_FORMAT.format(amount);
-        } else if (amount < 1_000_000_000) {
+            return appendCents(builder, toCents(amount));
+        } else if (amount < BILLION) {
             // Use millions format for large amounts (e.g., $1.23M)
-            return MILLION_FORMAT.format(amount / 1_000_000);
+            return appendCents(builder, toCents(amount / MILLION)).append('M');
         } else {
             // Use billions format for very large amounts (e.g., $1.23B)
-            return BILLION_FORMAT.format(amount / 1_000_000_000);
+            return appendCents(builder, toCents(amount / BILLION)).append('B');
         }
     }
 
@@ -52,7 +63,49 @@ public class CurrencyFormatter {
      * @return The formatted amount string with currency symbol and digit grouping
      */
     public static String formatVerbose(double amount) {
-        return STANDARD_FORMAT.format(amount);
+        return appendCents(new StringBuilder(MAX_LENGTH), toCents(amount)).toString();
+    }
+
+    /**
+     * Appends an amount in cents as {@code $#,##0.00}, with a leading minus sign if it is negative.
+     *
+     * @param builder The builder to append to
+     * @param cents The amount in cents
+     * @return The builder
+     */
+    public static StringBuilder appendCents(StringBuilder builder, long cents) {
+        if (cents < 0) {
+            builder.append('-');
+        }
+        builder.append('$');
+        // Math.abs cannot negate Long.MIN_VALUE, so the digits are taken from a negative number instead
+        long negative = cents < 0 ? cents : -cents;
+        long dollars = -(negative / CENTS_PER_DOLLAR);
+        int remainder = (int) -(negative % CENTS_PER_DOLLAR);
+
+        String digits = Long.toString(dollars);
+        int firstGroup = digits.length() % GROUP_SIZE == 0 ? GROUP_SIZE : digits.length() % GROUP_SIZE;
+        builder.append(digits, 0, firstGroup);
+        for (int i = firstGroup; i < digits.length(); i += GROUP_SIZE) {
+            builder.append(',').append(digits, i, i + GROUP_SIZE);
+        }
+        return builder.append('.').append((char) ('0' + remainder / 10)).append((char) ('0' + remainder % 10));
+    }
+
+    /**
+     * Rounds an amount half-even to whole cents, like {@link java.text.DecimalFormat} does with the
+     * exact binary value of the double.
+     *
+     * @param amount The amount in dollars, which must be finite
+     * @return The amount in cents
+     */
+    static long toCents(double amount) {
+        long cents = Math.round(amount * CENTS_PER_DOLLAR);
+        // Almost every amount is the double closest to a whole number of cents, which is then exact
+        if ((double) cents / CENTS_PER_DOLLAR == amount) {
+            return cents;
+        }
+        return new BigDecimal(amount).setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValue();
     }
 
     /**
@@ -1,17 +1,28 @@
 package seedu.finbro.util;
 
-import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.logging.Level;
+import java.time.format.DateTimeParseException;
 import java.util.logging.Logger;
 
 /**
  * Utility class for date-related operations.
+ * Dates in the format YYYY-MM-DD are parsed straight to epoch days without a formatter or intermediate
+ * strings, and months are identified by an int key instead of a {@code "year-month"} string.
  */
 public class DateUtil {
+    /** The result of {@link #parseEpochDay} for text that is not a valid date. */
+    public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+    /** The result of {@link #parseYearMonthKey} for text that is not a valid month. */
+    public static final int INVALID_YEAR_MONTH_KEY = -1;
+
     private static final Logger logger = Logger.getLogger(DateUtil.class.getName());
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DATE_LENGTH = 10;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_YEAR = 9999;
+    private static final int MAX_FUTURE_YEARS = 100;
+    // Days from 0000-01-01 to 1970-01-01 in the proleptic Gregorian calendar
+    private static final long DAYS_0000_TO_1970 = 719_528;
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
     /**
      * Validates a date string to ensure it represents a real, valid date.
@@ -20,49 +31,21 @@ public class DateUtil {
      * @return True if the date is valid, false otherwise
      */
     public static boolean isValidDate(String dateStr) {
-        try {
-            // First, check basic format compliance
-            if (!dateStr.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                logger.warning("Date format does not match yyyy-MM-dd pattern: " + dateStr);
-                return false;
-            }
-
-            // Parse the date parts
-            String[] parts = dateStr.split("-");
-            int year = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int day = Integer.parseInt(parts[2]);
-
-            // Perform range checks
-            if (year < 1 || year > 9999) {
-                logger.warning("Invalid year in date: " + year);
-                return false;
-            }
-
-            if (month < 1 || month > 12) {
-                logger.warning("Invalid month in date: " + month);
-                return false;
-            }
-
-            // Let LocalDate validate the day based on month/year
-            // This handles leap years and different days in each month
-            LocalDate.of(year, month, day);
-
-            // Simple sanity check for future dates
-            if (LocalDate.of(year, month, day).isAfter(LocalDate.now().plusYears(100))) {
-                logger.warning("Date is more than 100 years in the future: " + dateStr);
-                return false;
-            }
-
-            return true;
-        } catch (DateTimeException e) {
-            // This catches issues like February 30th
-            logger.warning("Invalid date components: " + dateStr + " - " + e.getMessage());
+        if (dateStr == null) {
+            logger.warning("Date is missing");
             return false;
-        } catch (Exception e) {
-            logger.warning("Error validating date: " + dateStr + " - " + e.getMessage());
+        }
+        long epochDay = parseEpochDay(dateStr);
+        if (epochDay == INVALID_EPOCH_DAY) {
+            logger.warning("Date is not a valid date in the yyyy-MM-dd format: " + dateStr);
+            return false;
+        }
+        // Simple sanity check for future dates
+        if (epochDay > LocalDate.now().plusYears(MAX_FUTURE_YEARS).toEpochDay()) {
+            logger.warning("Date is more than 100 years in the future: " + dateStr);
             return false;
         }
+        return true;
     }
 
     /**
@@ -76,13 +59,130 @@ public class DateUtil {
         if (!isValidDate(dateStr)) {
             return null;
         }
+        return LocalDate.ofEpochDay(parseEpochDay(dateStr));
+    }
 
-        try {
-            return LocalDate.parse(dateStr, DATE_FORMATTER);
-        } catch (Exception e) {
-            logger.log(Level.WARNING, "Error parsing date: " + dateStr, e);
-            return null;
+    /**
+     * Parses a date in the format YYYY-MM-DD, like {@code LocalDate.parse} but without a formatter.
+     *
+     * @param text The date to parse
+     * @return The date
+     * @throws DateTimeParseException if the text is not a real date in that format
+     */
+    public static LocalDate parseIsoDate(CharSequence text) {
+        long epochDay = parseEpochDay(text);
+        if (epochDay == INVALID_EPOCH_DAY) {
+            throw new DateTimeParseException("Text '" + text + "' is not a valid yyyy-MM-dd date", text, 0);
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Parses a date in the format YYYY-MM-DD to the number of days since 1970-01-01,
+     * without allocating any objects.
+     *
+     * @param text The date to parse
+     * @return The epoch day, or {@link #INVALID_EPOCH_DAY} if the text is not a real date in that format
+     */
+    public static long parseEpochDay(CharSequence text) {
+        if (!hasDateShape(text)) {
+            return INVALID_EPOCH_DAY;
+        }
+        int year = toInt(text, 0, 4);
+        int month = toInt(text, 5, 7);
+        int day = toInt(text, 8, DATE_LENGTH);
+        if (year < 1 || month < 1 || month > MONTHS_PER_YEAR || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID_EPOCH_DAY;
         }
+
+        // As in LocalDate#toEpochDay, for years from 1 onwards
+        long days = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        days += (367 * month - 362) / MONTHS_PER_YEAR;
+        days += day - 1;
+        if (month > 2) {
+            days -= isLeapYear(year) ? 1 : 2;
+        }
+        return days - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the key of a month, {@code year * 12 + month - 1}. Consecutive months have consecutive keys,
+     * so the keys of a year form the range from {@code yearMonthKey(year, 1)} to {@code yearMonthKey(year, 12)}.
+     *
+     * @param year The year
+     * @param month The month (1-12)
+     * @return The key of the month
+     */
+    public static int yearMonthKey(int year, int month) {
+        return year * MONTHS_PER_YEAR + month - 1;
+    }
+
+    /**
+     * Returns the key of the month of a date.
+     *
+     * @param date The date
+     * @return The key of its month
+     */
+    public static int yearMonthKey(LocalDate date) {
+        return yearMonthKey(date.getYear(), date.getMonthValue());
+    }
+
+    /**
+     * Returns the year of a month key.
+     *
+     * @param key The key of the month
+     * @return The year
+     */
+    public static int getYear(int key) {
+        return key / MONTHS_PER_YEAR;
+    }
+
+    /**
+     * Returns the month (1-12) of a month key.
+     *
+     * @param key The key of the month
+     * @return The month
+     */
+    public static int getMonth(int key) {
+        return key % MONTHS_PER_YEAR + 1;
+    }
+
+    /**
+     * Formats a month key as {@code year-month}, e.g. {@code 2025-4}, as used in the data files.
+     *
+     * @param key The key of the month
+     * @return The formatted month
+     */
+    public static String formatYearMonthKey(int key) {
+        return getYear(key) + "-" + getMonth(key);
+    }
+
+    /**
+     * Parses a month written as {@code year-month}, e.g. {@code 2025-4} or {@code 2025-04}.
+     *
+     * @param text The month to parse
+     * @return The key of the month, or {@link #INVALID_YEAR_MONTH_KEY} if the text is not a valid month
+     */
+    public static int parseYearMonthKey(CharSequence text) {
+        int dash = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '-' && dash < 0) {
+                dash = i;
+            } else if (c < '0' || c > '9') {
+                return INVALID_YEAR_MONTH_KEY;
+            }
+        }
+        int monthDigits = text.length() - dash - 1;
+        if (dash < 1 || dash > 4 || monthDigits < 1 || monthDigits > 2) {
+            return INVALID_YEAR_MONTH_KEY;
+        }
+        int year = toInt(text, 0, dash);
+        int month = toInt(text, dash + 1, text.length());
+        if (year < 1 || month < 1 || month > MONTHS_PER_YEAR) {
+            return INVALID_YEAR_MONTH_KEY;
+        }
+        return yearMonthKey(year, month);
     }
 
     /**
@@ -96,34 +196,50 @@ public class DateUtil {
             return "Date cannot be empty.";
         }
 
-        if (!dateStr.matches("\\d{4}-\\d{2}-\\d{2}")) {
+        if (!hasDateShape(dateStr)) {
             return "Date format should be YYYY-MM-DD.";
         }
 
-        try {
-            String[] parts = dateStr.split("-");
-            int year = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int day = Integer.parseInt(parts[2]);
+        int year = toInt(dateStr, 0, 4);
+        int month = toInt(dateStr, 5, 7);
+        if (year < 1 || year > MAX_YEAR) {
+            return "Year must be between 0001 and 9999.";
+        }
+        if (month < 1 || month > MONTHS_PER_YEAR) {
+            return "Month must be between 01 and 12.";
+        }
+        if (parseEpochDay(dateStr) == INVALID_EPOCH_DAY) {
+            return "Invalid day for the specified month and year.";
+        }
+        return "Invalid date.";
+    }
 
-            if (year < 1 || year > 9999) {
-                return "Year must be between 0001 and 9999.";
+    private static boolean hasDateShape(CharSequence text) {
+        if (text.length() != DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < DATE_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (i != 4 && i != 7 && (c < '0' || c > '9')) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            if (month < 1 || month > 12) {
-                return "Month must be between 01 and 12.";
-            }
+    private static int lengthOfMonth(int year, int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
 
-            // This will validate the day based on month/year
-            try {
-                LocalDate.of(year, month, day);
-            } catch (DateTimeException e) {
-                return "Invalid day for the specified month and year.";
-            }
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
 
-            return "Invalid date.";
-        } catch (Exception e) {
-            return "Invalid date format. Please use YYYY-MM-DD.";
+    private static int toInt(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
         }
+        return value;
     }
 }
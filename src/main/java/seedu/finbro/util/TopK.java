@@ -0,0 +1,84 @@
+package seedu.finbro.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the k greatest items of a collection with a bounded heap, in O(n log k) time and O(k) space,
+ * instead of sorting every item to show only the first few.
+ */
+public final class TopK {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private TopK() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the k greatest items, greatest first. Items that compare as equal keep no particular order,
+     * so the comparator should break ties where the order is shown to the user.
+     *
+     * @param items The items to select from
+     * @param k The maximum number of items to return
+     * @param comparator The order of the items, where greater items are selected first
+     * @return At most k items in descending order
+     */
+    public static <T> List<T> select(Iterable<? extends T> items, int k, Comparator<? super T> comparator) {
+        assert k >= 0 : "k cannot be negative";
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        // A min-heap of the greatest items seen so far, whose head is the first to drop out. It is sized by
+        // the items rather than by k, which may be far larger than the number of items
+        int capacity = items instanceof Collection ? Math.min(k, ((Collection<?>) items).size()) : DEFAULT_CAPACITY;
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.max(capacity, 1), comparator);
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (comparator.compare(item, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+        List<T> selected = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            selected.add(heap.poll());
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
+
+    /**
+     * Returns the k entries of a map with the greatest values, greatest first.
+     * Entries with equal values are ordered by the text of their keys.
+     *
+     * @param map The map to select from
+     * @param k The maximum number of entries to return
+     * @return At most k entries in descending order of value
+     */
+    public static <K> List<Map.Entry<K, Double>> selectByValue(Map<K, Double> map, int k) {
+        Comparator<Map.Entry<K, Double>> byValue = Map.Entry.comparingByValue();
+        Comparator<Map.Entry<K, Double>> byKey = Comparator.comparing(entry -> String.valueOf(entry.getKey()));
+        return select(map.entrySet(), k, byValue.thenComparing(byKey.reversed()));
+    }
+
+    /**
+     * Returns the k entries of a map with the greatest absolute values, greatest first,
+     * e.g. the largest net amounts whether they are gains or losses.
+     * Entries with equal absolute values are ordered by the text of their keys.
+     *
+     * @param map The map to select from
+     * @param k The maximum number of entries to return
+     * @return At most k entries in descending order of absolute value
+     */
+    public static <K> List<Map.Entry<K, Double>> selectByAbsoluteValue(Map<K, Double> map, int k) {
+        Comparator<Map.Entry<K, Double>> byMagnitude = Comparator.comparingDouble(entry -> Math.abs(entry.getValue()));
+        Comparator<Map.Entry<K, Double>> byKey = Comparator.comparing(entry -> String.valueOf(entry.getKey()));
+        return select(map.entrySet(), k, byMagnitude.thenComparing(byKey.reversed()));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.finbro.logic.command.Command;
 import seedu.finbro.logic.command.ExitCommand;
+import seedu.finbro.logic.command.SetBudgetCommand;
 import seedu.finbro.logic.parser.Parser;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
@@ -16,7 +17,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -112,9 +117,17 @@ class FinBroTest {
         public boolean loadBudgetsCalled = false;
         public boolean loadSavingsGoalsCalled = false;
         public boolean saveTransactionsCalled = false;
+        public CountDownLatch loadTransactionsGate;
 
         @Override
         public TransactionManager loadTransactions() {
+            if (loadTransactionsGate != null) {
+                try {
+                    loadTransactionsGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             if (shouldThrowException) {
                 throw new RuntimeException("Test exception");
             }
@@ -135,6 +148,11 @@ class FinBroTest {
         public void saveTransactions(TransactionManager transactionManager) {
             saveTransactionsCalled = true;
         }
+
+        @Override
+        public void saveBudgets(TransactionManager transactionManager) {
+            // Keep budgets in memory only
+        }
     }
 
     /**
@@ -253,11 +271,48 @@ class FinBroTest {
         startMethod.setAccessible(true);
         startMethod.invoke(finBro);
 
+        // Loading runs in the background, the error surfaces once the ledger is needed
+        Method awaitMethod = FinBro.class.getDeclaredMethod("awaitTransactions");
+        awaitMethod.setAccessible(true);
+        awaitMethod.invoke(finBro);
+
         // Verify error handling
         assertTrue(testUi.displayedMessages.contains("WELCOME"));
         assertTrue(testUi.displayedErrors.get(0).contains("Problem loading data: Test exception"));
     }
 
+    /**
+     * Tests that budget commands run while the ledger is still loading and are kept once it is ready.
+     */
+    @Test
+    void testBudgetCommandDoesNotWaitForLedger() throws Exception {
+        finBro = new FinBro();
+        testStorage.loadTransactionsGate = new CountDownLatch(1);
+        testParser.addCommandToSequence(new SetBudgetCommand(500.0, 4, 2025));
+        testParser.addCommandToSequence(new ExitCommand());
+
+        setPrivateField(finBro, "ui", testUi);
+        setPrivateField(finBro, "storage", testStorage);
+        setPrivateField(finBro, "parser", testParser);
+
+        Method startMethod = FinBro.class.getDeclaredMethod("start");
+        startMethod.setAccessible(true);
+        startMethod.invoke(finBro);
+        Method runCommandLoopMethod = FinBro.class.getDeclaredMethod("runCommandLoop");
+        runCommandLoopMethod.setAccessible(true);
+        runCommandLoopMethod.invoke(finBro);
+
+        assertTrue(testUi.displayedMessages.contains("Budget of 500.0 has been set for 4/2025"));
+        assertFalse(finBro.getTransactionsReady().isDone());
+
+        testStorage.loadTransactionsGate.countDown();
+        assertEquals(testTransactionManager, finBro.getTransactionsReady().get(5, TimeUnit.SECONDS));
+        Method awaitMethod = FinBro.class.getDeclaredMethod("awaitTransactions");
+        awaitMethod.setAccessible(true);
+        awaitMethod.invoke(finBro);
+        assertEquals(500.0, testTransactionManager.getBudget(4, 2025), 0.001);
+    }
+
     /**
      * Tests the runCommandLoop method's exception handling.
      */
@@ -0,0 +1,97 @@
+package seedu.finbro.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the BatchRunner class.
+ */
+class BatchRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private RecordingStorage storage;
+    private TransactionManager transactionManager;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    public void setUp() {
+        dataFile = tempDir.resolve("data.txt");
+        storage = new RecordingStorage(dataFile, tempDir.resolve("exports"));
+        transactionManager = new TransactionManager();
+        output = new ByteArrayOutputStream();
+    }
+
+    private BatchRunner.Result run(String script) {
+        PrintStream printStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        return new BatchRunner(transactionManager, storage, printStream).run(new Scanner(script));
+    }
+
+    @Test
+    void run_oneLineCommands_savesOnceAtTheEnd() {
+        BatchRunner.Result result = run("# March\n"
+                + "income 3000 d/Salary t/work date/2026-03-01\n"
+                + "\n"
+                + "expense 12.50 d/Lunch c/food date/2026-03-02\n"
+                + "expense 12.50 d/Lunch c/food date/2026-03-03\n");
+
+        assertEquals(3, result.getCommands());
+        assertEquals(0, result.getFailures());
+        assertTrue(result.getCommandsPerSecond() > 0);
+        // The duplicate lunch is accepted without a prompt
+        assertEquals(3, transactionManager.getTransactionCount());
+        assertFalse(storage.hadDataFileBeforeEnd);
+        assertEquals(3, storage.loadTransactions().getTransactionCount());
+    }
+
+    @Test
+    void run_interactiveCommand_readsAnswersFromFollowingLines() {
+        BatchRunner.Result result = run("income\n100\nBonus\n\nbalance\n");
+
+        assertEquals(2, result.getCommands());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Current Balance: $100.00"));
+    }
+
+    @Test
+    void run_exitCommand_endsTheBatch() {
+        BatchRunner.Result result = run("income 100 d/Salary\nexit\nincome 50 d/Bonus\n");
+
+        assertEquals(2, result.getCommands());
+        assertEquals(1, transactionManager.getTransactionCount());
+        assertTrue(Files.exists(dataFile));
+    }
+
+    /**
+     * A storage that records whether the data file was written before the batch ended.
+     */
+    private static class RecordingStorage extends Storage {
+        private final Path dataFile;
+        private boolean hadDataFileBeforeEnd;
+
+        RecordingStorage(Path dataFile, Path exportDirectory) {
+            super(dataFile.toString(), exportDirectory.toString());
+            this.dataFile = dataFile;
+        }
+
+        @Override
+        public void endBatch() {
+            hadDataFileBeforeEnd = Files.exists(dataFile);
+            super.endBatch();
+        }
+    }
+}
@@ -89,4 +89,20 @@ class BalanceCommandTest {
         assertTrue(result.contains("$0.00"));
         assertFalse(command.isExit(), "BalanceCommand should not exit the program");
     }
+
+    @Test
+    void execute_dateRange_sumsOnlyTransactionsInRange() {
+        transactionManager.addTransaction(new Income(1000.00, "Salary", LocalDate.of(2025, 1, 31), new ArrayList<>()));
+        transactionManager.addTransaction(new Expense(200.00, "Rent", LocalDate.of(2025, 2, 1),
+                Expense.Category.BILLS, new ArrayList<>()));
+        transactionManager.addTransaction(new Expense(50.00, "Dinner", LocalDate.of(2025, 3, 1),
+                Expense.Category.FOOD, new ArrayList<>()));
+
+        String result = new BalanceCommand(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1))
+                .execute(transactionManager, ui, storage);
+
+        assertEquals("Balance from 2025-02-01 to 2025-03-01: -$250.00\n"
+                + "Total Income: $0.00\n"
+                + "Total Expenses: $250.00", result);
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.finbro.logic.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the CommandResultCache class.
+ */
+class CommandResultCacheTest {
+
+    @Test
+    void getOrCompute_sameVersion_reusesResult() {
+        CommandResultCache cache = new CommandResultCache(4);
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals("1", cache.getOrCompute("summary", 4, 2025, 7,
+                () -> String.valueOf(computations.incrementAndGet())));
+        assertEquals("1", cache.getOrCompute("summary", 4, 2025, 7,
+                () -> String.valueOf(computations.incrementAndGet())));
+
+        assertEquals(1, computations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void getOrCompute_newVersionOrOtherKey_computesAgain() {
+        CommandResultCache cache = new CommandResultCache(4);
+        cache.getOrCompute("summary", 4, 2025, 7, () -> "old");
+
+        assertEquals("new", cache.getOrCompute("summary", 4, 2025, 8, () -> "new"));
+        assertEquals("budget", cache.getOrCompute("trackbudget", 4, 2025, 8, () -> "budget"));
+        assertEquals("may", cache.getOrCompute("summary", 5, 2025, 8, () -> "may"));
+        assertEquals("new", cache.getOrCompute("summary", 4, 2025, 8, () -> "unused"));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void getOrCompute_overCapacity_evictsLeastRecentlyUsed() {
+        CommandResultCache cache = new CommandResultCache(2);
+        cache.getOrCompute("summary", 1, 2025, 1, () -> "january");
+        cache.getOrCompute("summary", 2, 2025, 1, () -> "february");
+        // Using January makes February the least recently used result
+        cache.getOrCompute("summary", 1, 2025, 1, () -> "unused");
+        cache.getOrCompute("summary", 3, 2025, 1, () -> "march");
+
+        assertEquals(2, cache.size());
+        assertEquals("january", cache.getOrCompute("summary", 1, 2025, 1, () -> "unused"));
+        assertEquals("recomputed", cache.getOrCompute("summary", 2, 2025, 1, () -> "recomputed"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+}
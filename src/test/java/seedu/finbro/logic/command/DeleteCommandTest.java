@@ -8,6 +8,7 @@ import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -70,6 +71,20 @@ class DeleteCommandTest {
         assertEquals("Invalid index range. There are only 3 transactions.", result);
     }
 
+    @Test
+    void executeListedIndexDeletesTransactionShownUnderThatNumber() {
+        TransactionManager manager = new TransactionManager();
+        manager.addTransaction(new Expense(10, "Old book", LocalDate.of(2020, 1, 1),
+                Expense.Category.SHOPPING, Collections.emptyList()));
+        manager.addTransaction(new Expense(30, "New book", LocalDate.of(2021, 1, 1),
+                Expense.Category.SHOPPING, Collections.emptyList()));
+
+        String result = new DeleteCommand(1, 1).execute(manager, ui, storage);
+
+        assertEquals("Deleted transactions:\n- [Expense][Shopping] $30.00 - New book", result);
+        assertEquals("Old book", manager.listTransactions().get(0).getDescription());
+    }
+
     @Test
     void isExitReturnsFalse() {
         DeleteCommand command = new DeleteCommand(1,1);
@@ -7,6 +7,7 @@ import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +49,24 @@ class ExpenseCommandTest {
         assertEquals(50.0, transactionManager.getTotalExpenses(), 0.001);
     }
 
+    @Test
+    void execute_expenseCrossesBudgetLine_appendsBudgetAlert() {
+        LocalDate date = LocalDate.of(2025, 4, 10);
+        transactionManager.setBudget(4, 2025, 100.0);
+
+        String first = new ExpenseCommand(40.0, "Groceries", testCat, testTags, date)
+                .execute(transactionManager, ui, storage);
+        String second = new ExpenseCommand(45.0, "Dinner", testCat, testTags, date)
+                .execute(transactionManager, ui, storage);
+        String third = new ExpenseCommand(30.0, "Lunch", testCat, testTags, date)
+                .execute(transactionManager, ui, storage);
+
+        assertFalse(first.contains("Budget alert"));
+        assertTrue(second.endsWith("\nBudget alert: you have used 80% of your budget of $100.00 for 04/2025 "
+                + "($85.00 spent)."));
+        assertTrue(third.endsWith("\nBudget alert: you have exceeded your budget of $100.00 for 04/2025 by $15.00!"));
+    }
+
     /**
      * Tests that duplicate income transactions are detected
      * //TODO: implement testing with simulated user inputs
@@ -0,0 +1,107 @@
+package seedu.finbro.logic.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the ImportCommand class.
+ */
+class ImportCommandTest {
+    @TempDir
+    Path tempDir;
+
+    private TransactionManager transactionManager;
+    private Ui ui;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new TransactionManager();
+        ui = new Ui();
+        storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.resolve("exports").toString());
+    }
+
+    @Test
+    void execute_exportedFile_importsAllTransactionsAndSaves() throws IOException {
+        TransactionManager source = new TransactionManager();
+        source.addTransaction(new Income(3000, "Salary, March", LocalDate.of(2026, 3, 1), Arrays.asList("work")));
+        source.addTransaction(new Expense(12.5, "Lunch \"special\"", LocalDate.of(2026, 3, 2),
+                Expense.Category.FOOD, Arrays.asList("work", "team")));
+        source.setBudget(3, 2026, 500);
+        String exported = storage.exportToCsv(source);
+
+        String result = new ImportCommand(exported).execute(transactionManager, ui, storage);
+
+        assertTrue(result.startsWith("Imported 2 of 2 rows"), result);
+        assertTrue(result.contains("rows/s"));
+        assertEquals(2, transactionManager.getTransactionCount());
+        Expense lunch = (Expense) transactionManager.findTransactionByDescription("Lunch");
+        assertEquals("Lunch \"special\"", lunch.getDescription());
+        assertEquals(Expense.Category.FOOD, lunch.getCategory());
+        assertEquals(List.of("work", "team"), lunch.getTags());
+        assertEquals(2, storage.loadTransactions().getTransactionCount());
+    }
+
+    @Test
+    void execute_invalidAndDuplicateRows_reportsThemWithLineNumbers() throws IOException {
+        transactionManager.addTransaction(new Income(100, "Gift", LocalDate.of(2026, 1, 5),
+                Collections.emptyList()));
+        Path file = tempDir.resolve("statement.csv");
+        Files.write(file, Arrays.asList(
+                "Type,Date,Amount,Description,Category,Tags",
+                "Income,2026-01-05,100.00,\"Gift\",,",
+                "Expense,2026-01-06,abc,\"Coffee\",Food,",
+                "",
+                "Expense,2026-01-07,4.50,\"Coffee\",Food,",
+                "Expense,2026-01-07,4.50,\"Coffee\",Food,",
+                "Expense,2026-02-30,4.50,\"Tea\",Food,",
+                "Expense,2026-01-08,3.00,\"Bus\",Travel,",
+                "",
+                "# Budget Information",
+                "Month-Year,Budget,SavingsGoal",
+                "2026-1,500.00,-1.00"));
+
+        String result = new ImportCommand(file.toString()).execute(transactionManager, ui, storage);
+
+        assertTrue(result.startsWith("Imported 1 of 6 rows"), result);
+        assertTrue(result.contains("Skipped 2 duplicate rows."));
+        assertTrue(result.contains("Rejected 3 rows:"));
+        assertTrue(result.contains("Line 3: Invalid amount 'abc'"));
+        assertTrue(result.contains("Line 7: "));
+        assertTrue(result.contains("Line 8: Unknown category 'Travel'"));
+        assertEquals(2, transactionManager.getTransactionCount());
+    }
+
+    @Test
+    void execute_missingFile_returnsErrorAndLeavesLedgerUnchanged() {
+        String result = new ImportCommand(tempDir.resolve("missing.csv").toString())
+                .execute(transactionManager, ui, storage);
+
+        assertTrue(result.startsWith("Error importing data"));
+        assertEquals(0, transactionManager.getTransactionCount());
+        assertFalse(Files.exists(tempDir.resolve("data.txt")));
+    }
+
+    @Test
+    void isExit_returnsFalse() {
+        assertFalse(new ImportCommand("file.csv").isExit());
+    }
+}
@@ -8,8 +8,12 @@ import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -139,6 +143,44 @@ class ListCommandTest {
         assertEquals("No transactions found.", result);
     }
 
+    @Test
+    void executeWithPageListsOnlyThatPage() {
+        ListCommand command = new ListCommand(null, null, 2, 3);
+        String result = command.execute(transactionManager, ui, storage);
+
+        assertTrue(result.startsWith("Here are your transactions (page 2 of 2):"));
+        // Rows keep their numbers in the whole list
+        assertTrue(result.contains("4. "));
+        assertFalse(result.contains("1. "));
+    }
+
+    @Test
+    void executeWithPagePastTheEndShowsPageCount() {
+        ListCommand command = new ListCommand(null, null, 3, 2);
+        String result = command.execute(transactionManager, ui, storage);
+
+        assertEquals("Page 3 is out of range. There are 2 pages of 2 transactions.", result);
+    }
+
+    @Test
+    void executeLongListStreamsRowsToUi() {
+        for (int i = 0; i < TransactionListRenderer.MAX_RETURNED_ROWS; i++) {
+            transactionManager.addTransaction(new Income(i + 1, "Refund " + i, today, Collections.emptyList()));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Ui streamingUi = new Ui(new Scanner(""), new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        String result = new ListCommand(null, null).execute(transactionManager, streamingUi, storage);
+        streamingUi.flush();
+
+        int count = TransactionListRenderer.MAX_RETURNED_ROWS + 4;
+        assertEquals("Showed " + count + " transactions (1 to " + count + ").", result);
+        String streamed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(streamed.contains("Here are your transactions:"));
+        assertTrue(streamed.contains(count + ". ["));
+        assertEquals(count, streamed.split("\\(Date created: ", -1).length - 1);
+    }
+
     @Test
     void isExitReturnsFalse() {
         ListCommand command = new ListCommand(null, null);
@@ -0,0 +1,71 @@
+package seedu.finbro.logic.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the RecurringCommand class.
+ */
+class RecurringCommandTest {
+    @TempDir
+    Path tempDir;
+
+    private TransactionManager transactionManager;
+    private Ui ui;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new TransactionManager();
+        ui = new Ui();
+        storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.resolve("exports").toString());
+    }
+
+    @Test
+    void execute_ruleStartedInThePast_addsDueOccurrences() {
+        LocalDate start = LocalDate.now().minusWeeks(2);
+        RecurringCommand command = new RecurringCommand(new Expense(15, "Netflix", start,
+                Expense.Category.ENTERTAINMENT, Collections.emptyList()), "1w");
+
+        String result = command.execute(transactionManager, ui, storage);
+
+        assertTrue(result.startsWith("New recurring rule added: 1. "), result);
+        assertTrue(result.contains("every 1w from " + start));
+        assertTrue(result.endsWith("Added 3 recurring transactions due by today."), result);
+        assertEquals(3, transactionManager.getTransactionCount());
+        assertEquals(LocalDate.now().plusWeeks(1), transactionManager.getRecurringRules().get(0).getNextDate());
+        assertFalse(command.isReadOnly());
+    }
+
+    @Test
+    void execute_listAndDelete_showsAndRemovesRules() {
+        RecurringCommand list = new RecurringCommand();
+        assertEquals("No recurring rules.", list.execute(transactionManager, ui, storage));
+        assertTrue(list.isReadOnly());
+
+        new RecurringCommand(new Income(3000, "Salary", LocalDate.now().plusDays(1), Collections.emptyList()),
+                "1m").execute(transactionManager, ui, storage);
+        assertEquals(0, transactionManager.getTransactionCount());
+        String listed = list.execute(transactionManager, ui, storage);
+        assertTrue(listed.startsWith("Recurring rules:\n1. every 1m, next " + LocalDate.now().plusDays(1)), listed);
+
+        assertEquals("No recurring rule with id 2.", new RecurringCommand(2).execute(transactionManager, ui, storage));
+        assertEquals("Recurring rule 1 deleted. Transactions already added are kept.",
+                new RecurringCommand(1).execute(transactionManager, ui, storage));
+        assertTrue(transactionManager.getRecurringRules().isEmpty());
+    }
+}
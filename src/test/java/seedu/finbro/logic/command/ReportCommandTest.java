@@ -0,0 +1,92 @@
+package seedu.finbro.logic.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+import seedu.finbro.ui.Ui;
+import seedu.finbro.util.DateUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the ReportCommand class.
+ */
+class ReportCommandTest {
+    @TempDir
+    Path tempDir;
+
+    private TransactionManager transactionManager;
+    private Ui ui;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new TransactionManager();
+        ui = new Ui();
+        storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.resolve("exports").toString());
+
+        transactionManager.addTransaction(new Income(3000, "Salary", LocalDate.of(2025, 1, 31),
+                Arrays.asList("work")));
+        transactionManager.addTransaction(new Expense(400, "Groceries", LocalDate.of(2025, 1, 5),
+                Expense.Category.FOOD, Collections.emptyList()));
+        transactionManager.addTransaction(new Expense(700, "Rent", LocalDate.of(2025, 3, 1),
+                Expense.Category.OTHERS, Arrays.asList("home")));
+        transactionManager.setBudget(1, 2025, 500);
+        transactionManager.setBudget(3, 2025, 600);
+    }
+
+    @Test
+    void execute_threeMonths_showsEveryMonthAndBudgetAdherence() {
+        ReportCommand command = new ReportCommand(DateUtil.yearMonthKey(2025, 1), DateUtil.yearMonthKey(2025, 3),
+                false);
+        String result = command.execute(transactionManager, ui, storage);
+
+        assertTrue(result.contains("Monthly report from 2025-1 to 2025-3 (3 months):"));
+        String[] lines = result.split("\n");
+        assertTrue(lines[2].startsWith("2025-1"));
+        assertTrue(lines[2].contains("$2,600.00"));
+        assertTrue(lines[2].contains("within budget"));
+        assertTrue(lines[3].startsWith("2025-2"));
+        assertTrue(lines[3].contains("-"));
+        assertTrue(lines[4].contains("-$700.00"));
+        assertTrue(lines[4].contains("over budget"));
+        assertTrue(result.contains("Expenses by category: Others $700.00, Food $400.00"));
+        assertTrue(result.contains("Within budget in 1 of 2 months with a budget."));
+        assertTrue(command.isReadOnly());
+        assertFalse(command.isExit());
+    }
+
+    @Test
+    void execute_export_writesCategoryAndTagColumns() throws IOException {
+        ReportCommand command = new ReportCommand(DateUtil.yearMonthKey(2025, 1), DateUtil.yearMonthKey(2025, 3),
+                true);
+        String result = command.execute(transactionManager, ui, storage);
+
+        assertFalse(command.isReadOnly());
+        assertTrue(result.contains("Report exported to: "));
+        Path exported = Paths.get(result.substring(result.indexOf("Report exported to: ") + 20).trim());
+        List<String> lines = Files.readAllLines(exported);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("Month,Income,Expenses,Net,Budget,WithinBudget,Expense:Food"));
+        assertTrue(lines.get(0).endsWith("TagIncome:home,TagExpense:home,TagIncome:work,TagExpense:work"));
+        assertTrue(lines.get(1).startsWith("2025-1,3000.00,400.00,2600.00,500.00,true,400.00"));
+        assertTrue(lines.get(1).endsWith("0.00,0.00,3000.00,0.00"));
+        assertTrue(lines.get(2).startsWith("2025-2,0.00,0.00,0.00,,,"));
+        assertTrue(lines.get(3).endsWith("0.00,700.00,0.00,0.00"));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import seedu.finbro.logic.parser.Parser;
 import seedu.finbro.model.Expense;
 import seedu.finbro.model.Income;
+import seedu.finbro.model.MonthlySummary;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
@@ -191,4 +192,60 @@ class SummaryCommandTest {
     }
 
 
+
+    @Test
+    void dateRange_transactionsAroundRange_summarisesOnlyRange() {
+        transactionManager.addTransaction(new Income(500.00, "Bonus", LocalDate.of(2025, 1, 15), List.of()));
+        transactionManager.addTransaction(new Expense(80.00, "Concert", LocalDate.of(2025, 1, 20),
+                Expense.Category.ENTERTAINMENT, List.of()));
+        transactionManager.addTransaction(new Expense(30.00, "Lunch", LocalDate.of(2025, 2, 1),
+                Expense.Category.FOOD, List.of()));
+
+        String result = new SummaryCommand(LocalDate.of(2025, 1, 16), LocalDate.of(2025, 2, 1))
+                .execute(transactionManager, ui, storage);
+
+        assertTrue(result.contains("Financial Summary from 2025-01-16 to 2025-02-01:"));
+        assertTrue(result.contains("Total Income: $0.00"));
+        assertTrue(result.contains("Total Expenses: $110.00"));
+        assertTrue(result.contains("1. Entertainment: $80.00\n2. Food: $30.00"));
+    }
+
+    @Test
+    void manyTagsAndExpenses_topCount_showsOnlyTopEntries() {
+        LocalDate date = LocalDate.of(2025, 5, 10);
+        for (int i = 1; i <= 15; i++) {
+            transactionManager.addTransaction(new Expense(i, "Item " + i, date, Expense.Category.SHOPPING,
+                    List.of("tag" + i)));
+        }
+        transactionManager.addTransaction(new Expense(5.00, "Item 3", date, Expense.Category.FOOD, List.of()));
+
+        String defaults = new SummaryCommand(5, 2025).execute(transactionManager, ui, storage);
+        String topTwo = new SummaryCommand(5, 2025, 2).execute(transactionManager, ui, storage);
+
+        assertTrue(defaults.contains("1. tag15: -$15.00 (Expense: $15.00)\n"));
+        assertTrue(defaults.contains("10. tag6: -$6.00 (Expense: $6.00)\n...and 5 more tags\n"));
+        assertFalse(defaults.contains("Largest Expenses:"));
+        assertTrue(topTwo.contains("Largest Expenses:\n1. Item 15: $15.00 (2025-05-10)\n"
+                + "2. Item 14: $14.00 (2025-05-10)\n"));
+        assertTrue(topTwo.contains("Top Expense Categories:\n1. Shopping: $120.00\n2. Food: $5.00\n"));
+        assertTrue(topTwo.contains("2. tag14: -$14.00 (Expense: $14.00)\n...and 13 more tags\n"));
+        assertTrue(topTwo.contains("Top Spending by Description:\n1. Item 15: $15.00\n2. Item 14: $14.00\n"));
+        assertFalse(topTwo.contains("3. Item 13"));
+    }
+
+    @Test
+    void archivedMonth_noTopCount_doesNotLoadPartition() {
+        MonthlySummary summary = new MonthlySummary(2020, 3);
+        summary.addTotals(1, 0, 4000);
+        summary.addCategoryExpense(Expense.Category.FOOD, 4000);
+        transactionManager.registerUnloadedPartitions(List.of(2020), List.of(summary), year -> {
+            throw new AssertionError("The summary should not load the partition of " + year);
+        });
+
+        String result = new SummaryCommand(3, 2020).execute(transactionManager, ui, storage);
+
+        assertTrue(result.contains("Total Expenses: $40.00"));
+        assertTrue(result.contains("1. Food: $40.00"));
+        assertTrue(transactionManager.getUnloadedPartitions().contains(2020));
+    }
 }
@@ -2,12 +2,18 @@ package seedu.finbro.logic.command;
 
 import org.junit.jupiter.api.Test;
 import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Scanner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TrackBudgetCommandTest {
@@ -116,4 +122,28 @@ class TrackBudgetCommandTest {
         // Verify command type
         assertTrue(command instanceof InvalidCommand);
     }
+
+    @Test
+    void execute_repeatedAndAfterExpense_reusesOnlyUnchangedResult() {
+        TransactionManager manager = new TransactionManager();
+        manager.setBudget(5, 2024, 100.00);
+        Ui ui = new Ui();
+        Storage storage = new Storage();
+        TrackBudgetCommand command = new TrackBudgetCommand(5, 2024);
+        CommandResultCache cache = CommandResultCache.getShared();
+
+        String first = command.execute(manager, ui, storage);
+        long hits = cache.getHits();
+        assertEquals(first, command.execute(manager, ui, storage));
+        assertEquals(hits + 1, cache.getHits());
+
+        // An expense in another month leaves the result of May valid
+        manager.addTransaction(new Expense(40.00, "Books", LocalDate.of(2024, 6, 1),
+                Expense.Category.OTHERS, Collections.emptyList()));
+        assertEquals(first, command.execute(manager, ui, storage));
+
+        manager.addTransaction(new Expense(40.00, "Books", LocalDate.of(2024, 5, 1),
+                Expense.Category.OTHERS, Collections.emptyList()));
+        assertTrue(command.execute(manager, ui, storage).contains("Remaining Budget: $60.00"));
+    }
 }
@@ -2,10 +2,15 @@ package seedu.finbro.logic.command;
 
 import org.junit.jupiter.api.Test;
 import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -116,4 +121,23 @@ class TrackSavingsGoalCommandTest {
         // Verify command type
         assertTrue(command instanceof InvalidCommand);
     }
+
+    @Test
+    void execute_incomeInEarlierMonth_updatesProjection() {
+        TransactionManager manager = new TransactionManager();
+        manager.setSavingsGoal(4, 2025, 300.00);
+        manager.addTransaction(new Income(600.00, "Salary", LocalDate.of(2025, 4, 1), Collections.emptyList()));
+        TrackSavingsGoalCommand command = new TrackSavingsGoalCommand(4, 2025);
+        Ui ui = new Ui();
+        Storage storage = new Storage();
+
+        String result = command.execute(manager, ui, storage);
+        assertTrue(result.endsWith("Over the last 6 months (2024-11 to 2025-4):\n"
+                + "Average Monthly Savings: $100.00\n"
+                + "Savings goal met in 1 of 1 months with a goal\n"
+                + "At this rate, saving $300.00 takes 3 months"), result);
+
+        manager.addTransaction(new Income(600.00, "Salary", LocalDate.of(2025, 1, 1), Collections.emptyList()));
+        assertTrue(command.execute(manager, ui, storage).contains("Average Monthly Savings: $200.00"));
+    }
 }
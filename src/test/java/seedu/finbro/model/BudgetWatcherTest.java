@@ -0,0 +1,57 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+import seedu.finbro.util.DateUtil;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the BudgetWatcher class.
+ */
+class BudgetWatcherTest {
+    private static final int APRIL_2025 = DateUtil.yearMonthKey(2025, 4);
+
+    @Test
+    void check_crossingLines_raisesHighestLineCrossed() {
+        BudgetWatcher watcher = new BudgetWatcher();
+        watcher.check(APRIL_2025, 0, 4_999, 10_000);
+        assertTrue(watcher.takeAlerts().isEmpty());
+
+        watcher.check(APRIL_2025, 4_999, 5_000, 10_000);
+        watcher.check(APRIL_2025, 5_000, 9_000, 10_000);
+        watcher.check(APRIL_2025, 9_000, 9_500, 10_000);
+        watcher.check(APRIL_2025, 9_500, 10_000, 10_000);
+        watcher.check(APRIL_2025, 10_000, 10_001, 10_000);
+        List<BudgetAlert> alerts = watcher.takeAlerts();
+
+        assertEquals(4, alerts.size());
+        assertEquals(50, alerts.get(0).getPercent());
+        assertEquals(80, alerts.get(1).getPercent());
+        assertEquals(100, alerts.get(2).getPercent());
+        assertFalse(alerts.get(2).isExceeded());
+        assertTrue(alerts.get(3).isExceeded());
+        assertEquals(4, alerts.get(3).getMonth());
+        assertEquals(2025, alerts.get(3).getYear());
+        assertEquals("Budget alert: you have used 80% of your budget of $100.00 for 04/2025 ($90.00 spent).",
+                alerts.get(1).getMessage());
+        assertTrue(watcher.takeAlerts().isEmpty());
+    }
+
+    @Test
+    void check_jumpOverSeveralLinesOrFalling_raisesAtMostOneAlert() {
+        BudgetWatcher watcher = new BudgetWatcher();
+        watcher.check(APRIL_2025, 0, 20_000, 10_000);
+        watcher.check(APRIL_2025, 20_000, 1_000, 10_000);
+        watcher.check(APRIL_2025, 0, 100, 0);
+        List<BudgetAlert> alerts = watcher.takeAlerts();
+
+        assertEquals(2, alerts.size());
+        assertEquals("Budget alert: you have exceeded your budget of $100.00 for 04/2025 by $100.00!",
+                alerts.get(0).getMessage());
+        assertTrue(alerts.get(1).isExceeded());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the DailyTotals class.
+ */
+class DailyTotalsTest {
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 1);
+
+    @Test
+    void sum_randomTransactionsAndRanges_matchesScan() {
+        DailyTotals totals = new DailyTotals();
+        List<Transaction> transactions = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 3000; i++) {
+            // Dates on both sides of the first one make the covered days grow in both directions
+            LocalDate date = BASE_DATE.plusDays(random.nextInt(6000) - 3000);
+            Transaction transaction = randomTransaction(random, date);
+            totals.add(transaction, 1);
+            transactions.add(transaction);
+            if (random.nextInt(5) == 0) {
+                Transaction removed = transactions.remove(random.nextInt(transactions.size()));
+                totals.add(removed, -1);
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate from = BASE_DATE.plusDays(random.nextInt(8000) - 4000);
+            LocalDate to = from.plusDays(random.nextInt(400));
+            assertEquals(scan(transactions, Income.class, null, from, to),
+                    totals.sum(DailyTotals.INCOME, from, to), from + " to " + to);
+            assertEquals(scan(transactions, Expense.class, null, from, to),
+                    totals.sum(DailyTotals.EXPENSE, from, to), from + " to " + to);
+            for (Expense.Category category : Expense.Category.values()) {
+                assertEquals(scan(transactions, Expense.class, category, from, to),
+                        totals.sum(DailyTotals.categoryMeasure(category), from, to), category + " " + from);
+            }
+        }
+    }
+
+    @Test
+    void clearYear_yearOfTransactions_removesOnlyThatYear() {
+        DailyTotals totals = new DailyTotals();
+        totals.add(new Income(100, "a", LocalDate.of(2024, 12, 31), Collections.emptyList()), 1);
+        totals.add(new Income(200, "b", LocalDate.of(2025, 1, 1), Collections.emptyList()), 1);
+        totals.add(new Income(300, "c", LocalDate.of(2025, 12, 31), Collections.emptyList()), 1);
+        totals.add(new Income(400, "d", LocalDate.of(2026, 1, 1), Collections.emptyList()), 1);
+
+        totals.clearYear(2025);
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2026, 12, 31);
+        assertEquals(50_000, totals.sum(DailyTotals.INCOME, from, to));
+        totals.clear();
+        assertEquals(0, totals.sum(DailyTotals.INCOME, from, to));
+    }
+
+    private static Transaction randomTransaction(Random random, LocalDate date) {
+        double amount = 1 + random.nextInt(100_000) / 100.0;
+        if (random.nextBoolean()) {
+            return new Income(amount, "income", date, Collections.emptyList());
+        }
+        Expense.Category[] categories = Expense.Category.values();
+        return new Expense(amount, "expense", date, categories[random.nextInt(categories.length)],
+                Collections.emptyList());
+    }
+
+    private static long scan(List<Transaction> transactions, Class<?> type, Expense.Category category,
+            LocalDate from, LocalDate to) {
+        return transactions.stream()
+                .filter(type::isInstance)
+                .filter(t -> category == null || ((Expense) t).getCategory() == category)
+                .filter(t -> !t.getDate().isBefore(from) && !t.getDate().isAfter(to))
+                .mapToLong(t -> MonthlySummary.toCents(t.getAmount()))
+                .sum();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+import seedu.finbro.util.DateUtil;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the MonthlyAmountTable class.
+ */
+class MonthlyAmountTableTest {
+
+    @Test
+    void put_randomMonths_keepsChronologicalOrderLikeTreeMap() {
+        MonthlyAmountTable table = new MonthlyAmountTable();
+        TreeMap<Integer, Long> expected = new TreeMap<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            int key = DateUtil.yearMonthKey(2000 + random.nextInt(40), 1 + random.nextInt(12));
+            long cents = random.nextInt(1_000_000);
+            table.put(key, cents);
+            expected.put(key, cents);
+        }
+
+        assertEquals(expected.size(), table.size());
+        int index = 0;
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getKey(), table.keyAt(index));
+            assertEquals(entry.getValue(), table.amountAt(index));
+            assertEquals(entry.getValue(), table.get(entry.getKey()));
+            index++;
+        }
+        assertEquals(MonthlyAmountTable.NO_AMOUNT, table.get(DateUtil.yearMonthKey(1999, 12)));
+    }
+
+    @Test
+    void forYear_monthsOfSeveralYears_returnsOnlyThatYear() {
+        MonthlyAmountTable table = new MonthlyAmountTable();
+        table.put(DateUtil.yearMonthKey(2024, 12), 100);
+        table.put(DateUtil.yearMonthKey(2025, 1), 200);
+        table.put(DateUtil.yearMonthKey(2025, 12), 300);
+        table.put(DateUtil.yearMonthKey(2026, 1), 400);
+
+        MonthlyAmountTable year = table.forYear(2025);
+
+        assertEquals(2, year.size());
+        assertEquals(DateUtil.yearMonthKey(2025, 1), year.keyAt(0));
+        assertEquals(500, year.totalCents());
+        assertEquals(0, table.forYear(2030).size());
+        assertEquals(4, table.copy().size());
+    }
+
+    @Test
+    void putAll_overlappingMonths_replacesAmounts() {
+        MonthlyAmountTable table = new MonthlyAmountTable();
+        table.put(DateUtil.yearMonthKey(2025, 4), 100);
+        MonthlyAmountTable other = new MonthlyAmountTable();
+        other.put(DateUtil.yearMonthKey(2025, 4), 150);
+        other.put(DateUtil.yearMonthKey(2025, 5), 250);
+
+        table.putAll(other);
+
+        assertEquals(150, table.get(DateUtil.yearMonthKey(2025, 4)));
+        assertEquals(2, table.size());
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(MonthlyAmountTable.NO_AMOUNT, table.get(DateUtil.yearMonthKey(2025, 5)));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the PersistentList class.
+ */
+class PersistentListTest {
+
+    @Test
+    void plus_acrossChunks_keepsOrder() {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < PersistentList.CHUNK_SIZE * 3 + 5; i++) {
+            list = list.plus(i);
+            expected.add(i);
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    void changes_leaveOlderVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> replaced = original.with(1, "x");
+        PersistentList<String> removed = original.minus(0);
+        PersistentList<String> extended = original.plusAll(Arrays.asList("d", "e"));
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("a", "x", "c"), replaced);
+        assertEquals(Arrays.asList("b", "c"), removed);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), extended);
+    }
+
+    @Test
+    void randomChanges_matchArrayList() {
+        Random random = new Random(42);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, -i);
+                expected.set(index, -i);
+            } else if (operation == 2) {
+                List<Integer> added = new ArrayList<>();
+                for (int j = random.nextInt(PersistentList.CHUNK_SIZE * 3); j > 0; j--) {
+                    added.add(i * 100 + j);
+                }
+                list = list.plusAll(added);
+                expected.addAll(added);
+            } else {
+                list = list.plus(i);
+                expected.add(i);
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void get_invalidIndex_throwsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(1, 2));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    void add_unsupported_throwsException() {
+        List<Integer> list = PersistentList.copyOf(Arrays.asList(1, 2));
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the RecurringRule and RecurringScheduler classes.
+ */
+class RecurringRuleTest {
+    private static final Expense RENT = new Expense(1200, "Rent", LocalDate.of(2025, 1, 31),
+            Expense.Category.OTHERS, List.of("home"));
+
+    @Test
+    void parseInterval_variousInputs_parsesOnlyValidIntervals() {
+        assertEquals(Period.ofMonths(1), RecurringRule.parseInterval("1m"));
+        assertEquals(Period.ofWeeks(2), RecurringRule.parseInterval("2W"));
+        assertEquals(Period.ofDays(10), RecurringRule.parseInterval("10d"));
+        assertEquals(Period.ofYears(1), RecurringRule.parseInterval("1y"));
+        assertNull(RecurringRule.parseInterval("0m"));
+        assertNull(RecurringRule.parseInterval("1001d"));
+        assertNull(RecurringRule.parseInterval("m"));
+        assertNull(RecurringRule.parseInterval("1x"));
+        assertNull(RecurringRule.parseInterval(null));
+        assertThrows(IllegalArgumentException.class, () -> new RecurringRule(1, RENT, "1q", 0));
+    }
+
+    @Test
+    void advance_monthlyFromMonthEnd_keepsAnchorDay() {
+        RecurringRule rule = new RecurringRule(1, RENT, "1m", 0);
+        assertEquals(LocalDate.of(2025, 1, 31), rule.getNextDate());
+        rule = rule.advance();
+        assertEquals(LocalDate.of(2025, 2, 28), rule.getNextDate());
+        rule = rule.advance();
+        assertEquals(LocalDate.of(2025, 3, 31), rule.getNextDate());
+
+        Transaction occurrence = rule.createNextOccurrence();
+        assertTrue(occurrence instanceof Expense);
+        assertEquals(LocalDate.of(2025, 3, 31), occurrence.getDate());
+        assertEquals(Expense.Category.OTHERS, ((Expense) occurrence).getCategory());
+        assertEquals(List.of("home"), occurrence.getTags());
+    }
+
+    @Test
+    void takeDue_severalRules_returnsDueOccurrencesInDateOrder() {
+        RecurringScheduler scheduler = new RecurringScheduler();
+        scheduler.add(RENT, "1m");
+        scheduler.add(new Income(3000, "Salary", LocalDate.of(2025, 2, 15), Collections.emptyList()), "1m");
+        scheduler.add(new Expense(10, "Gym", LocalDate.of(2026, 1, 1), Expense.Category.OTHERS,
+                Collections.emptyList()), "1w");
+
+        List<Transaction> due = scheduler.takeDue(LocalDate.of(2025, 3, 31));
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 15), LocalDate.of(2025, 2, 28),
+                LocalDate.of(2025, 3, 15), LocalDate.of(2025, 3, 31)),
+                due.stream().map(Transaction::getDate).toList());
+        assertTrue(scheduler.takeDue(LocalDate.of(2025, 3, 31)).isEmpty());
+        assertEquals(LocalDate.of(2025, 4, 30), scheduler.getRules().get(0).getNextDate());
+        assertEquals(2, scheduler.getRules().get(1).getOccurrences());
+
+        assertTrue(scheduler.remove(1));
+        assertEquals(1, scheduler.takeDue(LocalDate.of(2025, 4, 30)).size());
+        // A restored rule keeps its id and later rules do not reuse it
+        scheduler.restore(new RecurringRule(7, RENT, "1y", 0));
+        assertEquals(8, scheduler.add(RENT, "1d").getId());
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.Test;
+import seedu.finbro.util.DateUtil;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the SavingsProjection class.
+ */
+class SavingsProjectionTest {
+    private static final int JANUARY_2025 = DateUtil.yearMonthKey(2025, 1);
+    private static final int APRIL_2025 = DateUtil.yearMonthKey(2025, 4);
+
+    @Test
+    void getSavingsProjection_monthsWithAndWithoutTransactions_averagesAllMonths() {
+        TransactionManager manager = new TransactionManager();
+        manager.addTransaction(new Income(1000.00, "Salary", LocalDate.of(2025, 1, 1), Collections.emptyList()));
+        manager.addTransaction(new Expense(200.00, "Rent", LocalDate.of(2025, 1, 2), Expense.Category.BILLS,
+                Collections.emptyList()));
+        manager.addTransaction(new Income(500.00, "Salary", LocalDate.of(2025, 3, 1), Collections.emptyList()));
+        // Outside the range
+        manager.addTransaction(new Income(900.00, "Salary", LocalDate.of(2025, 5, 1), Collections.emptyList()));
+        manager.setSavingsGoal(1, 2025, 800.00);
+        manager.setSavingsGoal(3, 2025, 600.00);
+
+        SavingsProjection projection = manager.getSavingsProjection(JANUARY_2025, APRIL_2025);
+
+        assertEquals(4, projection.getMonthCount());
+        assertEquals(130_000, projection.getTotalNetCents());
+        assertEquals(32_500, projection.getRunRateCents());
+        assertEquals(2, projection.getMonthsWithGoal());
+        assertEquals(1, projection.getMonthsGoalMet());
+        assertEquals(0, projection.monthsToSave(0));
+        assertEquals(1, projection.monthsToSave(32_500));
+        assertEquals(2, projection.monthsToSave(32_501));
+    }
+
+    @Test
+    void monthsToSave_spendingMoreThanEarning_returnsNever() {
+        TransactionManager manager = new TransactionManager();
+        manager.addTransaction(new Expense(50.00, "Books", LocalDate.of(2025, 2, 1), Expense.Category.OTHERS,
+                Collections.emptyList()));
+
+        SavingsProjection projection = manager.getSavingsProjection(JANUARY_2025, APRIL_2025);
+
+        assertEquals(-1_250, projection.getRunRateCents());
+        assertEquals(SavingsProjection.NEVER, projection.monthsToSave(10_000));
+    }
+}
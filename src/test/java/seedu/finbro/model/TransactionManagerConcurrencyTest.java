@@ -0,0 +1,178 @@
+package seedu.finbro.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress tests for concurrent access to the TransactionManager class.
+ */
+class TransactionManagerConcurrencyTest {
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int OPERATIONS_PER_WRITER = 500;
+
+    private TransactionManager transactionManager;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        transactionManager = new TransactionManager();
+        executor = Executors.newFixedThreadPool(WRITERS + READERS);
+    }
+
+    @Test
+    void concurrentChanges_snapshotsStayConsistent() throws Exception {
+        List<String> violations = runStress(2025);
+
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+        assertSnapshotConsistent(transactionManager.snapshot(), violations);
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    @Test
+    void concurrentChanges_withArchivedPartitions_loadsEachPartitionOnce() throws Exception {
+        List<Transaction> archived = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            archived.add(new Expense(10.25, "Archived " + i, LocalDate.of(2020, i, 1),
+                    Expense.Category.FOOD, Collections.emptyList()));
+        }
+        MonthlySummary[] summaries = new MonthlySummary[12];
+        for (int i = 0; i < 12; i++) {
+            summaries[i] = new MonthlySummary(2020, i + 1);
+            summaries[i].add(archived.get(i));
+        }
+        int[] loadCount = new int[1];
+        transactionManager.registerUnloadedPartitions(Collections.singletonList(2020), List.of(summaries), year -> {
+            loadCount[0]++;
+            return new ArrayList<>(archived);
+        });
+
+        List<String> violations = runStress(2020);
+
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+        assertEquals(1, loadCount[0]);
+    }
+
+    /**
+     * Runs writers adding, updating and deleting transactions in the given year
+     * while readers check every snapshot they take.
+     *
+     * @return The invariant violations seen by the readers
+     */
+    private List<String> runStress(int year) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> violations = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                    LocalDate date = LocalDate.of(year, i % 12 + 1, writer + 1);
+                    transactionManager.addTransaction(i % 2 == 0
+                            ? new Income(100.10 + i, "Income " + writer, date, List.of("tag" + writer))
+                            : new Expense(20.05 + i, "Expense " + writer, date, Expense.Category.FOOD,
+                                    List.of("tag" + writer)));
+                    if (i % 3 == 0) {
+                        deleteFirst();
+                    } else if (i % 5 == 0) {
+                        updateFirst(year);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < READERS; r++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    assertSnapshotConsistent(transactionManager.snapshot(), violations);
+                    transactionManager.getBalance();
+                    transactionManager.getMonthlyTransactions(1, year);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        return violations;
+    }
+
+    private void deleteFirst() {
+        try {
+            transactionManager.deleteTransaction(1);
+        } catch (IndexOutOfBoundsException e) {
+            // Another writer emptied the ledger first
+        }
+    }
+
+    private void updateFirst(int year) {
+        try {
+            Transaction original = transactionManager.getTransaction(0);
+            transactionManager.updateTransaction(original, new Expense(5.55, "Updated",
+                    LocalDate.of(year, 6, 15), Expense.Category.TRANSPORT, Collections.emptyList()));
+        } catch (IndexOutOfBoundsException e) {
+            // Another writer emptied the ledger first
+        }
+    }
+
+    private void assertSnapshotConsistent(LedgerSnapshot snapshot, List<String> violations) {
+        long income = 0;
+        long expense = 0;
+        for (Transaction transaction : snapshot.getTransactions()) {
+            if (transaction instanceof Income) {
+                income += MonthlySummary.toCents(transaction.getAmount());
+            } else {
+                expense += MonthlySummary.toCents(transaction.getAmount());
+            }
+        }
+        long summaryIncome = 0;
+        long summaryExpense = 0;
+        int summaryCount = 0;
+        for (MonthlySummary summary : snapshot.getMonthlySummaries()) {
+            summaryIncome += summary.getIncomeCents();
+            summaryExpense += summary.getExpenseCents();
+            summaryCount += summary.getTransactionCount();
+        }
+
+        if (snapshot.getUnloadedPartitions().isEmpty()
+                && (income != snapshot.getTotalIncomeCents() || expense != snapshot.getTotalExpenseCents())) {
+            violations.add("Totals do not match the transactions at version " + snapshot.getVersion());
+        }
+        if (summaryIncome != snapshot.getTotalIncomeCents() || summaryExpense != snapshot.getTotalExpenseCents()) {
+            violations.add("Totals do not match the monthly summaries at version " + snapshot.getVersion());
+        }
+        if (summaryCount != snapshot.getTransactionCount()) {
+            violations.add("Count does not match the monthly summaries at version " + snapshot.getVersion());
+        }
+        if (snapshot.getUnloadedPartitions().isEmpty() && summaryCount != snapshot.getTransactions().size()) {
+            violations.add("Summary count does not match the transactions at version " + snapshot.getVersion());
+        }
+    }
+}
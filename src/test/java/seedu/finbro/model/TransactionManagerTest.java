@@ -7,10 +7,13 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -44,6 +47,27 @@ class TransactionManagerTest {
         transactionManager.addTransaction(expense2);
     }
 
+    @Test
+    void getMonthVersion_changeInOtherMonth_staysTheSame() {
+        long february = transactionManager.getMonthVersion(2, 2025);
+        long march = transactionManager.getMonthVersion(3, 2025);
+
+        transactionManager.addTransaction(new Expense(10.00, "Taxi",
+                LocalDate.of(2025, 3, 5), Expense.Category.TRANSPORT, Collections.emptyList()));
+        assertEquals(february, transactionManager.getMonthVersion(2, 2025));
+        assertTrue(transactionManager.getMonthVersion(3, 2025) > march);
+
+        march = transactionManager.getMonthVersion(3, 2025);
+        transactionManager.setBudget(2, 2025, 500.00);
+        assertTrue(transactionManager.getMonthVersion(2, 2025) > february);
+        assertEquals(march, transactionManager.getMonthVersion(3, 2025));
+
+        long january = transactionManager.getMonthVersion(1, 2025);
+        transactionManager.clearBudgetsAndSavingsGoals();
+        assertTrue(transactionManager.getMonthVersion(1, 2025) > january);
+        assertFalse(new TransactionManager().getMonthVersion(1, 2025) == january);
+    }
+
     @Test
     void addTransaction_validTransaction_success() {
         TransactionManager manager = new TransactionManager();
@@ -55,6 +79,24 @@ class TransactionManagerTest {
         assertEquals(1, manager.getTransactionCount());
     }
 
+    @Test
+    void addAll_multipleTransactions_appendsInOrderAndUpdatesTotals() {
+        long versionBefore = transactionManager.snapshot().getVersion();
+        Income refund = new Income(20.00, "Refund", LocalDate.of(2025, 3, 2), Collections.emptyList());
+        Expense rent = new Expense(900.00, "Rent", LocalDate.of(2025, 3, 1), Expense.Category.BILLS,
+                Collections.emptyList());
+
+        transactionManager.addAll(Arrays.asList(refund, rent));
+
+        assertEquals(6, transactionManager.getTransactionCount());
+        assertEquals(Arrays.asList(refund, rent), transactionManager.listLoadedTransactions().subList(4, 6));
+        assertEquals(6, transactionManager.getIndexNum(5));
+        assertEquals(20.00, transactionManager.getMonthlyTotalIncome(3, 2025), 0.001);
+        assertEquals(900.00, transactionManager.getMonthlyTotalExpense(3, 2025), 0.001);
+        assertEquals(3500.00 + 20.00 - 25.50 - 75.00 - 900.00, transactionManager.getBalance(), 0.001);
+        assertTrue(transactionManager.snapshot().getVersion() > versionBefore);
+    }
+
     @Test
     void getFilteredTransactions_validDateRange_returnsCorrectTransactions() {
         // Filter February 2025 transactions
@@ -155,4 +197,200 @@ class TransactionManagerTest {
         assertEquals(0, transactionManager.getTransactionCount());
         assertTrue(transactionManager.listTransactions().isEmpty());
     }
+
+    @Test
+    void unloadedPartitions_monthlyTransactions_loadsOnlyRequestedYear() {
+        List<Integer> loadedYears = new ArrayList<>();
+        transactionManager.registerUnloadedPartitions(Arrays.asList(2023, 2024),
+                Arrays.asList(archivedSummary(2023), archivedSummary(2024)), year -> {
+                    loadedYears.add(year);
+                    return Collections.singletonList(new Income(200.00, "Archived " + year,
+                            LocalDate.of(year, 6, 1), Collections.emptyList()));
+                });
+
+        assertEquals(1, transactionManager.getMonthlyTransactions(6, 2024).size());
+        assertEquals(Collections.singletonList(2024), loadedYears);
+        assertEquals(Collections.singleton(2023), transactionManager.getUnloadedPartitions());
+        assertEquals(5, transactionManager.listLoadedTransactions().size());
+
+        // The count comes from the saved summaries, and the latest transactions only need the loaded years
+        assertEquals(6, transactionManager.getTransactionCount());
+        assertEquals(5, transactionManager.listTransactions(5).size());
+        assertEquals(Collections.singleton(2023), transactionManager.getUnloadedPartitions());
+
+        // Unbounded queries load every remaining partition
+        assertEquals(6, transactionManager.listTransactions().size());
+        assertTrue(transactionManager.getUnloadedPartitions().isEmpty());
+    }
+
+    @Test
+    void unloadedPartitions_listLatest_loadsOnlyLatestYears() {
+        List<Integer> loadedYears = new ArrayList<>();
+        transactionManager.registerUnloadedPartitions(Arrays.asList(2023, 2024),
+                Arrays.asList(archivedSummary(2023), archivedSummary(2024)), year -> {
+                    loadedYears.add(year);
+                    return Collections.singletonList(new Income(200.00, "Archived " + year,
+                            LocalDate.of(year, 6, 1), Collections.emptyList()));
+                });
+
+        List<Transaction> latest = transactionManager.listTransactions(5);
+
+        assertEquals(5, latest.size());
+        assertEquals("Archived 2024", latest.get(4).getDescription());
+        assertEquals(Collections.singletonList(2024), loadedYears);
+        assertEquals(6, transactionManager.listTransactions(10).size());
+        assertEquals(Arrays.asList(2024, 2023), loadedYears);
+    }
+
+    private static MonthlySummary archivedSummary(int year) {
+        MonthlySummary summary = new MonthlySummary(year, 6);
+        summary.addTotals(1, 20000, 0);
+        return summary;
+    }
+
+    @Test
+    void unloadedPartitions_savedSummaries_answerTotalsWithoutLoading() {
+        MonthlySummary summary = new MonthlySummary(2023, 6);
+        summary.addTotals(2, 20000, 4050);
+        summary.addCategoryExpense(Expense.Category.FOOD, 4050);
+        summary.addTagAmounts("trip", 0, 4050);
+        List<Integer> loadedYears = new ArrayList<>();
+        transactionManager.registerUnloadedPartitions(Collections.singletonList(2023),
+                Collections.singletonList(summary), year -> {
+                    loadedYears.add(year);
+                    return Arrays.asList(
+                            new Income(200.00, "Refund", LocalDate.of(2023, 6, 1), Collections.emptyList()),
+                            new Expense(40.50, "Dinner", LocalDate.of(2023, 6, 2), Expense.Category.FOOD,
+                                    Collections.singletonList("trip")));
+                });
+
+        assertEquals(200.0, transactionManager.getMonthlyTotalIncome(6, 2023));
+        assertEquals(40.5, transactionManager.getMonthlyCategorisedExpenses(6, 2023).get(Expense.Category.FOOD));
+        assertEquals(40.5, transactionManager.getMonthlyTaggedExpenses(6, 2023).get("trip"));
+        assertEquals(3559.0, transactionManager.getBalance());
+        assertTrue(loadedYears.isEmpty());
+
+        // Loading the partition keeps the totals consistent
+        transactionManager.getMonthlyTransactions(6, 2023);
+        assertEquals(Collections.singletonList(2023), loadedYears);
+        assertEquals(3559.0, transactionManager.getBalance());
+        assertEquals(40.5, transactionManager.getMonthlyTotalExpense(6, 2023));
+    }
+
+    @Test
+    void unloadedPartitions_addToArchivedYear_loadsPartitionFirst() {
+        transactionManager.registerUnloadedPartitions(Collections.singletonList(2023), Collections.emptyList(),
+                year -> Collections.singletonList(new Expense(40.00, "Archived dinner",
+                        LocalDate.of(2023, 5, 2), Expense.Category.FOOD, Collections.emptyList())));
+
+        transactionManager.addTransaction(new Expense(10.00, "Late entry",
+                LocalDate.of(2023, 5, 3), Expense.Category.FOOD, Collections.emptyList()));
+
+        assertFalse(transactionManager.getUnloadedPartitions().contains(2023));
+        assertEquals(50.0, transactionManager.getMonthlyTotalExpense(5, 2023));
+    }
+
+    @Test
+    void unloadedPartitions_beyondCapacity_evictsLeastRecentlyUsedCleanPartition() {
+        List<Integer> loadedYears = new ArrayList<>();
+        transactionManager.setPartitionCapacity(1);
+        transactionManager.registerUnloadedPartitions(Arrays.asList(2021, 2022, 2023), Collections.emptyList(),
+                year -> {
+                    loadedYears.add(year);
+                    return Collections.singletonList(new Income(100.00, "Archived " + year,
+                            LocalDate.of(year, 1, 1), Collections.emptyList()));
+                });
+
+        transactionManager.getMonthlyTransactions(1, 2021);
+        transactionManager.getMonthlyTransactions(1, 2022);
+        assertTrue(transactionManager.getUnloadedPartitions().contains(2021));
+        assertFalse(transactionManager.getUnloadedPartitions().contains(2022));
+
+        // Modified partitions stay loaded until they are saved
+        transactionManager.addTransaction(new Income(50.00, "Late bonus",
+                LocalDate.of(2022, 3, 1), Collections.emptyList()));
+        transactionManager.getMonthlyTransactions(1, 2023);
+        assertFalse(transactionManager.getUnloadedPartitions().contains(2022));
+
+        transactionManager.markPartitionsSaved(transactionManager.snapshot().getVersion());
+        assertEquals(1, transactionManager.getMonthlyTransactions(1, 2021).size());
+        assertEquals(Arrays.asList(2021, 2022, 2023, 2021), loadedYears);
+        assertEquals(new HashSet<>(Arrays.asList(2022, 2023)), transactionManager.getUnloadedPartitions());
+        assertEquals(3850.0, transactionManager.getTotalIncome());
+    }
+
+    @Test
+    void unloadedPartitions_readAgain_evictedLast() {
+        List<Integer> loadedYears = new ArrayList<>();
+        transactionManager.setPartitionCapacity(2);
+        transactionManager.registerUnloadedPartitions(Arrays.asList(2021, 2022, 2023), Collections.emptyList(),
+                year -> {
+                    loadedYears.add(year);
+                    return Collections.singletonList(new Income(100.00, "Archived " + year,
+                            LocalDate.of(year, 1, 1), Collections.emptyList()));
+                });
+
+        transactionManager.getMonthlyTransactions(1, 2021);
+        transactionManager.getMonthlyTransactions(1, 2022);
+        transactionManager.getMonthlyTransactions(1, 2021);
+        transactionManager.getMonthlyTransactions(1, 2023);
+
+        // 2021 was read after 2022, so 2022 is the least recently used partition
+        assertEquals(Collections.singleton(2022), transactionManager.getUnloadedPartitions());
+        assertEquals(Arrays.asList(2021, 2022, 2023), loadedYears);
+    }
+
+    @Test
+    void getTotalIncome_dateRangeOverEvictedPartitions_countsEveryTransactionOnce() {
+        transactionManager.setPartitionCapacity(1);
+        transactionManager.registerUnloadedPartitions(Arrays.asList(2021, 2022), Collections.emptyList(),
+                year -> Collections.singletonList(new Income(100.00, "Archived " + year,
+                        LocalDate.of(year, 6, 1), Collections.emptyList())));
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2022, 12, 31);
+
+        assertEquals(100.0, transactionManager.getTotalIncome(start, LocalDate.of(2021, 12, 31)));
+        assertEquals(100.0, transactionManager.getTotalIncome(LocalDate.of(2022, 1, 1), end));
+        // 2021 was evicted and is loaded again, which must not count its transactions twice
+        assertEquals(200.0, transactionManager.getTotalIncome(start, end));
+        assertEquals(0.0, transactionManager.getTotalExpenses(start, end));
+
+        transactionManager.addTransaction(new Expense(30.00, "Archived lunch", LocalDate.of(2022, 6, 2),
+                Expense.Category.FOOD, Collections.emptyList()));
+        assertEquals(30.0, transactionManager.getCategorisedExpenses(start, end).get(Expense.Category.FOOD));
+        transactionManager.clearTransactions();
+        assertEquals(0.0, transactionManager.getTotalIncome(start, end));
+    }
+
+    @Test
+    void deleteTransactions_sameDetails_deletesOnlyGivenTransaction() {
+        Expense copy = new Expense(25.50, "Lunch",
+                LocalDate.of(2025, 2, 10), Expense.Category.FOOD, Collections.singletonList("work"));
+        transactionManager.addTransaction(copy);
+
+        assertEquals(1, transactionManager.deleteTransactions(Arrays.asList(copy, copy)));
+        assertEquals(4, transactionManager.getTransactionCount());
+        assertTrue(transactionManager.listTransactions().stream().anyMatch(t -> t == expense1));
+        assertEquals(0, transactionManager.deleteTransactions(Collections.singletonList(copy)));
+    }
+
+    @Test
+    void snapshot_afterChanges_keepsPublishedVersion() {
+        LedgerSnapshot before = transactionManager.snapshot();
+
+        transactionManager.deleteTransaction(1);
+        transactionManager.addTransaction(new Expense(10.00, "Snack",
+                LocalDate.of(2025, 3, 1), Expense.Category.FOOD, Collections.emptyList()));
+        LedgerSnapshot after = transactionManager.snapshot();
+
+        assertEquals(Arrays.asList(income1, income2, expense1, expense2), before.getTransactions());
+        assertEquals(350000, before.getTotalIncomeCents());
+        assertEquals(10050, before.getMonthlySummary(2, 2025).getExpenseCents());
+        assertNull(before.getMonthlySummary(3, 2025));
+
+        assertEquals(4, after.getTransactions().size());
+        assertEquals(50000, after.getTotalIncomeCents());
+        assertEquals(1000, after.getMonthlySummary(3, 2025).getExpenseCents());
+        assertTrue(after.getVersion() > before.getVersion());
+    }
 }
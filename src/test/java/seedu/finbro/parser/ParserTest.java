@@ -2,7 +2,10 @@ package seedu.finbro.parser;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import seedu.finbro.logic.parser.Parser;
+import seedu.finbro.model.Expense;
+import seedu.finbro.model.Transaction;
 import seedu.finbro.model.TransactionManager;
 import seedu.finbro.storage.Storage;
 import seedu.finbro.ui.Ui;
@@ -16,6 +19,8 @@ import seedu.finbro.logic.command.HelpCommand;
 import seedu.finbro.logic.command.IncomeCommand;
 import seedu.finbro.logic.command.InvalidCommand;
 import seedu.finbro.logic.command.ListCommand;
+import seedu.finbro.logic.command.RecurringCommand;
+import seedu.finbro.logic.command.ReportCommand;
 import seedu.finbro.logic.command.UnknownCommand;
 import seedu.finbro.logic.command.ExpenseCommand;
 import seedu.finbro.logic.command.DeleteCommand;
@@ -30,6 +35,9 @@ import seedu.finbro.logic.command.TrackSavingsGoalCommand;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -40,6 +48,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Tests for the Parser class.
  */
 class ParserTest {
+    @TempDir
+    Path tempDir;
+
     private Parser parser;
     private TransactionManager dummyManager;
     private Ui dummyUi;
@@ -362,4 +373,142 @@ class ParserTest {
         Command nextCommand = parser.parseCommandWord("y", createUiWithInputs());
         assertTrue(nextCommand instanceof UnknownCommand);
     }
+
+    // One-line Command Tests
+
+    @Test
+    void parseCommandWordOneLineExpense_allFields_addsExpenseWithoutPrompts() {
+        Storage storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.toString());
+        Command command = parser.parseCommandWord(
+                "expense 12.50 d/Lunch with Bob c/food t/work,team date/2026-01-02", createUiWithInputs());
+        assertTrue(command instanceof ExpenseCommand);
+
+        command.execute(dummyManager, createUiWithInputs(), storage);
+
+        Expense expense = (Expense) dummyManager.getTransaction(0);
+        assertEquals(12.50, expense.getAmount(), 0.001);
+        assertEquals("Lunch with Bob", expense.getDescription());
+        assertEquals(Expense.Category.FOOD, expense.getCategory());
+        assertEquals(List.of("work", "team"), expense.getTags());
+        assertEquals(LocalDate.of(2026, 1, 2), expense.getDate());
+    }
+
+    @Test
+    void parseCommandWordOneLineExpense_categoryIndex_usesMenuNumbering() {
+        Storage storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.toString());
+        parser.parseCommandWord("EXPENSE 3 d/bus c/2", createUiWithInputs())
+                .execute(dummyManager, createUiWithInputs(), storage);
+        parser.parseCommandWord("expense 4 d/misc c/0", createUiWithInputs())
+                .execute(dummyManager, createUiWithInputs(), storage);
+
+        assertEquals(2, dummyManager.getTransactionCount());
+        for (Transaction transaction : dummyManager.listTransactions()) {
+            Expense.Category expected = transaction.getDescription().equals("bus")
+                    ? Expense.Category.TRANSPORT : Expense.Category.OTHERS;
+            assertEquals(expected, ((Expense) transaction).getCategory());
+        }
+    }
+
+    @Test
+    void parseCommandWordOneLineIncome_missingDescription_returnsInvalidCommand() {
+        Command command = parser.parseCommandWord("income 100", createUiWithInputs());
+        assertTrue(command instanceof InvalidCommand);
+        assertTrue(command.execute(dummyManager, dummyUi, dummyStorage).contains("Missing description (d/)"));
+    }
+
+    @Test
+    void parseCommandWordOneLineExpense_invalidFields_returnsInvalidCommand() {
+        assertTrue(parser.parseCommandWord("expense 0 d/free", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("expense 5 d/x c/snacks", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("expense 5 d/x date/2026-02-30", createUiWithInputs())
+                instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordOneLineFilter_endBeforeStart_returnsInvalidCommand() {
+        assertTrue(parser.parseCommandWord("filter from/2026-01-01 to/2026-01-31", createUiWithInputs())
+                instanceof FilterCommand);
+        assertTrue(parser.parseCommandWord("filter from/2026-02-01 to/2026-01-31", createUiWithInputs())
+                instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordOneLine_otherCommands_returnsMatchingCommands() {
+        assertTrue(parser.parseCommandWord("list n/5 from/2026-01-01", createUiWithInputs())
+                instanceof ListCommand);
+        assertTrue(parser.parseCommandWord("list n/0", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("list page/3 size/50", createUiWithInputs()) instanceof ListCommand);
+        assertTrue(parser.parseCommandWord("list page/0", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("list size/x", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("search lunch/dinner", createUiWithInputs()) instanceof SearchCommand);
+        assertTrue(parser.parseCommandWord("setbudget 500 m/4 y/2026", createUiWithInputs())
+                instanceof SetBudgetCommand);
+        assertTrue(parser.parseCommandWord("setsavings 200 m/13", createUiWithInputs()) instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordOneLine_monthNotANumber_showsMonthRange() {
+        Command command = parser.parseCommandWord("summary m/abc y/2025", createUiWithInputs());
+
+        assertTrue(command instanceof InvalidCommand);
+        assertEquals("Invalid command: Invalid summary command: Month must be between 1 and 12.",
+                command.execute(dummyManager, createUiWithInputs(), dummyStorage));
+        assertTrue(parser.parseCommandWord("setbudget 500 m/x", createUiWithInputs()) instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordReport_variousRanges_validatesMonths() {
+        assertTrue(parser.parseCommandWord("report", createUiWithInputs()) instanceof ReportCommand);
+        assertTrue(parser.parseCommandWord("report csv n/24", createUiWithInputs()) instanceof ReportCommand);
+        assertTrue(parser.parseCommandWord("report from/2024-01 to/2025-12", createUiWithInputs())
+                instanceof ReportCommand);
+        assertTrue(parser.parseCommandWord("report from/2025-12 to/2025-01", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("report from/2025-13", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("report from/2025-01 n/3", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("report txt", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("report n/5000", createUiWithInputs()) instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordRange_balanceAndSummaryOptions_validatesRange() {
+        assertTrue(parser.parseCommandWord("balance last/90d", createUiWithInputs()) instanceof BalanceCommand);
+        assertTrue(parser.parseCommandWord("view from/2025-01-01 to/2025-03-31", createUiWithInputs())
+                instanceof BalanceCommand);
+        assertTrue(parser.parseCommandWord("summary last/6m to/2025-06-30", createUiWithInputs())
+                instanceof SummaryCommand);
+        assertTrue(parser.parseCommandWord("summary last/1y", createUiWithInputs()) instanceof SummaryCommand);
+        assertTrue(parser.parseCommandWord("summary m/4 y/2025 top/5", createUiWithInputs())
+                instanceof SummaryCommand);
+        assertTrue(parser.parseCommandWord("summary top/0", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("summary top/2000000000", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("balance last/90x", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("balance last/0d", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("balance to/2025-01-01", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("balance from/2025-01-01 last/5d", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("summary from/2025-03-01 to/2025-02-01", createUiWithInputs())
+                instanceof InvalidCommand);
+    }
+
+    @Test
+    void parseCommandWordRecurring_variousActions_validatesArguments() {
+        assertTrue(parser.parseCommandWord("recurring", createUiWithInputs()) instanceof RecurringCommand);
+        assertTrue(parser.parseCommandWord("recurring list", createUiWithInputs()) instanceof RecurringCommand);
+        assertTrue(parser.parseCommandWord("recurring expense 1200 d/Rent c/bills every/1m from/2025-01-01",
+                createUiWithInputs()) instanceof RecurringCommand);
+        assertTrue(parser.parseCommandWord("recurring income 3000 d/Salary every/2w", createUiWithInputs())
+                instanceof RecurringCommand);
+        assertTrue(parser.parseCommandWord("recurring delete 2", createUiWithInputs()) instanceof RecurringCommand);
+        assertTrue(parser.parseCommandWord("recurring expense 1200 d/Rent every/0m", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("recurring income 3000 d/Salary", createUiWithInputs())
+                instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("recurring delete x", createUiWithInputs()) instanceof InvalidCommand);
+        assertTrue(parser.parseCommandWord("recurring pause 1", createUiWithInputs()) instanceof InvalidCommand);
+    }
 }
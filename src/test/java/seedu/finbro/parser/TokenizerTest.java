@@ -0,0 +1,116 @@
+package seedu.finbro.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.finbro.logic.parser.Tokenizer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the Tokenizer class.
+ */
+class TokenizerTest {
+    private static final String ALPHABET = "ab1.2/ ,\t-dct";
+
+    @Test
+    void parseParameters_oneLineExpense_mapsPrefixesToValues() {
+        Map<String, String> parameters = Tokenizer.parseParameters("12.50  d/chicken   rice c/food t/ work,x");
+
+        assertEquals("12.50", parameters.get(""));
+        assertEquals("chicken rice", parameters.get("d"));
+        assertEquals("food", parameters.get("c"));
+        assertEquals("work,x", parameters.get("t"));
+        assertEquals(4, parameters.size());
+    }
+
+    @Test
+    void parseParameters_randomInput_matchesRegexSplitting() {
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            String input = randomString(random);
+            assertEquals(parseWithRegex(input), Tokenizer.parseParameters(input), "Input '" + input + "'");
+            assertEquals(splitTagsWithRegex(input), Tokenizer.splitTags(input, Integer.MAX_VALUE),
+                    "Input '" + input + "'");
+            assertEquals(Arrays.asList(input.split("\\s+", 2)), Arrays.asList(Tokenizer.splitFirstWord(input)),
+                    "Input '" + input + "'");
+        }
+    }
+
+    @Test
+    void isAmount_variousInputs_acceptsUpToTwoDecimals() {
+        for (String valid : new String[] {"0", "12", "12.5", "12.50", "007.01"}) {
+            assertTrue(Tokenizer.isAmount(valid), valid);
+        }
+        for (String invalid : new String[] {"", ".5", "12.", "12.345", "-1", "1e3", "1,000", "12.5 "}) {
+            assertFalse(Tokenizer.isAmount(invalid), invalid);
+        }
+        assertTrue(Tokenizer.isDigits("2026", 4));
+        assertFalse(Tokenizer.isDigits("202", 4));
+    }
+
+    @Test
+    void parseDate_variousInputs_acceptsOnlyRealDates() {
+        assertEquals(LocalDate.of(2024, 2, 29), Tokenizer.parseDate("2024-02-29"));
+        assertEquals(LocalDate.of(1, 1, 1), Tokenizer.parseDate("0001-01-01"));
+        assertNull(Tokenizer.parseDate("2025-02-29"));
+        assertNull(Tokenizer.parseDate("2025-13-01"));
+        assertNull(Tokenizer.parseDate("0000-01-01"));
+        assertNull(Tokenizer.parseDate("2025-1-01"));
+        assertNull(Tokenizer.parseDate("2025/01/01"));
+        assertNull(Tokenizer.parseDate("2025-01-01 "));
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[random.nextInt(16)];
+        for (int j = 0; j < chars.length; j++) {
+            chars[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The regular expression based parsing that the tokenizer replaced.
+     */
+    private static Map<String, String> parseWithRegex(String input) {
+        Map<String, String> parameters = new HashMap<>();
+        String[] tokens = input.trim().split("\\s+");
+        if (tokens.length > 0 && !tokens[0].isEmpty() && !tokens[0].contains("/")) {
+            parameters.put("", tokens[0]);
+        }
+        String prefix = null;
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (i == 0 && parameters.containsKey("")) {
+                continue;
+            }
+            if (token.matches("[a-zA-Z]+/.*")) {
+                if (prefix != null) {
+                    parameters.put(prefix, value.toString().trim());
+                    value = new StringBuilder();
+                }
+                prefix = token.substring(0, token.indexOf('/'));
+                value.append(token.substring(token.indexOf('/') + 1));
+            } else if (prefix != null) {
+                value.append(" ").append(token);
+            }
+        }
+        if (prefix != null) {
+            parameters.put(prefix, value.toString().trim());
+        }
+        return parameters;
+    }
+
+    private static List<String> splitTagsWithRegex(String input) {
+        return Arrays.stream(input.split("[,\\s]+")).filter(tag -> !tag.isEmpty()).toList();
+    }
+}
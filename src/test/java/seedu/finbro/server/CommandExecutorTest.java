@@ -0,0 +1,141 @@
+package seedu.finbro.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.Income;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the CommandExecutor class.
+ */
+class CommandExecutorTest {
+    private static final String INCOME_SCRIPT = "income\n100\nSalary\n\n";
+
+    @TempDir
+    Path tempDir;
+
+    private TransactionManager transactionManager;
+    private BlockingStorage storage;
+    private CommandExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        transactionManager = new TransactionManager();
+        storage = new BlockingStorage(tempDir);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storage.release.countDown();
+        executor.shutdown(1000);
+    }
+
+    @Test
+    void submit_fullQueue_rejectsScript() throws Exception {
+        executor = new CommandExecutor(transactionManager, storage, 1, 1, Duration.ofSeconds(10));
+        CompletableFuture<String> running = executor.submit(INCOME_SCRIPT);
+        assertTrue(storage.saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.submit("balance");
+
+        assertThrows(RejectedExecutionException.class, () -> executor.submit("balance"));
+
+        storage.release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).contains("New income added"));
+        assertTrue(queued.get(5, TimeUnit.SECONDS).contains("Current Balance: $100.00"));
+    }
+
+    @Test
+    void submit_queuedPastDeadline_isNotRun() throws Exception {
+        executor = new CommandExecutor(transactionManager, storage, 1, 1, Duration.ofMillis(100));
+        executor.submit(INCOME_SCRIPT);
+        assertTrue(storage.saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.submit("income\n50\nBonus\n\n");
+
+        Thread.sleep(300);
+        storage.release.countDown();
+
+        CompletionException e = assertThrows(CompletionException.class, queued::join);
+        assertTrue(e.getCause() instanceof TimeoutException);
+        assertEquals(1, transactionManager.getTransactionCount());
+    }
+
+    @Test
+    void submit_commandWaitingPastDeadline_isNotRun() throws Exception {
+        executor = new CommandExecutor(transactionManager, storage, 2, 1, Duration.ofMillis(200));
+        executor.submit(INCOME_SCRIPT);
+        assertTrue(storage.saving.await(5, TimeUnit.SECONDS));
+
+        // The worker is free, but the balance has to wait for the income command to finish
+        String output = executor.submit("balance").get(5, TimeUnit.SECONDS);
+
+        assertTrue(output.contains("Timed out waiting for other requests; 'balance'"));
+    }
+
+    @Test
+    void submit_readOnlyScripts_runConcurrently() throws Exception {
+        executor = new CommandExecutor(transactionManager, storage, 2, 2, Duration.ofSeconds(10));
+        storage.release.countDown();
+        executor.submit(INCOME_SCRIPT).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<String> first = executor.submit("balance\nlist\n\n");
+        CompletableFuture<String> second = executor.submit("balance");
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).contains("Current Balance: $100.00"));
+        assertTrue(second.get(5, TimeUnit.SECONDS).contains("Current Balance: $100.00"));
+    }
+
+    @Test
+    void submit_recurringRuleDue_addsOccurrenceBeforeCommand() throws Exception {
+        executor = new CommandExecutor(transactionManager, storage, 1, 1, Duration.ofSeconds(10));
+        storage.release.countDown();
+        transactionManager.addRecurringRule(new Income(3000, "Salary", LocalDate.now(), List.of()), "1m");
+
+        String output = executor.submit("balance").get(5, TimeUnit.SECONDS);
+        String again = executor.submit("balance").get(5, TimeUnit.SECONDS);
+
+        assertTrue(output.contains("Added 1 recurring transaction due by today."));
+        assertTrue(output.contains("Current Balance: $3,000.00"));
+        assertTrue(again.contains("Current Balance: $3,000.00"));
+        assertEquals(1, transactionManager.getTransactionCount());
+    }
+
+    /**
+     * A storage whose transaction saves wait until released.
+     */
+    private static class BlockingStorage extends Storage {
+        private final CountDownLatch saving = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingStorage(Path directory) {
+            super(directory.resolve("data.txt").toString(), directory.resolve("exports").toString());
+        }
+
+        @Override
+        public void saveTransactions(TransactionManager transactionManager) {
+            saving.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.finbro.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.TransactionManager;
+import seedu.finbro.storage.Storage;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the FinBroServer class.
+ */
+class FinBroServerTest {
+    @TempDir
+    Path tempDir;
+
+    private TransactionManager transactionManager;
+    private FinBroServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        transactionManager = new TransactionManager();
+        Storage storage = new Storage(tempDir.resolve("data.txt").toString(), tempDir.resolve("exports").toString());
+        server = new FinBroServer(transactionManager, storage, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void execute_incomeScript_addsTransaction() {
+        String output = server.execute("income\n100\nSalary\n\nbalance\n");
+
+        assertEquals(1, transactionManager.getTransactionCount());
+        assertTrue(output.contains("New income added"));
+        assertTrue(output.contains("Current Balance: $100.00"));
+    }
+
+    @Test
+    void execute_incompleteScript_addsNothing() {
+        String output = server.execute("income\n100\n");
+
+        assertEquals(0, transactionManager.getTransactionCount());
+        assertTrue(output.contains("Invalid command: Something went wrong, please try again."));
+    }
+
+    @Test
+    void execute_duplicateWithoutAnswer_reportsMissingInput() {
+        server.execute("income\n100\nSalary\n\n");
+
+        String output = server.execute("income\n100\nSalary\n\n");
+
+        assertEquals(1, transactionManager.getTransactionCount());
+        assertTrue(output.contains("The request ended before all prompts of 'income' were answered."));
+    }
+
+    @Test
+    void execute_exitCommand_isRejected() {
+        String output = server.execute("exit\n");
+
+        assertTrue(output.contains("The exit command is not available in server mode."));
+    }
+
+    @Test
+    void concurrentRequests_overHttp_allApplied() throws Exception {
+        server.start();
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + server.getPort() + FinBroServer.COMMAND_PATH);
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String script = "income\n" + (i + 1) + "\nPayment " + i + "\n\n";
+            responses.add(clients.submit(() -> client.send(HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.ofString(script)).build(),
+                    HttpResponse.BodyHandlers.ofString())));
+        }
+        for (Future<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+        }
+        clients.shutdown();
+
+        assertEquals(20, transactionManager.getTransactionCount());
+        assertEquals(210.0, transactionManager.getBalance());
+    }
+
+    @Test
+    void loadGenerator_readOnlyScript_reportsAllRequests() throws Exception {
+        server.start();
+
+        LoadGenerator.Result result = new LoadGenerator(server.getPort(), "balance").run(3, 10);
+
+        assertEquals(30, result.getRequests());
+        assertEquals(0, result.getFailures());
+        assertTrue(result.getLatencyMillis(99) >= result.getLatencyMillis(50));
+    }
+
+    @Test
+    void getRequest_isRejected() throws Exception {
+        server.start();
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + server.getPort() + FinBroServer.COMMAND_PATH);
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.finbro.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.finbro.model.Transaction;
+import seedu.finbro.model.TransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the CsvImporter class.
+ */
+class CsvImporterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void splitFields_quotedValues_keepsCommasAndQuotes() {
+        assertEquals(Arrays.asList("Expense", "2026-01-02", "5.00", "Tea, \"hot\"", "Food", "a;b"),
+                CsvImporter.splitFields("Expense,2026-01-02,5.00,\"Tea, \"\"hot\"\"\",Food,a;b"));
+        assertEquals(Arrays.asList("Income", "", ""), CsvImporter.splitFields("Income,,"));
+        assertNull(CsvImporter.splitFields("Income,2026-01-02,5.00,\"Tea"));
+    }
+
+    @Test
+    void read_rowsAcrossChunks_keepsFileOrderAndLineNumbers() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("Type,Date,Amount,Description,Category,Tags");
+        for (int i = 1; i <= 10000; i++) {
+            lines.add("Income,2026-01-01," + i + ".00,\"Row " + i + "\",,");
+        }
+        lines.add("Income,2026-01-01,-1,\"Negative\",,");
+        Path file = tempDir.resolve("large.csv");
+        Files.write(file, lines);
+
+        CsvImporter.Result result = new CsvImporter().read(file, new TransactionManager());
+
+        assertEquals(10001, result.getRows());
+        assertEquals(10000, result.getTransactions().size());
+        for (int i = 0; i < result.getTransactions().size(); i++) {
+            Transaction transaction = result.getTransactions().get(i);
+            assertEquals("Row " + (i + 1), transaction.getDescription());
+        }
+        assertEquals(List.of("Line 10002: Invalid amount '-1'"), result.getRejects());
+    }
+}
@@ -12,12 +12,19 @@ import seedu.finbro.model.TransactionManager;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -217,4 +224,212 @@ class StorageTest {
         assertTrue(csvFilePath.contains("finbro_export_" + dateStr + ".csv"));
         assertTrue(txtFilePath.contains("finbro_export_" + dateStr + ".txt"));
     }
+
+    @Test
+    void saveCompressedTransactionsWritesGzipAndLoadsBack() throws IOException {
+        storage.setCompressionEnabled(true);
+        storage.saveTransactions(transactionManager);
+
+        // GZIP streams start with the magic bytes 0x1f 0x8b
+        byte[] content = Files.readAllBytes(dataFile);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+
+        TransactionManager loadedManager = storage.loadTransactions();
+        assertEquals(2, loadedManager.getTransactionCount());
+        assertEquals(950.0, loadedManager.getBalance(), 0.001);
+    }
+
+    @Test
+    void loadCompressedFileWithCompressionDisabledDetectsFormat() throws IOException {
+        storage.setCompressionEnabled(true);
+        storage.saveTransactions(transactionManager);
+
+        // A storage without compression must still read the compressed file
+        Storage plainStorage = new Storage(dataFile.toString(), exportDir.toString());
+        assertFalse(plainStorage.isCompressionEnabled());
+        TransactionManager loadedManager = plainStorage.loadTransactions();
+        assertEquals(2, loadedManager.getTransactionCount());
+
+        // Saving again without compression writes a plain text file
+        plainStorage.saveTransactions(loadedManager);
+        assertTrue(Files.readAllLines(dataFile).get(0).startsWith("#VERSION:"));
+    }
+
+    @Test
+    void batch_defersSavesUntilItEnds() {
+        storage.beginBatch();
+        storage.saveTransactions(transactionManager);
+        transactionManager.setBudget(3, 2025, 800.0);
+        storage.saveBudgets(transactionManager);
+        assertFalse(Files.exists(dataFile));
+
+        transactionManager.addTransaction(new Income(200, "Bonus", LocalDate.of(2025, 3, 20),
+                Collections.emptyList()));
+        storage.endBatch();
+
+        assertEquals(3, storage.loadTransactions().getTransactionCount());
+        TransactionManager loadedManager = new TransactionManager();
+        storage.loadBudgets(loadedManager);
+        assertEquals(800.0, loadedManager.getBudget(3, 2025), 0.001);
+    }
+
+    @Test
+    void saveCompressedBudgetsAndLoadBack() {
+        storage.setCompressionEnabled(true);
+        transactionManager.setBudget(3, 2025, 800.0);
+        storage.saveBudgets(transactionManager);
+
+        TransactionManager loadedManager = new TransactionManager();
+        storage.loadBudgets(loadedManager);
+        assertEquals(800.0, loadedManager.getBudget(3, 2025), 0.001);
+    }
+
+    @Test
+    void savePartitionedWritesSegmentPerYearAndLoadsPastYearsLazily() throws IOException {
+        int currentYear = LocalDate.now().getYear();
+        transactionManager.addTransaction(new Income(300, "Refund",
+                LocalDate.of(currentYear, 1, 5), Collections.emptyList()));
+        storage.setPartitioningEnabled(true);
+        storage.saveTransactions(transactionManager);
+
+        assertTrue(Files.exists(dataDir.resolve("finbro-2025.txt")));
+        assertTrue(Files.exists(dataDir.resolve("finbro-" + currentYear + ".txt")));
+        assertTrue(Files.readAllLines(dataFile).get(1).startsWith("#SEGMENT:2025|"));
+
+        Storage partitionedStorage = new Storage(dataFile.toString(), exportDir.toString());
+        partitionedStorage.setPartitioningEnabled(true);
+        TransactionManager loadedManager = partitionedStorage.loadTransactions();
+        assertEquals(1, loadedManager.listLoadedTransactions().size());
+        assertTrue(loadedManager.getUnloadedPartitions().contains(2025));
+
+        // Totals come from the saved summary, listing a past month reads its segment on demand
+        assertEquals(1000.0, loadedManager.getMonthlyTotalIncome(3, 2025), 0.001);
+        assertEquals(1250.0, loadedManager.getBalance(), 0.001);
+        assertTrue(loadedManager.getUnloadedPartitions().contains(2025));
+        assertEquals(2, loadedManager.getMonthlyTransactions(3, 2025).size());
+        assertTrue(loadedManager.getUnloadedPartitions().isEmpty());
+        assertEquals(3, loadedManager.getTransactionCount());
+    }
+
+    @Test
+    void savePartitionedLeavesUnchangedSegmentsUntouched() throws IOException {
+        int currentYear = LocalDate.now().getYear();
+        storage.setPartitioningEnabled(true);
+        storage.saveTransactions(transactionManager);
+        Path archivedSegment = dataDir.resolve("finbro-2025.txt");
+        FileTime untouched = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(archivedSegment, untouched);
+
+        Storage partitionedStorage = new Storage(dataFile.toString(), exportDir.toString());
+        partitionedStorage.setPartitioningEnabled(true);
+        TransactionManager loadedManager = partitionedStorage.loadTransactions();
+        loadedManager.addTransaction(new Expense(20, "Taxi",
+                LocalDate.of(currentYear, 1, 6), Expense.Category.TRANSPORT, Collections.emptyList()));
+        partitionedStorage.saveTransactions(loadedManager);
+
+        assertEquals(untouched, Files.getLastModifiedTime(archivedSegment));
+
+        // A storage without partitioning still reads every segment through the manifest
+        TransactionManager plainManager = new Storage(dataFile.toString(), exportDir.toString()).loadTransactions();
+        assertEquals(3, plainManager.getTransactionCount());
+        assertEquals(930.0, plainManager.getBalance(), 0.001);
+    }
+
+    @Test
+    void loadPartitionedWithOutdatedSummaryLoadsAllSegments() throws IOException {
+        storage.setPartitioningEnabled(true);
+        storage.saveTransactions(transactionManager);
+
+        // A summary that does not belong to the manifest must not be trusted
+        Path summaryFile = dataDir.resolve("ledger_summary.txt");
+        List<String> lines = Files.readAllLines(summaryFile);
+        assertTrue(lines.get(1).startsWith("#DATA:"));
+        lines.set(1, "#DATA:outdated");
+        Files.write(summaryFile, lines);
+
+        Storage partitionedStorage = new Storage(dataFile.toString(), exportDir.toString());
+        partitionedStorage.setPartitioningEnabled(true);
+        TransactionManager loadedManager = partitionedStorage.loadTransactions();
+        assertTrue(loadedManager.getUnloadedPartitions().isEmpty());
+        assertEquals(2, loadedManager.listLoadedTransactions().size());
+        assertEquals(950.0, loadedManager.getBalance(), 0.001);
+    }
+
+    @Test
+    void concurrentSavesAndLoads_waitForEachOther() throws Exception {
+        storage.saveTransactions(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> loadedCounts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            executor.submit(() -> storage.saveTransactions(transactionManager));
+            loadedCounts.add(executor.submit(() -> storage.loadTransactions().getTransactionCount()));
+        }
+
+        // Without waiting, a second lock on the same file in this JVM fails and the load returns no data
+        for (Future<Integer> loadedCount : loadedCounts) {
+            assertEquals(2, loadedCount.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertFalse(Files.exists(dataDir.resolve("finbro.txt.lock")));
+    }
+
+    @Test
+    void saveAndLoadRecurringRules_rulesAndDueOccurrences_roundTrips() {
+        LocalDate start = LocalDate.now().minusMonths(2);
+        transactionManager.addRecurringRule(new Expense(1200, "Rent", start, Expense.Category.OTHERS,
+                List.of("home")), "1m");
+        transactionManager.addRecurringRule(new Income(3000, "Salary", LocalDate.now().plusDays(3),
+                Collections.emptyList()), "2w");
+        List<Transaction> added = storage.addDueRecurringTransactions(transactionManager, LocalDate.now());
+        assertEquals(3, added.size());
+
+        Storage reloaded = new Storage(dataFile.toString(), exportDir.toString());
+        TransactionManager loadedManager = reloaded.loadTransactions();
+        reloaded.loadRecurringRules(loadedManager);
+
+        assertEquals(5, loadedManager.getTransactionCount());
+        assertEquals(transactionManager.getRecurringRules().toString(), loadedManager.getRecurringRules().toString());
+        assertEquals(3, loadedManager.getRecurringRules().get(0).getOccurrences());
+        // Nothing is due again on the same day
+        assertTrue(reloaded.addDueRecurringTransactions(loadedManager, LocalDate.now()).isEmpty());
+    }
+
+    @Test
+    void addDueRecurringTransactions_rulesFileBehindLedger_takesProgressFromLedger() {
+        LocalDate start = LocalDate.now().minusMonths(2);
+        transactionManager.addRecurringRule(new Expense(1200, "Rent", start,
+                Expense.Category.OTHERS, List.of("home")), "1m");
+        storage.saveRecurringRules(transactionManager);
+        // A transaction entered by hand with the same details as an occurrence is not mistaken for it
+        transactionManager.addTransaction(new Expense(1200, "Rent", start, Expense.Category.OTHERS,
+                List.of("home")));
+        // Only the ledger is saved with the occurrences; the rules file keeps the rule before the catch-up
+        assertEquals(3, storage.addDueRecurringTransactions(transactionManager, LocalDate.now()).size());
+
+        Storage reloaded = new Storage(dataFile.toString(), exportDir.toString());
+        TransactionManager loadedManager = reloaded.loadTransactions();
+        reloaded.loadRecurringRules(loadedManager);
+        assertEquals(3, loadedManager.getRecurringRules().get(0).getOccurrences());
+
+        assertTrue(reloaded.addDueRecurringTransactions(loadedManager, LocalDate.now()).isEmpty());
+        assertEquals(6, loadedManager.getTransactionCount());
+    }
+
+    @Test
+    void loadRecurringRules_ruleRemovedAfterLedgerSave_staysRemoved() {
+        transactionManager.addRecurringRule(new Expense(1200, "Rent", LocalDate.now().minusMonths(1),
+                Expense.Category.OTHERS, List.of("home")), "1m");
+        storage.addDueRecurringTransactions(transactionManager, LocalDate.now());
+        transactionManager.removeRecurringRule(1);
+        storage.saveRecurringRules(transactionManager);
+
+        Storage reloaded = new Storage(dataFile.toString(), exportDir.toString());
+        TransactionManager loadedManager = reloaded.loadTransactions();
+        reloaded.loadRecurringRules(loadedManager);
+
+        assertTrue(loadedManager.getRecurringRules().isEmpty());
+        assertEquals(4, loadedManager.getTransactionCount());
+    }
 }
@@ -8,7 +8,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,6 +53,7 @@ class UiTest {
         ui = new Ui(new Scanner(System.in));
 
         ui.showWelcome();
+        ui.flush();
 
         String output = outContent.toString();
         assertTrue(output.contains("Welcome to FinBro"));
@@ -80,6 +83,7 @@ class UiTest {
         String testMessage = "This is a test message";
 
         ui.showMessage(testMessage);
+        ui.flush();
 
         String output = outContent.toString();
         assertTrue(output.contains(testMessage));
@@ -94,11 +98,43 @@ class UiTest {
         String errorMessage = "This is an error message";
 
         ui.showError(errorMessage);
+        ui.flush();
 
         String output = outContent.toString();
         assertTrue(output.contains("ERROR: " + errorMessage));
     }
 
+    /**
+     * Tests that output is buffered until input is read.
+     */
+    @Test
+    void readCommand_bufferedOutput_isFlushedBeforeReading() {
+        System.setIn(new ByteArrayInputStream(("list" + System.lineSeparator()).getBytes()));
+        ui = new Ui(new Scanner(System.in));
+
+        ui.showMessage("Saved");
+        assertFalse(outContent.toString().contains("Saved"));
+
+        ui.readCommand();
+        assertTrue(outContent.toString().contains("Saved" + System.lineSeparator() + Ui.LINE));
+        assertTrue(outContent.toString().endsWith("> "));
+    }
+
+    /**
+     * Tests that a quiet Ui leaves out the separator lines.
+     */
+    @Test
+    void showMessage_quiet_leavesOutSeparatorLines() {
+        ui = new Ui(new Scanner(System.in));
+        ui.setQuiet(true);
+
+        ui.showMessage("Current Balance: $0.00");
+        ui.flush();
+
+        assertFalse(outContent.toString().contains(Ui.LINE));
+        assertTrue(outContent.toString().contains("Current Balance: $0.00"));
+    }
+
     /**
      * Tests that user input is correctly read by the readCommand method.
      */
@@ -155,4 +191,20 @@ class UiTest {
         boolean result = ui.readConfirmation("Do you want to continue?");
         assertFalse(result);
     }
+
+    /**
+     * Tests that text written to a stream with its own charset keeps its non-ASCII characters.
+     */
+    @Test
+    void showMessage_utf8Stream_keepsNonAsciiCharacters() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream utf8Stream = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        ui = new Ui(new Scanner(""), utf8Stream, StandardCharsets.UTF_8);
+        ui.setQuiet(true);
+
+        ui.showMessage("caf\u00e9 \u20ac5");
+        ui.flush();
+
+        assertEquals("caf\u00e9 \u20ac5", buffer.toString(StandardCharsets.UTF_8).trim());
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.finbro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the CurrencyFormatter class.
+ */
+class CurrencyFormatterTest {
+
+    @Test
+    void format_amounts_groupsDigitsAndAbbreviates() {
+        assertEquals("$0.00", CurrencyFormatter.format(0));
+        assertEquals("$12.50", CurrencyFormatter.format(12.5));
+        assertEquals("$1,000.00", CurrencyFormatter.format(1000));
+        assertEquals("$999,999.99", CurrencyFormatter.format(999_999.99));
+        assertEquals("-$1,234.57", CurrencyFormatter.format(-1234.567));
+        assertEquals("$1.23M", CurrencyFormatter.format(1_234_567));
+        assertEquals("$2.50B", CurrencyFormatter.format(2_500_000_000.0));
+        assertEquals("$12,345,678.90", CurrencyFormatter.formatVerbose(12_345_678.9));
+    }
+
+    @Test
+    void format_halfCents_roundsLikeDecimalFormat() {
+        // 0.125 is exact in binary, so it rounds to even; 0.135 is stored slightly above and 2.675
+        // slightly below its decimal value
+        assertEquals("$0.12", CurrencyFormatter.format(0.125));
+        assertEquals("$0.14", CurrencyFormatter.format(0.135));
+        assertEquals("$2.67", CurrencyFormatter.format(2.675));
+
+        DecimalFormat standard = new DecimalFormat("$#,##0.00");
+        DecimalFormat millions = new DecimalFormat("$#,##0.00M");
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            double amount = random.nextInt(2) == 0
+                    ? random.nextInt(100_000_000) / 1000.0
+                    : random.nextDouble() * 500_000_000;
+            String expected = amount < 1_000_000 ? standard.format(amount) : millions.format(amount / 1_000_000);
+            assertEquals(expected, CurrencyFormatter.format(amount), "Amount " + amount);
+        }
+    }
+
+    @Test
+    void appendCents_extremeValues_formatsEveryDigit() {
+        assertEquals("Total: -$0.05", CurrencyFormatter.appendCents(new StringBuilder("Total: "), -5).toString());
+        assertEquals("$92,233,720,368,547,758.07",
+                CurrencyFormatter.appendCents(new StringBuilder(), Long.MAX_VALUE).toString());
+        assertEquals("-$92,233,720,368,547,758.08",
+                CurrencyFormatter.appendCents(new StringBuilder(), Long.MIN_VALUE).toString());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.finbro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the DateUtil class.
+ */
+class DateUtilTest {
+
+    @Test
+    void parseEpochDay_everyDayOfFourCenturies_matchesLocalDate() {
+        LocalDate end = LocalDate.of(2401, 1, 1);
+        for (LocalDate date = LocalDate.of(1999, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(), DateUtil.parseEpochDay(date.toString()), date.toString());
+        }
+        assertEquals(LocalDate.of(1, 1, 1).toEpochDay(), DateUtil.parseEpochDay("0001-01-01"));
+        assertEquals(LocalDate.of(1900, 3, 1).toEpochDay(), DateUtil.parseEpochDay("1900-03-01"));
+    }
+
+    @Test
+    void parseEpochDay_invalidDates_returnsInvalid() {
+        for (String invalid : new String[] {"", "2025-02-29", "1900-02-29", "2025-04-31", "2025-00-10",
+            "2025-13-01", "0000-01-01", "2025-1-01", "2025/01/01", "2025-01-01 ", "2025-0a-01"}) {
+            assertEquals(DateUtil.INVALID_EPOCH_DAY, DateUtil.parseEpochDay(invalid), invalid);
+        }
+        assertThrows(DateTimeParseException.class, () -> DateUtil.parseIsoDate("2025-02-30"));
+        assertEquals(LocalDate.of(2024, 2, 29), DateUtil.parseIsoDate("2024-02-29"));
+    }
+
+    @Test
+    void isValidDate_variousDates_checksFormatAndRange() {
+        assertTrue(DateUtil.isValidDate("2025-04-01"));
+        assertFalse(DateUtil.isValidDate(null));
+        assertFalse(DateUtil.isValidDate("2025-02-30"));
+        assertFalse(DateUtil.isValidDate(LocalDate.now().plusYears(101).toString()));
+        assertNull(DateUtil.parseDate("01-04-2025"));
+        assertEquals("Date format should be YYYY-MM-DD.", DateUtil.getValidationErrorMessage("2025-4-1"));
+        assertEquals("Month must be between 01 and 12.", DateUtil.getValidationErrorMessage("2025-13-01"));
+        assertEquals("Invalid day for the specified month and year.",
+                DateUtil.getValidationErrorMessage("2025-02-29"));
+    }
+
+    @Test
+    void yearMonthKey_roundTrip_keepsYearAndMonth() {
+        int previous = DateUtil.yearMonthKey(1999, 12);
+        for (int year = 2000; year <= 2030; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int key = DateUtil.yearMonthKey(year, month);
+                assertEquals(previous + 1, key);
+                assertEquals(year, DateUtil.getYear(key));
+                assertEquals(month, DateUtil.getMonth(key));
+                assertEquals(key, DateUtil.parseYearMonthKey(DateUtil.formatYearMonthKey(key)));
+                previous = key;
+            }
+        }
+        assertEquals(DateUtil.yearMonthKey(LocalDate.of(2025, 4, 30)), DateUtil.parseYearMonthKey("2025-04"));
+        assertEquals("2025-4", DateUtil.formatYearMonthKey(DateUtil.yearMonthKey(2025, 4)));
+    }
+
+    @Test
+    void parseYearMonthKey_invalidMonths_returnsInvalid() {
+        for (String invalid : new String[] {"", "2025", "2025-", "-4", "2025-13", "2025-0", "2025-123",
+            "20250-1", "2025-4-1", "2025-a"}) {
+            assertEquals(DateUtil.INVALID_YEAR_MONTH_KEY, DateUtil.parseYearMonthKey(invalid), invalid);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.finbro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the TopK class.
+ */
+class TopKTest {
+
+    @Test
+    void select_randomNumbers_matchesSortedPrefix() {
+        Random random = new Random(9);
+        for (int i = 0; i < 200; i++) {
+            List<Integer> numbers = new ArrayList<>();
+            int size = random.nextInt(100);
+            for (int j = 0; j < size; j++) {
+                numbers.add(random.nextInt(1000));
+            }
+            int k = random.nextInt(12);
+
+            List<Integer> expected = numbers.stream().sorted(Comparator.reverseOrder()).limit(k)
+                    .collect(Collectors.toList());
+            assertEquals(expected, TopK.select(numbers, k, Comparator.naturalOrder()));
+        }
+    }
+
+    @Test
+    void selectByValue_equalValues_ordersByKey() {
+        Map<String, Double> amounts = new HashMap<>();
+        amounts.put("rent", 900.0);
+        amounts.put("food", 50.0);
+        amounts.put("books", 50.0);
+        amounts.put("gym", 20.0);
+
+        List<Map.Entry<String, Double>> top = TopK.selectByValue(amounts, 3);
+
+        assertEquals(List.of("rent", "books", "food"),
+                top.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertTrue(TopK.selectByValue(amounts, 0).isEmpty());
+        assertEquals(4, TopK.selectByValue(amounts, 10).size());
+    }
+
+    @Test
+    void select_hugeK_returnsAllItemsWithoutPreallocating() {
+        List<Integer> numbers = List.of(3, 1, 2);
+
+        assertEquals(List.of(3, 2, 1), TopK.select(numbers, Integer.MAX_VALUE, Comparator.naturalOrder()));
+        assertEquals(List.of(3, 2, 1),
+                TopK.select(numbers::iterator, Integer.MAX_VALUE, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void selectByAbsoluteValue_gainsAndLosses_ordersByMagnitude() {
+        Map<String, Double> net = new HashMap<>();
+        net.put("salary", 3000.0);
+        net.put("rent", -1200.0);
+        net.put("food", -50.0);
+        net.put("gift", 50.0);
+        net.put("bus", -5.0);
+
+        List<Map.Entry<String, Double>> top = TopK.selectByAbsoluteValue(net, 4);
+
+        assertEquals(List.of("salary", "rent", "food", "gift"),
+                top.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    }
+}